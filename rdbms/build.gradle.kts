@@ -24,6 +24,7 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
+import io.spine.dependency.lib.Caffeine
 import io.spine.dependency.lib.Grpc
 import io.spine.dependency.lib.Slf4J
 import io.spine.dependency.local.CoreJvm
@@ -47,6 +48,7 @@ dependencies {
         exclude(group = "com.google.guava")
     }
     implementation(Hikari.lib)
+    implementation(Caffeine.lib)
 
     testImplementation(CoreJvm.serverTestLib)
 
@@ -26,6 +26,8 @@
 
 package io.spine.server.storage.jdbc;
 
+import com.google.common.collect.ImmutableMap;
+import io.spine.server.storage.jdbc.engine.PredefinedEngine;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import javax.sql.DataSource;
@@ -33,6 +35,8 @@ import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -69,6 +73,8 @@ public final class DataSourceConfig {
     private final @Nullable String connectionTestQuery;
     private final @Nullable Integer maxPoolSize;
     private final @Nullable String poolName;
+    private final ImmutableMap<String, String> dataSourceProperties;
+    private final @Nullable Boolean performanceProfile;
 
     private DataSourceConfig(Builder builder) {
         this.dataSourceClassName = builder.getDataSourceClassName();
@@ -83,6 +89,8 @@ public final class DataSourceConfig {
         this.connectionTestQuery = builder.getConnectionTestQuery();
         this.maxPoolSize = builder.getMaxPoolSize();
         this.poolName = builder.getPoolName();
+        this.dataSourceProperties = ImmutableMap.copyOf(builder.getDataSourceProperties());
+        this.performanceProfile = builder.getPerformanceProfile();
     }
 
     /**
@@ -171,6 +179,39 @@ public final class DataSourceConfig {
         return poolName;
     }
 
+    /**
+     * See {@link Builder#addDataSourceProperty(String, String)}.
+     */
+    public ImmutableMap<String, String> getDataSourceProperties() {
+        return dataSourceProperties;
+    }
+
+    /**
+     * See {@link Builder#setPerformanceProfile(Boolean)}.
+     */
+    public @Nullable Boolean getPerformanceProfile() {
+        return performanceProfile;
+    }
+
+    /**
+     * Returns the properties to set for the data source or the driver.
+     *
+     * <p>These are the {@linkplain PredefinedEngine#performanceProperties() performance
+     * properties} of the engine detected from this configuration, unless
+     * the {@linkplain Builder#setPerformanceProfile(Boolean) profile} is turned off,
+     * overridden by the {@linkplain Builder#addDataSourceProperty(String, String) properties}
+     * set explicitly.
+     */
+    public ImmutableMap<String, String> effectiveDataSourceProperties() {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (performanceProfile == null || performanceProfile) {
+            var engine = PredefinedEngine.from(this);
+            result.putAll(engine.performanceProperties());
+        }
+        result.putAll(dataSourceProperties);
+        return ImmutableMap.copyOf(result);
+    }
+
     /**
      * The builder for {@link DataSourceConfig}.
      */
@@ -194,6 +235,8 @@ public final class DataSourceConfig {
         private @Nullable Long maxLifetime;
         private @Nullable Integer maxPoolSize;
         private @Nullable String poolName;
+        private final Map<String, String> dataSourceProperties = new LinkedHashMap<>();
+        private @Nullable Boolean performanceProfile;
 
         /**
          * Builds a config.
@@ -542,5 +585,64 @@ public final class DataSourceConfig {
             this.poolName = poolName;
             return this;
         }
+
+        /**
+         * See {@link #addDataSourceProperty(String, String)}.
+         */
+        public Map<String, String> getDataSourceProperties() {
+            return dataSourceProperties;
+        }
+
+        /**
+         * Adds a property of the {@link DataSource} or the {@link Driver}.
+         *
+         * <p>For {@link DataSource}-based configuration, the property is set via the setter
+         * of the data source class. Otherwise, it is passed to the driver along with
+         * the {@code jdbcUrl}.
+         *
+         * <p>Use this method to tune the driver, e.g. to set the size of the prepared
+         * statement cache. The properties set this way override the ones of
+         * the {@linkplain #setPerformanceProfile(Boolean) performance profile}.
+         *
+         * <p>Default: none
+         *
+         * @param name
+         *         the name of the property
+         * @param value
+         *         the value of the property
+         */
+        public Builder addDataSourceProperty(String name, String value) {
+            checkNotNull(name, "name");
+            checkNotNull(value, "value");
+            dataSourceProperties.put(name, value);
+            return this;
+        }
+
+        /**
+         * See {@link #setPerformanceProfile(Boolean)}.
+         */
+        public @Nullable Boolean getPerformanceProfile() {
+            return performanceProfile;
+        }
+
+        /**
+         * Sets whether the driver properties of the engine-specific performance profile
+         * are applied.
+         *
+         * <p>The engine is detected from the {@code jdbcUrl} or the {@code dataSourceClassName}.
+         * For MySQL, the profile enables the prepared statement cache and rewriting
+         * of the batched statements. For PostgreSQL, it enables rewriting of the batched
+         * inserts. Otherwise, the profile is empty.
+         *
+         * <p>Default: {@code true}
+         *
+         * @param performanceProfile
+         *         whether to apply the profile
+         * @see PredefinedEngine#performanceProperties()
+         */
+        public Builder setPerformanceProfile(Boolean performanceProfile) {
+            this.performanceProfile = performanceProfile;
+            return this;
+        }
     }
 }
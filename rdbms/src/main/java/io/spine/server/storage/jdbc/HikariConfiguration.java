@@ -59,10 +59,16 @@ final class HikariConfiguration {
         connectionTestQuery(config, result);
         maxPoolSize(config, result);
         poolName(config, result);
+        dataSourceProperties(config, result);
 
         return result;
     }
 
+    private static void dataSourceProperties(DataSourceConfig config, HikariConfig result) {
+        var properties = config.effectiveDataSourceProperties();
+        properties.forEach(result::addDataSourceProperty);
+    }
+
     private static void poolName(DataSourceConfig config, HikariConfig result) {
         var poolName = config.getPoolName();
         if (poolName != null) {
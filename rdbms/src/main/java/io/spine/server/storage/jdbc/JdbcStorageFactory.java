@@ -43,12 +43,22 @@ import io.spine.server.storage.jdbc.config.CreateOperationFactory;
 import io.spine.server.storage.jdbc.config.TableSpecs;
 import io.spine.server.storage.jdbc.delivery.JdbcSessionStorage;
 import io.spine.server.storage.jdbc.operation.OperationFactory;
+import io.spine.server.storage.jdbc.operation.WriteStrategy;
 import io.spine.server.storage.jdbc.record.JdbcRecordStorage;
 import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import io.spine.server.storage.jdbc.record.TableIndex;
+import io.spine.server.storage.jdbc.record.cache.RecordCacheConfig;
+import io.spine.server.storage.jdbc.record.column.IdEncoding;
+import io.spine.server.storage.jdbc.record.compression.Compressor;
+import io.spine.server.storage.jdbc.record.compression.DeflateCompressor;
 import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Optional;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -59,11 +69,37 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Experimental
 public class JdbcStorageFactory implements StorageFactory {
 
+    /**
+     * The default maximum number of records or IDs passed to a single SQL statement
+     * by the multi-record operations.
+     *
+     * @see Builder#setChunkSize(int)
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * The default maximum number of records or IDs read by a single SQL statement,
+     * when all the records or IDs of a table are read.
+     *
+     * @see Builder#setPageSize(int)
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1_000;
+
     private final DataSourceWrapper dataSource;
     private final JdbcColumnMapping columnMapping;
     private final TypeMapping typeMapping;
     private final OperationFactory operations;
     private final TableSpecs tableSpecs;
+    private final int chunkSize;
+    private final int fetchSize;
+    private final int pageSize;
+    private final boolean streamingReads;
+    private final WriteStrategy writeStrategy;
+    private final @Nullable Duration readCoalescingWindow;
+    private final int readBatchSize;
+    private final @Nullable Duration groupCommitWait;
+    private final int writeBatchSize;
+    private final boolean queryStatistics;
 
     private JdbcStorageFactory(Builder builder) {
         this.dataSource = checkNotNull(builder.dataSource);
@@ -71,6 +107,16 @@ public class JdbcStorageFactory implements StorageFactory {
         this.typeMapping = checkNotNull(builder.typeMapping);
         this.operations = builder.createOpFactory.apply(dataSource, typeMapping);
         this.tableSpecs = builder.tableSpecs.build();
+        this.chunkSize = builder.chunkSize;
+        this.fetchSize = builder.fetchSize;
+        this.pageSize = builder.pageSize;
+        this.streamingReads = builder.streamingReads;
+        this.writeStrategy = builder.writeStrategy;
+        this.readCoalescingWindow = builder.readCoalescingWindow;
+        this.readBatchSize = builder.readBatchSize;
+        this.groupCommitWait = builder.groupCommitWait;
+        this.writeBatchSize = builder.writeBatchSize;
+        this.queryStatistics = builder.queryStatistics;
     }
 
     /**
@@ -161,6 +207,90 @@ public class JdbcStorageFactory implements StorageFactory {
         return operations;
     }
 
+    /**
+     * Returns the maximum number of records or IDs passed to a single SQL statement
+     * by the multi-record operations.
+     */
+    public final int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the number of rows fetched from the database at once by the multi-record reads.
+     *
+     * <p>The value of {@code 0} means the default of the JDBC driver is used.
+     */
+    public final int fetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Returns the maximum number of records or IDs read by a single SQL statement,
+     * when all the records or IDs of a table are read.
+     */
+    public final int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Tells whether the multi-record reads return the records lazily,
+     * as they are fetched from the database.
+     */
+    public final boolean streamsReads() {
+        return streamingReads;
+    }
+
+    /**
+     * Tells whether the statistics of the queries are collected per table.
+     *
+     * @see Builder#enableQueryStatistics()
+     */
+    public final boolean collectsQueryStatistics() {
+        return queryStatistics;
+    }
+
+    /**
+     * Returns the window, during which the concurrent reads of single records
+     * are coalesced into a single query, or empty {@code Optional}
+     * if the reads are not coalesced.
+     *
+     * @see Builder#enableReadCoalescing(Duration, int)
+     */
+    public final Optional<Duration> readCoalescingWindow() {
+        return Optional.ofNullable(readCoalescingWindow);
+    }
+
+    /**
+     * Returns the maximum number of the single-record reads coalesced into a single query.
+     *
+     * <p>The value is only meaningful if the {@linkplain #readCoalescingWindow() coalescing}
+     * is enabled.
+     */
+    public final int readBatchSize() {
+        return readBatchSize;
+    }
+
+    /**
+     * Returns the maximum time, during which the concurrent writes of single records
+     * are grouped into a single transaction, or empty {@code Optional}
+     * if the writes are not grouped.
+     *
+     * @see Builder#enableGroupCommit(Duration, int)
+     */
+    public final Optional<Duration> groupCommitWait() {
+        return Optional.ofNullable(groupCommitWait);
+    }
+
+    /**
+     * Returns the maximum number of the single-record writes grouped into a single transaction.
+     *
+     * <p>The value is only meaningful if the {@linkplain #groupCommitWait() group commit}
+     * is enabled.
+     */
+    public final int writeBatchSize() {
+        return writeBatchSize;
+    }
+
     /**
      * Returns the column mapping set for this factory.
      */
@@ -180,7 +310,10 @@ public class JdbcStorageFactory implements StorageFactory {
      * Returns the DB table specification for the passed record specification.
      *
      * <p>Takes into account the {@linkplain Builder#setCustomMapping(Class, JdbcColumnMapping)
-     * custom mapping} and the {@linkplain Builder#setTableName(Class, String) custom table name}
+     * custom mapping}, the {@linkplain Builder#setTableName(Class, String) custom table name},
+     * the {@linkplain Builder#setWriteStrategy(Class, WriteStrategy) write strategy},
+     * the {@linkplain Builder#setCompressor(Class, Compressor) compressor},
+     * and the {@linkplain Builder#setIdEncoding(Class, IdEncoding) ID encoding}
      * set for the records of target type.
      *
      * @param spec
@@ -192,7 +325,7 @@ public class JdbcStorageFactory implements StorageFactory {
      * @return a new instance of table specification
      */
     public <I, R extends Message> JdbcTableSpec<I, R> tableSpecFor(RecordSpec<I, R> spec) {
-        var tableSpec = tableSpecs.specFor(spec, columnMapping);
+        var tableSpec = tableSpecs.specFor(spec, columnMapping, writeStrategy);
         return tableSpec;
     }
 
@@ -213,6 +346,16 @@ public class JdbcStorageFactory implements StorageFactory {
         private TypeMapping typeMapping;
         private final TableSpecs.Builder tableSpecs = TableSpecs.newBuilder();
         private CreateOperationFactory createOpFactory;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int fetchSize = 0;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+        private boolean streamingReads = false;
+        private WriteStrategy writeStrategy = WriteStrategy.DEFAULT;
+        private @Nullable Duration readCoalescingWindow;
+        private int readBatchSize = 0;
+        private @Nullable Duration groupCommitWait;
+        private int writeBatchSize = 0;
+        private boolean queryStatistics = false;
 
         /**
          * Prevents this builder from a direct instantiation.
@@ -338,6 +481,410 @@ public class JdbcStorageFactory implements StorageFactory {
             return this;
         }
 
+        /**
+         * Sets the maximum number of records or IDs passed to a single SQL statement
+         * by the multi-record operations, such as bulk writes, reads and deletions
+         * by several IDs.
+         *
+         * <p>Larger inputs are split into chunks of this size, each executed as a separate
+         * statement or batch. Depending on the number of the table columns, the chunks may be
+         * made smaller, to fit into the bind parameter limits of the JDBC drivers.
+         *
+         * <p>If not set, {@link #DEFAULT_CHUNK_SIZE} is used.
+         *
+         * @param chunkSize
+         *         the positive maximum number of records per statement
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setChunkSize(int chunkSize) {
+            checkArgument(chunkSize > 0,
+                          "The chunk size must be positive, but was %s.", chunkSize);
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows fetched from the database at once
+         * by the multi-record reads.
+         *
+         * <p>The value is passed to the JDBC driver as
+         * a {@linkplain java.sql.Statement#setFetchSize(int) hint}. If not set,
+         * or set to {@code 0}, the default of the driver is used.
+         *
+         * <p>For {@linkplain #enableStreamingReads() streaming reads} on PostgreSQL,
+         * the fetch size must be positive, as otherwise the driver loads all the rows at once.
+         *
+         * @param fetchSize
+         *         the non-negative number of rows
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setFetchSize(int fetchSize) {
+            checkArgument(fetchSize >= 0,
+                          "The fetch size must not be negative, but was %s.", fetchSize);
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of records or IDs read by a single SQL statement,
+         * when all the records or IDs of a table are read.
+         *
+         * <p>Reading the index of a table, or reading its records by a query, which neither
+         * filters, nor sorts, nor limits them, is split into pages. Each page is read by
+         * a separate statement of the form {@code WHERE ID > :last ORDER BY ID LIMIT :pageSize},
+         * on a connection held for the time of reading the page only.
+         *
+         * <p>If set to {@code 0}, the records or IDs are read by a single statement. It may
+         * be combined with {@linkplain #enableStreamingReads() streaming reads}, to read
+         * a consistent snapshot of a table on a single connection.
+         *
+         * <p>If not set, {@link #DEFAULT_PAGE_SIZE} is used.
+         *
+         * @param pageSize
+         *         the non-negative maximum number of records per statement
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setPageSize(int pageSize) {
+            checkArgument(pageSize >= 0,
+                          "The page size must not be negative, but was %s.", pageSize);
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Makes the multi-record reads return the records lazily,
+         * as they are fetched from the database.
+         *
+         * <p>By default, all the records matching a query are read into memory before
+         * the first of them is returned. With streaming reads, only
+         * the {@linkplain #setFetchSize(int) fetched} rows are held in memory, and the first
+         * record is available as soon as the first rows arrive. This applies to reading
+         * the records by a query or by several IDs, and to reading the index of a table.
+         * The reads of all records or IDs of a table, which are {@linkplain #setPageSize(int)
+         * split into pages}, are not affected.
+         *
+         * <p>A streaming read holds a database connection until the returned iterator is
+         * exhausted. Callers which stop iterating earlier should close the iterator,
+         * if it is {@link java.io.Closeable Closeable}. Otherwise, the connection is released
+         * once the iterator is garbage-collected.
+         *
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder enableStreamingReads() {
+            this.streamingReads = true;
+            return this;
+        }
+
+        /**
+         * Enables the statistics of the queries, collected per table.
+         *
+         * <p>The queries, which read the records by the {@link io.spine.query.RecordQuery
+         * RecordQuery}, are grouped by their {@linkplain
+         * io.spine.server.storage.jdbc.record.stats.QueryShape shapes}, i.e. the columns
+         * they filter and sort by, and the operators they use. The number of the queries
+         * and their latency percentiles are tracked for each shape. The queries, which
+         * select the records by their IDs only, are not tracked. The latency of a query
+         * is recorded once its records are read till the end.
+         *
+         * <p>The statistics are exposed by
+         * {@link io.spine.server.storage.jdbc.record.JdbcRecordStorage#queryStatistics()},
+         * and are used by the {@link io.spine.server.storage.jdbc.record.stats.IndexAdvisor
+         * IndexAdvisor} to suggest the indexes.
+         *
+         * <p>By default, the statistics are not collected.
+         *
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder enableQueryStatistics() {
+            this.queryStatistics = true;
+            return this;
+        }
+
+        /**
+         * Enables the coalescing of the concurrent reads of single records by their IDs.
+         *
+         * <p>When enabled, the reads of single records from the same table, which are requested
+         * by several threads within the passed window, are served by a single {@code SELECT}
+         * of all the requested IDs. The query is executed once the window elapses, or once
+         * the passed number of distinct IDs is collected, whichever happens first.
+         *
+         * <p>Each single-record read then waits for up to the window before it is executed.
+         * It is a trade of the latency of a read for fewer round trips to the database, which
+         * only pays off when many threads read the same tables at once. The reads of several
+         * records, and the reads by other queries, are not affected.
+         *
+         * <p>By default, the reads are not coalesced.
+         *
+         * @param window
+         *         the maximum time for which the reads are collected into a single query;
+         *         must be positive
+         * @param maxBatchSize
+         *         the maximum number of distinct IDs read by a single query; must be positive
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder enableReadCoalescing(Duration window, int maxBatchSize) {
+            checkNotNull(window);
+            checkArgument(!window.isNegative() && !window.isZero(),
+                          "The read coalescing window must be positive.");
+            checkArgument(maxBatchSize > 0, "The maximum batch size must be positive.");
+            this.readCoalescingWindow = window;
+            this.readBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Enables the group commit of the concurrent writes of single records.
+         *
+         * <p>When enabled, the writes of single records to the same table, which are requested
+         * by several threads within the passed maximum wait, are executed as a single
+         * {@linkplain io.spine.server.storage.jdbc.operation.WriteBulk bulk write}, within
+         * a single transaction. The transaction is executed once the maximum wait elapses,
+         * or once the passed number of records is collected, whichever happens first.
+         *
+         * <p>Each write returns only after the transaction is committed. If the transaction
+         * fails, all the writes grouped into it fail.
+         *
+         * <p>Each single-record write then waits for up to the maximum wait before it
+         * is executed. It is a trade of the latency of a write for fewer commits, which
+         * only pays off when many threads write to the same tables at once. The bulk writes
+         * are not affected.
+         *
+         * <p>By default, the writes are not grouped.
+         *
+         * @param maxWait
+         *         the maximum time for which the writes are collected into a single
+         *         transaction; must be positive
+         * @param maxBatchSize
+         *         the maximum number of records written by a single transaction;
+         *         must be positive
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder enableGroupCommit(Duration maxWait, int maxBatchSize) {
+            checkNotNull(maxWait);
+            checkArgument(!maxWait.isNegative() && !maxWait.isZero(),
+                          "The maximum wait of a group commit must be positive.");
+            checkArgument(maxBatchSize > 0, "The maximum batch size must be positive.");
+            this.groupCommitWait = maxWait;
+            this.writeBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the strategy of writing the records, which is used for all tables,
+         * unless {@linkplain #setWriteStrategy(Class, WriteStrategy) overridden} for some
+         * of them.
+         *
+         * <p>If not set, {@link WriteStrategy#DEFAULT} is used.
+         *
+         * @param strategy
+         *         the write strategy
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public Builder setWriteStrategy(WriteStrategy strategy) {
+            this.writeStrategy = checkNotNull(strategy);
+            return this;
+        }
+
+        /**
+         * Sets the strategy of writing the records to the table, in which the records
+         * of the specified type are stored.
+         *
+         * <p>This strategy overrides the {@linkplain #setWriteStrategy(WriteStrategy)
+         * factory-wide} one for this particular table.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param strategy
+         *         the write strategy
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder setWriteStrategy(Class<R> recordType, WriteStrategy strategy) {
+            tableSpecs.setWriteStrategy(recordType, strategy);
+            return this;
+        }
+
+        /**
+         * Declares the records of the specified type append-only.
+         *
+         * <p>Such records are written once and never updated, as events are.
+         * They are inserted with no preliminary lookup, which saves a round trip
+         * to the database per write. A rewrite of an already stored record fails
+         * with a unique constraint violation.
+         *
+         * <p>Do not declare the records append-only, if they are ever rewritten. E.g. inbox
+         * messages are not, as the inbox rewrites them when their status changes.
+         *
+         * <p>This is a shortcut for setting the {@link WriteStrategy#APPEND_ONLY APPEND_ONLY}
+         * {@linkplain #setWriteStrategy(Class, WriteStrategy) write strategy} for the table.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message> Builder setAppendOnly(Class<R> recordType) {
+            return setWriteStrategy(recordType, WriteStrategy.APPEND_ONLY);
+        }
+
+        /**
+         * Sets the compressor of the serialized records of the specified type.
+         *
+         * <p>Large records, such as aggregate snapshots or projections with long lists,
+         * take less space on disk and in transit when compressed. The values which
+         * the compressor does not make shorter are stored as-is.
+         *
+         * <p>Compression may be enabled for a table which already has some records.
+         * The records stored previously remain readable, and are compressed
+         * once they are written again.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param compressor
+         *         the compressor to use, e.g. {@link DeflateCompressor}
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder setCompressor(Class<R> recordType, Compressor compressor) {
+            tableSpecs.setCompressor(recordType, compressor);
+            return this;
+        }
+
+        /**
+         * Turns on the cache of the records of the specified type, read by their IDs.
+         *
+         * <p>The records read by a query, which selects them by their IDs only, are then
+         * looked up in the cache first. The ones missing in the cache are read from
+         * the database, and cached.
+         *
+         * <p>The cache is kept by the storage of the records. The records written or deleted
+         * via the storage are updated in the cache or removed from it. If the records
+         * are also modified bypassing the storage, e.g. by another process, the time since
+         * their caching should be {@linkplain RecordCacheConfig.Builder#setExpireAfterWrite
+         * limited}.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param config
+         *         the cache settings, e.g. {@link RecordCacheConfig#defaults()}
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         * @see io.spine.server.storage.jdbc.record.JdbcRecordStorage#cacheStats()
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder setCache(Class<R> recordType, RecordCacheConfig config) {
+            tableSpecs.setCache(recordType, config);
+            return this;
+        }
+
+        /**
+         * Sets the way the message identifiers of the records of the specified type
+         * are stored.
+         *
+         * <p>By default, the identifiers are stored as their compact JSON. The binary encoding
+         * makes the stored identifiers shorter, and faster to write and to look up:
+         *
+         * <pre>{@code
+         * builder.setIdEncoding(ProjectView.class, IdEncoding.BINARY);
+         * }</pre>
+         *
+         * <p>The encoding changes the type of the ID column. The tables, which already store
+         * the records, should be migrated by the library users.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param encoding
+         *         the encoding of the identifiers
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder setIdEncoding(Class<R> recordType, IdEncoding encoding) {
+            tableSpecs.setIdEncoding(recordType, encoding);
+            return this;
+        }
+
+        /**
+         * Adds a secondary index of the table, in which the records of the specified type
+         * are stored.
+         *
+         * <p>The indexes speed up the queries, which filter or sort the records by the values
+         * of their columns. A composite index may be declared over several columns:
+         *
+         * <pre>{@code
+         * builder.addIndex(ProjectView.class, TableIndex.on(ProjectView.Column.status(),
+         *                                                   ProjectView.Column.dueDate()));
+         * }</pre>
+         *
+         * <p>The indexes are created along with the table, if they do not exist yet.
+         * The tables of the entity states are indexed by their {@code archived} and
+         * {@code deleted} columns by default.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param index
+         *         the index to add
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder addIndex(Class<R> recordType, TableIndex index) {
+            tableSpecs.addIndex(recordType, index);
+            return this;
+        }
+
+        /**
+         * Declares that the column of the table, in which the records of the specified type
+         * are stored, holds the value of the record field of the same name, as is.
+         *
+         * <p>The queries with a field mask, all the fields of which are mirrored by
+         * the columns, then read the fields from these columns, with no need to read
+         * and parse the serialized records:
+         *
+         * <pre>{@code
+         * builder.addMirroredColumn(ProjectView.class, "status");
+         * }</pre>
+         *
+         * <p>Only declare the columns, the values of which are the field values as is,
+         * rather than derived from them. By default, no column mirrors a field.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param column
+         *         the name of the column, and of the mirrored field
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder addMirroredColumn(Class<R> recordType, String column) {
+            tableSpecs.addMirroredColumn(recordType, column);
+            return this;
+        }
+
         /**
          * Overrides the factory of DB operations to use with the storage factory.
          *
@@ -32,6 +32,7 @@ import io.spine.type.TypeName;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.server.storage.jdbc.Type.BYTE_ARRAY;
+import static io.spine.server.storage.jdbc.Type.BYTE_ARRAY_255;
 import static io.spine.server.storage.jdbc.Type.DOUBLE;
 import static io.spine.server.storage.jdbc.Type.FLOAT;
 import static io.spine.server.storage.jdbc.Type.STRING;
@@ -59,6 +60,7 @@ public enum PredefinedMapping implements TypeMapping {
     // map to the single-/double-precision types matching Java `float`/`double`.
     POSTGRESQL_10_1("PostgreSQL", 10, 1,
                     mappingBuilder().add(BYTE_ARRAY, "BYTEA")
+                                    .add(BYTE_ARRAY_255, "BYTEA")
                                     .add(FLOAT, PostgreSqlTypeNames.REAL)
                                     .add(DOUBLE, PostgreSqlTypeNames.DOUBLE_PRECISION)),
 
@@ -51,6 +51,10 @@ public final class Sql {
         @SuppressWarnings("DuplicateStringLiteralInspection" /*  Doubles in tests as `expected`. */)
         CREATE_TABLE("CREATE TABLE"),
         CREATE_IF_MISSING("CREATE TABLE IF NOT EXISTS"),
+        CREATE_INDEX("CREATE INDEX"),
+        CREATE_INDEX_IF_MISSING("CREATE INDEX IF NOT EXISTS"),
+        CREATE_INDEX_CONCURRENTLY_IF_MISSING("CREATE INDEX CONCURRENTLY IF NOT EXISTS"),
+        DROP_INDEX_CONCURRENTLY_IF_EXISTS("DROP INDEX CONCURRENTLY IF EXISTS"),
         DROP_TABLE("DROP TABLE"),
         PRIMARY_KEY("PRIMARY KEY"),
         DEFAULT,
@@ -59,6 +63,12 @@ public final class Sql {
         SELECT,
         UPDATE,
         DELETE_FROM("DELETE FROM"),
+        MERGE_INTO("MERGE INTO"),
+        USING,
+        AS,
+        ON,
+        WHEN_MATCHED_THEN_UPDATE("WHEN MATCHED THEN UPDATE"),
+        WHEN_NOT_MATCHED_THEN_INSERT("WHEN NOT MATCHED THEN INSERT"),
 
         ALL_ATTRIBUTES("*"),
         FROM,
@@ -85,7 +95,9 @@ public final class Sql {
         ORDER_BY("ORDER BY"),
         HAVING,
         ASC,
-        DESC;
+        DESC,
+
+        EXPLAIN;
 
         private final String token;
 
@@ -57,6 +57,13 @@ public class TableColumn {
         return name;
     }
 
+    /**
+     * Returns the Java type of the column values.
+     */
+    public Class<?> javaType() {
+        return type;
+    }
+
     /**
      * Returns the {@linkplain Type SQL type} of the column,
      * or {@code null} if the type is unknown at compile-time.
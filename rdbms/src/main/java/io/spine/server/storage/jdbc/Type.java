@@ -40,6 +40,14 @@ public enum Type {
      */
     BYTE_ARRAY,
 
+    /**
+     * The type representing a byte array, length of which doesn't exceed 255 bytes.
+     *
+     * <p>Unlike {@link #BYTE_ARRAY}, the values of this type may be compared and indexed,
+     * and therefore may serve as a primary key.
+     */
+    BYTE_ARRAY_255,
+
     /**
      * The type representing an {@code int} value.
      */
@@ -80,5 +88,10 @@ public enum Type {
     /**
      * The type representing a {@code boolean} value.
      */
-    BOOLEAN
+    BOOLEAN,
+
+    /**
+     * The type representing a {@link java.util.UUID UUID} value.
+     */
+    UUID
 }
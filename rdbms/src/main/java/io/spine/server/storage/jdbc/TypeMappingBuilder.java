@@ -38,6 +38,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static io.spine.server.storage.jdbc.Type.BOOLEAN;
 import static io.spine.server.storage.jdbc.Type.BYTE_ARRAY;
+import static io.spine.server.storage.jdbc.Type.BYTE_ARRAY_255;
 import static io.spine.server.storage.jdbc.Type.DOUBLE;
 import static io.spine.server.storage.jdbc.Type.FLOAT;
 import static io.spine.server.storage.jdbc.Type.INT;
@@ -45,6 +46,7 @@ import static io.spine.server.storage.jdbc.Type.LONG;
 import static io.spine.server.storage.jdbc.Type.STRING;
 import static io.spine.server.storage.jdbc.Type.STRING_255;
 import static io.spine.server.storage.jdbc.Type.STRING_512;
+import static io.spine.server.storage.jdbc.Type.UUID;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -69,6 +71,7 @@ public final class TypeMappingBuilder {
      * <p>All the types are mapped in the builder as follows:
      * <ul>
      *     <li>{@code Type.BYTE_ARRAY} - {@code BLOB}</li>
+     *     <li>{@code Type.BYTE_ARRAY_255} - {@code VARBINARY(255)}</li>
      *     <li>{@code Type.INT} - {@code INT}</li>
      *     <li>{@code Type.LONG} - {@code BIGINT}</li>
      *     <li>{@code Type.FLOAT} - {@code FLOAT}</li>
@@ -77,6 +80,7 @@ public final class TypeMappingBuilder {
      *     <li>{@code Type.STRING_512} - {@code VARCHAR(512)}</li>
      *     <li>{@code Type.STRING} - {@code TEXT}</li>
      *     <li>{@code Type.BOOLEAN} - {@code BOOLEAN}</li>
+     *     <li>{@code Type.UUID} - {@code UUID}</li>
      * </ul>
      *
      * <p>If the mapping provided by the builder doesn't match a database, it can be
@@ -94,6 +98,7 @@ public final class TypeMappingBuilder {
     public static TypeMappingBuilder mappingBuilder() {
         var builder = new TypeMappingBuilder()
                 .add(BYTE_ARRAY, "BLOB")
+                .add(BYTE_ARRAY_255, "VARBINARY(255)")
                 .add(INT, "INT")
                 .add(LONG, "BIGINT")
                 .add(FLOAT, "FLOAT")
@@ -101,7 +106,8 @@ public final class TypeMappingBuilder {
                 .add(STRING_255, "VARCHAR(255)")
                 .add(STRING_512, "VARCHAR(512)")
                 .add(STRING, "TEXT")
-                .add(BOOLEAN, "BOOLEAN");
+                .add(BOOLEAN, "BOOLEAN")
+                .add(UUID, "UUID");
         return builder;
     }
 
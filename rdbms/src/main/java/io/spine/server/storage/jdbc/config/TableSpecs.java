@@ -26,13 +26,22 @@
 
 package io.spine.server.storage.jdbc.config;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ListMultimap;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 import io.spine.server.storage.RecordSpec;
+import io.spine.server.storage.jdbc.operation.WriteStrategy;
 import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import io.spine.server.storage.jdbc.record.TableIndex;
 import io.spine.server.storage.jdbc.record.TableNames;
+import io.spine.server.storage.jdbc.record.cache.RecordCacheConfig;
+import io.spine.server.storage.jdbc.record.column.IdEncoding;
+import io.spine.server.storage.jdbc.record.compression.Compression;
+import io.spine.server.storage.jdbc.record.compression.Compressor;
 import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -55,30 +64,57 @@ public final class TableSpecs {
 
     private final ImmutableMap<Class<? extends Message>, JdbcColumnMapping> columnMappings;
 
+    private final ImmutableMap<Class<? extends Message>, WriteStrategy> writeStrategies;
+
+    private final ImmutableMap<Class<? extends Message>, Compressor> compressors;
+
+    private final ImmutableMap<Class<? extends Message>, RecordCacheConfig> caches;
+
+    private final ImmutableMap<Class<? extends Message>, IdEncoding> idEncodings;
+
+    private final ImmutableListMultimap<Class<? extends Message>, TableIndex> indexes;
+
+    private final ImmutableListMultimap<Class<? extends Message>, String> mirroredColumns;
+
     /**
      * Creates the settings instance on top of the passed builder.
      */
     private TableSpecs(Builder builder) {
         this.names = ImmutableMap.copyOf(builder.names);
         this.columnMappings = ImmutableMap.copyOf(builder.mappings);
+        this.writeStrategies = ImmutableMap.copyOf(builder.writeStrategies);
+        this.compressors = ImmutableMap.copyOf(builder.compressors);
+        this.caches = ImmutableMap.copyOf(builder.caches);
+        this.idEncodings = ImmutableMap.copyOf(builder.idEncodings);
+        this.indexes = ImmutableListMultimap.copyOf(builder.indexes);
+        this.mirroredColumns = ImmutableListMultimap.copyOf(builder.mirroredColumns);
     }
 
     /**
      * Provides the table specification based upon the original record specification,
      * and the user-defined configuration previously made with
-     * this instance of {@code TableSpecs}, such as table name and custom column mapping.
+     * this instance of {@code TableSpecs}, such as table name, custom column mapping,
+     * the strategy of writing the records, their compression, caching, the encoding
+     * of their identifiers, the indexes, and the columns mirroring the record fields.
      *
      * <p>In case no custom table name was specified,
      * a {@linkplain io.spine.server.storage.jdbc.record.TableNames#of(Class)
      * default one} is used.
      *
      * <p>If no custom column mapping was set previously,
-     * the default mapping passed to this method is used.
+     * the default mapping passed to this method is used. The same applies to
+     * the write strategy. If no compressor was set for the record type,
+     * the records are stored uncompressed. If no cache was set,
+     * the records are not cached. If no ID encoding was set, the message identifiers are
+     * stored as JSON. If no indexes were added, only the default ones are created.
+     * If no mirrored columns were added, none of the columns mirrors a field.
      *
      * @param spec
      *         the original record specification
      * @param defaultMapping
      *         the column mapping to use if no custom mapping is specified for the table
+     * @param defaultStrategy
+     *         the write strategy to use if no custom strategy is specified for the table
      * @param <I>
      *         type of the identifiers of the records to store in the table
      * @param <R>
@@ -86,10 +122,12 @@ public final class TableSpecs {
      * @return a new table specification
      */
     public <I, R extends Message> JdbcTableSpec<I, R>
-    specFor(RecordSpec<I, R> spec, JdbcColumnMapping defaultMapping) {
+    specFor(RecordSpec<I, R> spec,
+            JdbcColumnMapping defaultMapping,
+            WriteStrategy defaultStrategy) {
         var recordType = spec.sourceType();
         if (!tables.containsKey(recordType)) {
-            var tableSpec = newTableSpec(spec, defaultMapping);
+            var tableSpec = newTableSpec(spec, defaultMapping, defaultStrategy);
             tables.put(recordType, tableSpec);
         }
         @SuppressWarnings("unchecked")
@@ -98,12 +136,13 @@ public final class TableSpecs {
     }
 
     private <I, R extends Message> JdbcTableSpec<I, R>
-    newTableSpec(RecordSpec<I, R> spec, JdbcColumnMapping defaultMapping) {
+    newTableSpec(RecordSpec<I, R> spec,
+                 JdbcColumnMapping defaultMapping,
+                 WriteStrategy defaultStrategy) {
         var recordType = spec.recordType();
         @Nullable String customName = findName(recordType);
         @Nullable JdbcColumnMapping customMapping = findMapping(recordType);
 
-        JdbcTableSpec<I, R> tableSpec;
         var tableName = customName == null
                         ? TableNames.of(spec.sourceType())
                         : customName;
@@ -112,7 +151,32 @@ public final class TableSpecs {
                       ? defaultMapping
                       : customMapping;
 
-        tableSpec = new JdbcTableSpec<>(tableName, spec, mapping);
+        var strategy = writeStrategies.getOrDefault(recordType, defaultStrategy);
+
+        @Nullable Compressor compressor = compressors.get(recordType);
+        var compression = compressor == null
+                          ? Compression.none()
+                          : Compression.with(compressor);
+
+        var builder = JdbcTableSpec.<I, R>newBuilder()
+                .setTableName(tableName)
+                .setRecordSpec(spec)
+                .setColumnMapping(mapping)
+                .setWriteStrategy(strategy)
+                .setCompression(compression);
+        @Nullable RecordCacheConfig cache = caches.get(recordType);
+        if (cache != null) {
+            builder.setCacheConfig(cache);
+        }
+        @Nullable IdEncoding idEncoding = idEncodings.get(recordType);
+        if (idEncoding != null) {
+            builder.setIdEncoding(idEncoding);
+        }
+        indexes.get(recordType)
+               .forEach(builder::addIndex);
+        mirroredColumns.get(recordType)
+                       .forEach(builder::addMirroredColumn);
+        var tableSpec = builder.build();
         return tableSpec;
     }
 
@@ -148,6 +212,21 @@ public final class TableSpecs {
 
         private final Map<Class<? extends Message>, JdbcColumnMapping> mappings = new HashMap<>();
 
+        private final Map<Class<? extends Message>, WriteStrategy> writeStrategies =
+                new HashMap<>();
+
+        private final Map<Class<? extends Message>, Compressor> compressors = new HashMap<>();
+
+        private final Map<Class<? extends Message>, RecordCacheConfig> caches = new HashMap<>();
+
+        private final Map<Class<? extends Message>, IdEncoding> idEncodings = new HashMap<>();
+
+        private final ListMultimap<Class<? extends Message>, TableIndex> indexes =
+                ArrayListMultimap.create();
+
+        private final ListMultimap<Class<? extends Message>, String> mirroredColumns =
+                ArrayListMultimap.create();
+
         private Builder() {
         }
 
@@ -206,6 +285,148 @@ public final class TableSpecs {
             return this;
         }
 
+        /**
+         * Sets the strategy of writing the records to the table, in which the records
+         * of the specified type are stored.
+         *
+         * <p>This strategy will override
+         * the {@linkplain io.spine.server.storage.jdbc.JdbcStorageFactory.Builder#setWriteStrategy(WriteStrategy)
+         * factory-wide} setting for this particular table.
+         *
+         * <p>Previously set strategy, if any, is replaced with this call.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param strategy
+         *         the write strategy
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder setWriteStrategy(Class<R> recordType, WriteStrategy strategy) {
+            checkNotNull(recordType);
+            checkNotNull(strategy);
+            this.writeStrategies.put(recordType, strategy);
+            return this;
+        }
+
+        /**
+         * Sets the compressor of the serialized records of the specified type.
+         *
+         * <p>Records written after this setting is applied are stored compressed.
+         * Records previously stored uncompressed remain readable.
+         *
+         * <p>Previously set compressor, if any, is replaced with this call.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param compressor
+         *         the compressor to use
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder setCompressor(Class<R> recordType, Compressor compressor) {
+            checkNotNull(recordType);
+            checkNotNull(compressor);
+            this.compressors.put(recordType, compressor);
+            return this;
+        }
+
+        /**
+         * Sets the settings of the cache of the records of the specified type,
+         * read by their IDs.
+         *
+         * <p>Previously set cache settings, if any, are replaced with this call.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param config
+         *         the cache settings
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder setCache(Class<R> recordType, RecordCacheConfig config) {
+            checkNotNull(recordType);
+            checkNotNull(config);
+            this.caches.put(recordType, config);
+            return this;
+        }
+
+        /**
+         * Sets the way the message identifiers of the records of the specified type are stored.
+         *
+         * <p>Previously set encoding, if any, is replaced with this call.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param encoding
+         *         the encoding of the identifiers
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder setIdEncoding(Class<R> recordType, IdEncoding encoding) {
+            checkNotNull(recordType);
+            checkNotNull(encoding);
+            this.idEncodings.put(recordType, encoding);
+            return this;
+        }
+
+        /**
+         * Adds a secondary index of the table, in which the records of the specified type
+         * are stored.
+         *
+         * <p>Several indexes may be added for the same record type.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param index
+         *         the index to add
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder addIndex(Class<R> recordType, TableIndex index) {
+            checkNotNull(recordType);
+            checkNotNull(index);
+            this.indexes.put(recordType, index);
+            return this;
+        }
+
+        /**
+         * Declares that the column of the table, in which the records of the specified type
+         * are stored, holds the value of the record field of the same name, as is.
+         *
+         * @param recordType
+         *         the type of the stored record
+         * @param column
+         *         the name of the column, and of the mirrored field
+         * @param <R>
+         *         the type of the stored record
+         * @return this instance of {@code Builder}
+         * @see JdbcTableSpec.Builder#addMirroredColumn(String)
+         */
+        @CanIgnoreReturnValue
+        public <R extends Message>
+        Builder addMirroredColumn(Class<R> recordType, String column) {
+            checkNotNull(recordType);
+            checkNotNull(column);
+            this.mirroredColumns.put(recordType, column);
+            return this;
+        }
+
         /**
          * Creates a new {@code TableSpecs} instance.
          */
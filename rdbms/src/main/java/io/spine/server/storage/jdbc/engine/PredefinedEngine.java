@@ -26,8 +26,11 @@
 
 package io.spine.server.storage.jdbc.engine;
 
+import com.google.common.collect.ImmutableMap;
+import io.spine.server.storage.jdbc.DataSourceConfig;
 import io.spine.server.storage.jdbc.DataSourceMetaData;
 import io.spine.server.storage.jdbc.operation.Operation;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Locale;
 
@@ -52,6 +55,16 @@ public enum PredefinedEngine implements DetectedEngine {
      */
     Postgres,
 
+    /**
+     * H2 Database Engine of all versions.
+     */
+    H2,
+
+    /**
+     * HyperSQL Database Engine (HSQLDB) of all versions.
+     */
+    HyperSql,
+
     /**
      * None of the above.
      *
@@ -76,9 +89,106 @@ public enum PredefinedEngine implements DetectedEngine {
         if (productName.contains("postgresql")) {
             return Postgres;
         }
+        if (productName.contains("h2")) {
+            return H2;
+        }
+        if (productName.contains("hsql")) {
+            return HyperSql;
+        }
         return Generic;
     }
 
+    /**
+     * Detects the engine from the JDBC URL or the data source class name
+     * of the passed configuration.
+     *
+     * <p>Used before any connection to the database is made, when the metadata
+     * is not yet available.
+     *
+     * <p>Returns {@link #Generic Generic} if no other was detected.
+     */
+    public static PredefinedEngine from(DataSourceConfig config) {
+        checkNotNull(config);
+        var byUrl = fromJdbcUrl(config.getJdbcUrl());
+        if (byUrl != Generic) {
+            return byUrl;
+        }
+        return fromClassName(config.getDataSourceClassName());
+    }
+
+    private static PredefinedEngine fromJdbcUrl(@Nullable String jdbcUrl) {
+        if (jdbcUrl == null) {
+            return Generic;
+        }
+        var url = jdbcUrl.toLowerCase(Locale.ROOT);
+        if (url.startsWith("jdbc:mysql:")) {
+            return MySQL;
+        }
+        if (url.startsWith("jdbc:postgresql:")) {
+            return Postgres;
+        }
+        if (url.startsWith("jdbc:h2:")) {
+            return H2;
+        }
+        if (url.startsWith("jdbc:hsqldb:")) {
+            return HyperSql;
+        }
+        return Generic;
+    }
+
+    private static PredefinedEngine fromClassName(@Nullable String className) {
+        if (className == null) {
+            return Generic;
+        }
+        if (className.startsWith("com.mysql.")) {
+            return MySQL;
+        }
+        if (className.startsWith("org.postgresql.")) {
+            return Postgres;
+        }
+        if (className.startsWith("org.h2.")) {
+            return H2;
+        }
+        if (className.startsWith("org.hsqldb.")) {
+            return HyperSql;
+        }
+        return Generic;
+    }
+
+    /**
+     * Returns the driver properties, which make the statements executed by this library
+     * perform better on this engine.
+     *
+     * <p>For MySQL, enables the client-side cache of the prepared statements, the server-side
+     * prepared statements, and rewriting the JDBC batches into multi-row statements.
+     *
+     * <p>For PostgreSQL, enables rewriting the batched inserts into multi-row statements,
+     * and makes the driver use the server-side prepared statements from the first execution.
+     * This pays off, as the text of the frequent statements stays the same.
+     *
+     * <p>For other engines, returns an empty map.
+     *
+     * @see DataSourceConfig.Builder#setPerformanceProfile(Boolean)
+     */
+    public ImmutableMap<String, String> performanceProperties() {
+        switch (this) {
+            case MySQL:
+                return ImmutableMap.<String, String>builder()
+                        .put("cachePrepStmts", "true")
+                        .put("prepStmtCacheSize", "250")
+                        .put("prepStmtCacheSqlLimit", "2048")
+                        .put("useServerPrepStmts", "true")
+                        .put("rewriteBatchedStatements", "true")
+                        .put("useLocalSessionState", "true")
+                        .build();
+            case Postgres:
+                return ImmutableMap.of("reWriteBatchedInserts", "true",
+                                       "prepareThreshold", "1");
+            default:
+                return ImmutableMap.of();
+        }
+    }
+
     /**
      * Returns a generic name for each of predefined engines.
      *
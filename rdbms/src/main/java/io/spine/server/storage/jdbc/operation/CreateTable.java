@@ -36,10 +36,12 @@ import io.spine.client.VersionColumn;
 import io.spine.logging.WithLogging;
 import io.spine.query.Column;
 import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.Sql;
 import io.spine.server.storage.jdbc.TableColumn;
 import io.spine.server.storage.jdbc.TypeMapping;
 import io.spine.server.storage.jdbc.query.QueryExecutor;
 import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.server.storage.jdbc.record.TableIndex;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import static io.spine.server.storage.jdbc.Sql.BuildingBlock.BRACKET_CLOSE;
@@ -47,15 +49,20 @@ import static io.spine.server.storage.jdbc.Sql.BuildingBlock.BRACKET_OPEN;
 import static io.spine.server.storage.jdbc.Sql.BuildingBlock.COMMA;
 import static io.spine.server.storage.jdbc.Sql.BuildingBlock.SEMICOLON;
 import static io.spine.server.storage.jdbc.Sql.Query.CREATE_IF_MISSING;
+import static io.spine.server.storage.jdbc.Sql.Query.CREATE_INDEX_IF_MISSING;
 import static io.spine.server.storage.jdbc.Sql.Query.DEFAULT;
 import static io.spine.server.storage.jdbc.Sql.Query.NOT;
 import static io.spine.server.storage.jdbc.Sql.Query.NULL;
+import static io.spine.server.storage.jdbc.Sql.Query.ON;
 import static io.spine.server.storage.jdbc.Sql.Query.PRIMARY_KEY;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
 
 /**
- * Creates a table in the database.
+ * Creates a table in the database, along with its {@linkplain TableIndex secondary indexes}.
+ *
+ * <p>Both the table and the indexes are only created if they do not exist yet.
  *
  * @param <I>
  *         the type of the identifiers of the stored records
@@ -104,6 +111,82 @@ public class CreateTable<I, R extends Message> extends Operation<I, R> implement
         var queryExecutor = new QueryExecutor(dataSource(), logger());
         var createTableSql = sqlStatement();
         queryExecutor.execute(createTableSql);
+        for (var index : table().spec().indexes()) {
+            createIndex(index, queryExecutor);
+        }
+    }
+
+    /**
+     * Creates the passed index of the table, unless it already exists.
+     *
+     * <p>Unlike {@link #execute()}, does not create the table itself.
+     *
+     * @param index
+     *         the index to create
+     */
+    public final void createIndex(TableIndex index) {
+        var queryExecutor = new QueryExecutor(dataSource(), logger());
+        createIndex(index, queryExecutor);
+    }
+
+    /**
+     * Creates the passed index of the table, unless it already exists.
+     *
+     * <p>Descendants may override this method to create the index in an engine-specific way.
+     *
+     * @param index
+     *         the index to create
+     * @param executor
+     *         the executor of the statements
+     */
+    protected void createIndex(TableIndex index, QueryExecutor executor) {
+        var sql = indexStatement(index);
+        executor.execute(sql);
+    }
+
+    /**
+     * Composes an SQL statement, which creates the passed index of the table,
+     * unless it already exists.
+     *
+     * <p>Descendants may override this method to use an engine-specific statement.
+     *
+     * @param index
+     *         the index to create
+     */
+    @Internal
+    public String indexStatement(TableIndex index) {
+        return indexStatement(CREATE_INDEX_IF_MISSING, index);
+    }
+
+    /**
+     * Composes an SQL statement, which creates the passed index of the table,
+     * starting with the passed clause.
+     *
+     * <p>The names of the index, the table and its columns are
+     * {@linkplain SQLTemplates#quoteIdentifier(String) quoted} in the same way as
+     * in the {@linkplain #sqlStatement() table creation}.
+     *
+     * @param createIndex
+     *         the clause creating the index, such as {@code CREATE INDEX IF NOT EXISTS}
+     * @param index
+     *         the index to create
+     */
+    protected final String indexStatement(Sql.Query createIndex, TableIndex index) {
+        var templates = dataSource().templates();
+        var columns = index.columns()
+                           .stream()
+                           .map(templates::quoteIdentifier)
+                           .collect(joining(COMMA.toString()));
+        var sql = new StringBuilder();
+        sql.append(createIndex)
+           .append(templates.quoteIdentifier(index.nameIn(tableName())))
+           .append(ON)
+           .append(templates.quoteIdentifier(tableName()))
+           .append(BRACKET_OPEN)
+           .append(columns)
+           .append(BRACKET_CLOSE)
+           .append(SEMICOLON);
+        return sql.toString();
     }
 
     /**
@@ -26,9 +26,11 @@
 
 package io.spine.server.storage.jdbc.operation;
 
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Message;
 import io.spine.server.storage.jdbc.DataSourceWrapper;
 import io.spine.server.storage.jdbc.query.DeleteMultipleRecordsQuery;
+import io.spine.server.storage.jdbc.query.ExecutionContext;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
 /**
@@ -49,16 +51,31 @@ public class DeleteManyByIds<I, R extends Message> extends Operation<I, R> {
 
     /**
      * Executes this operation.
+     *
+     * <p>All the chunks of the deleted records are deleted on a single connection, within
+     * a single transaction. So the records are either all deleted or none of them.
+     *
+     * <p>If there are no IDs, no connection is borrowed from the data source.
      */
     public void execute(Iterable<I> ids) {
-        var query = deleteBulk(ids);
-        query.execute();
+        var toDelete = ImmutableList.copyOf(ids);
+        if (toDelete.isEmpty()) {
+            return;
+        }
+        try (var context = ExecutionContext.open(dataSource())) {
+            var query = deleteBulk(toDelete, context);
+            query.execute();
+            context.commit();
+        }
     }
 
-    private DeleteMultipleRecordsQuery<I, R> deleteBulk(Iterable<I> ids) {
+    private DeleteMultipleRecordsQuery<I, R>
+    deleteBulk(Iterable<I> ids, ExecutionContext context) {
         var query = DeleteMultipleRecordsQuery.<I, R>newBuilder()
                 .setTableSpec(table().spec())
-                .setDataSource(dataSource())
+                .setExecutionContext(context)
+                .setQueryFactories(queryFactories())
+                .setChunkSize(table().chunkSize())
                 .setIds(ids)
                 .build();
         return query;
@@ -71,6 +71,7 @@ public class DeleteOne<I, R extends Message> extends Operation<I, R> {
         var query = DeleteRecordQuery.<I, R>newBuilder()
                 .setTableSpec(table().spec())
                 .setDataSource(dataSource())
+                .setQueryFactories(queryFactories())
                 .setId(id)
                 .build();
         return query;
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.query.ExecutionContext;
+import io.spine.server.storage.jdbc.query.SelectExistingIds;
+import io.spine.server.storage.jdbc.record.RecordTable;
+
+/**
+ * Determines which of the passed IDs belong to the records already stored in the table.
+ *
+ * <p>Reads nothing but the ID column of the matching rows.
+ *
+ * @param <I>
+ *         the type of identifiers of the table records
+ * @param <R>
+ *         the type of the stored records
+ */
+public class FetchExistingIds<I, R extends Message> extends Operation<I, R> {
+
+    @SuppressWarnings("WeakerAccess" /* Available to SPI users. */)
+    public FetchExistingIds(RecordTable<I, R> table, DataSourceWrapper dataSource) {
+        super(table, dataSource);
+    }
+
+    /**
+     * Executes this operation.
+     *
+     * @param ids
+     *         the IDs to check
+     * @return the {@linkplain io.spine.server.storage.jdbc.record.column.IdColumn#normalize(Object)
+     *         normalized} IDs, which are present in the table, as {@linkplain
+     *         io.spine.server.storage.jdbc.record.column.IdColumn#keyOf(Object) keys}
+     */
+    public ImmutableSet<Object> execute(Iterable<I> ids) {
+        var query = newQuery(ids)
+                .setDataSource(dataSource())
+                .setQueryFactories(queryFactories())
+                .build();
+        var result = query.execute();
+        return result;
+    }
+
+    /**
+     * Executes this operation within the passed execution context.
+     *
+     * @param ids
+     *         the IDs to check
+     * @param context
+     *         the context, on the connection of which the IDs are looked up
+     * @return the {@linkplain io.spine.server.storage.jdbc.record.column.IdColumn#normalize(Object)
+     *         normalized} IDs, which are present in the table, as {@linkplain
+     *         io.spine.server.storage.jdbc.record.column.IdColumn#keyOf(Object) keys}
+     */
+    public ImmutableSet<Object> execute(Iterable<I> ids, ExecutionContext context) {
+        var query = newQuery(ids)
+                .setExecutionContext(context)
+                .setQueryFactories(queryFactories())
+                .build();
+        var result = query.execute();
+        return result;
+    }
+
+    private SelectExistingIds.Builder<I, R> newQuery(Iterable<I> ids) {
+        SelectExistingIds.Builder<I, R> builder = SelectExistingIds.newBuilder();
+        return builder.setTableSpec(table().spec())
+                      .setChunkSize(table().chunkSize())
+                      .setIds(ids);
+    }
+}
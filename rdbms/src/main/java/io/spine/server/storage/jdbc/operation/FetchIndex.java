@@ -51,6 +51,10 @@ public class FetchIndex<I, R extends Message> extends Operation<I, R> {
         var query = TableIndexQuery.<I, R>newBuilder()
                 .setTableSpec(table().spec())
                 .setDataSource(dataSource())
+                .setQueryFactories(queryFactories())
+                .setFetchSize(table().fetchSize())
+                .setStreaming(table().streamsReads())
+                .setPageSize(table().pageSize())
                 .build();
         var result = query.execute();
         return result;
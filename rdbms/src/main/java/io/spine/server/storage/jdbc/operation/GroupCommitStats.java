@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * The statistics of a {@linkplain GroupCommitWriter group-commit writer},
+ * collected since its creation.
+ */
+public final class GroupCommitStats {
+
+    private final long batchCount;
+    private final long writeCount;
+    private final int largestBatchSize;
+
+    GroupCommitStats(long batchCount, long writeCount, int largestBatchSize) {
+        this.batchCount = batchCount;
+        this.writeCount = writeCount;
+        this.largestBatchSize = largestBatchSize;
+    }
+
+    /**
+     * Returns the number of the committed batches.
+     */
+    public long batchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Returns the number of the records written by the committed batches.
+     */
+    public long writeCount() {
+        return writeCount;
+    }
+
+    /**
+     * Returns the number of the records in the largest committed batch.
+     */
+    public int largestBatchSize() {
+        return largestBatchSize;
+    }
+
+    /**
+     * Returns the average number of the records in a committed batch.
+     *
+     * <p>Returns {@code 0.0} if no batches were committed.
+     */
+    public double averageBatchSize() {
+        return batchCount == 0 ? 0.0 : (double) writeCount / batchCount;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("batchCount", batchCount)
+                          .add("writeCount", writeCount)
+                          .add("largestBatchSize", largestBatchSize)
+                          .toString();
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.record.JdbcRecord;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * Writes single records to a database table, grouping the writes requested concurrently
+ * into a single transaction.
+ *
+ * <p>The first write which arrives opens a batch. The writes requested while the batch is open
+ * join it. The batch is closed once the {@linkplain #maxWait() maximum wait} elapses, or once
+ * the batch collects the {@linkplain #maxBatchSize() maximum number} of records, whichever
+ * happens first. The thread which opened the batch then writes all the collected records
+ * with the {@linkplain OperationFactory#writeBulk(RecordTable) bulk write}, which executes
+ * batched statements within a single transaction, however many chunks the batch is split into.
+ *
+ * <p>Each write returns only after the transaction is committed, so that a returned write is
+ * as durable as a write executed on its own. If the transaction fails, it is rolled back
+ * as a whole, and the records of the batch are written once again, one by one, so that
+ * a single faulty record does not fail the writes of the others. As none of the records
+ * was stored by the failed transaction, rewriting them does not violate the uniqueness
+ * of the IDs, even in the {@linkplain WriteStrategy#APPEND_ONLY append-only} tables.
+ * Each write then returns, or fails, with its own outcome.
+ *
+ * <p>If several writes of a batch have the same ID, the record written last is stored.
+ *
+ * <p>Unlike the other operations, an instance of this type is meant to be shared
+ * by all the writes to a table.
+ *
+ * @param <I>
+ *         the type of the identifiers of the stored records
+ * @param <R>
+ *         the type of the stored records
+ */
+public class GroupCommitWriter<I, R extends Message> extends Operation<I, R> {
+
+    private final OperationFactory operations;
+    private final Duration maxWait;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchFull = lock.newCondition();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder writeCount = new LongAdder();
+    private final AtomicInteger largestBatchSize = new AtomicInteger();
+
+    /**
+     * The batch open for the new writes, guarded by the {@code lock}.
+     */
+    private @Nullable Batch<I, R> current;
+
+    /**
+     * Creates a new group-commit writer to the passed table.
+     *
+     * @param table
+     *         the table to write the records to
+     * @param dataSource
+     *         the data source to use
+     * @param operations
+     *         the factory to instantiate the bulk write
+     * @param maxWait
+     *         the maximum time for which a batch collects the writes
+     * @param maxBatchSize
+     *         the maximum number of records written by a single transaction
+     */
+    @SuppressWarnings("WeakerAccess" /* Available to SPI users. */)
+    public GroupCommitWriter(RecordTable<I, R> table,
+                             DataSourceWrapper dataSource,
+                             OperationFactory operations,
+                             Duration maxWait,
+                             int maxBatchSize) {
+        super(table, dataSource);
+        this.operations = checkNotNull(operations);
+        checkNotNull(maxWait);
+        checkArgument(!maxWait.isNegative() && !maxWait.isZero(),
+                      "The maximum wait of a group commit must be positive.");
+        checkArgument(maxBatchSize > 0, "The maximum batch size must be positive.");
+        this.maxWait = maxWait;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns the maximum time for which a batch collects the writes.
+     */
+    public final Duration maxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Returns the maximum number of records written by a single transaction.
+     */
+    public final int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Writes the passed record.
+     *
+     * <p>Blocks until the transaction of the batch, which the write joins, is committed.
+     *
+     * @param record
+     *         the record to write
+     */
+    public void execute(JdbcRecord<I, R> record) {
+        checkNotNull(record);
+        Batch<I, R> batch;
+        CompletableFuture<@Nullable Void> written;
+        boolean opened;
+        lock.lock();
+        try {
+            opened = current == null;
+            if (opened) {
+                current = new Batch<>();
+            }
+            batch = current;
+            written = batch.add(record);
+            if (batch.size() >= maxBatchSize) {
+                current = null;
+                batchFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (opened) {
+            awaitClosing(batch);
+            flush(batch);
+        }
+        join(written);
+    }
+
+    /**
+     * Returns the statistics of the batches committed by this writer.
+     */
+    public final GroupCommitStats stats() {
+        return new GroupCommitStats(batchCount.sum(), writeCount.sum(), largestBatchSize.get());
+    }
+
+    /**
+     * Waits until the maximum wait of the passed batch elapses, or until the batch is full,
+     * and closes the batch for the new writes.
+     */
+    private void awaitClosing(Batch<I, R> batch) {
+        lock.lock();
+        try {
+            var remaining = maxWait.toNanos();
+            while (current == batch && remaining > 0) {
+                remaining = batchFull.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (current == batch) {
+                current = null;
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the records of the closed batch in a single transaction,
+     * and completes the writes which joined it.
+     *
+     * <p>If the transaction fails, none of the records is stored, even if the batch is
+     * written in several chunks. The records are then written {@linkplain #writeOneByOne(List)
+     * one by one}. Whatever the outcome, each of the writes is completed, so that no thread
+     * waits for it forever.
+     */
+    @SuppressWarnings("ProhibitedExceptionCaught" /* Passed to the waiting writes. */)
+    private void flush(Batch<I, R> batch) {
+        var writes = batch.writes();
+        try {
+            var records = writes.stream()
+                                .map(Write::record)
+                                .collect(toImmutableList());
+            operations.writeBulk(table())
+                      .execute(records);
+            var size = records.size();
+            batchCount.increment();
+            writeCount.add(size);
+            largestBatchSize.accumulateAndGet(size, Math::max);
+            writes.forEach(Write::succeed);
+        } catch (Throwable t) {
+            if (writes.size() == 1) {
+                writes.get(0)
+                      .fail(t);
+            } else {
+                writeOneByOne(writes);
+            }
+        } finally {
+            writes.forEach(Write::failIfPending);
+        }
+    }
+
+    /**
+     * Writes each of the passed records in its own transaction, in the order
+     * they were requested, and completes each write with its own outcome.
+     */
+    @SuppressWarnings("ProhibitedExceptionCaught" /* Passed to the waiting writes. */)
+    private void writeOneByOne(List<Write<I, R>> writes) {
+        for (var write : writes) {
+            try {
+                operations.writeOne(table())
+                          .execute(write.record());
+                write.succeed();
+            } catch (Throwable t) {
+                write.fail(t);
+            }
+        }
+    }
+
+    private static void join(CompletableFuture<@Nullable Void> written) {
+        try {
+            written.join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The writes collected for a single transaction.
+     */
+    private static final class Batch<I, R extends Message> {
+
+        private final List<Write<I, R>> writes = new ArrayList<>();
+
+        private CompletableFuture<@Nullable Void> add(JdbcRecord<I, R> record) {
+            var write = new Write<>(record);
+            writes.add(write);
+            return write.done;
+        }
+
+        private int size() {
+            return writes.size();
+        }
+
+        private ImmutableList<Write<I, R>> writes() {
+            return ImmutableList.copyOf(writes);
+        }
+    }
+
+    /**
+     * A single write, which joined a batch.
+     */
+    private static final class Write<I, R extends Message> {
+
+        private final JdbcRecord<I, R> record;
+        private final CompletableFuture<@Nullable Void> done = new CompletableFuture<>();
+
+        private Write(JdbcRecord<I, R> record) {
+            this.record = record;
+        }
+
+        private JdbcRecord<I, R> record() {
+            return record;
+        }
+
+        private void succeed() {
+            done.complete(null);
+        }
+
+        private void fail(Throwable t) {
+            done.completeExceptionally(t);
+        }
+
+        private void failIfPending() {
+            if (!done.isDone()) {
+                fail(new IllegalStateException("The write of the batch was not completed."));
+            }
+        }
+    }
+}
@@ -29,6 +29,7 @@ package io.spine.server.storage.jdbc.operation;
 import com.google.protobuf.Message;
 import io.spine.server.storage.jdbc.DataSourceWrapper;
 import io.spine.server.storage.jdbc.query.ContainsQuery;
+import io.spine.server.storage.jdbc.query.QueryFactories;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
 /**
@@ -64,6 +65,13 @@ public abstract class Operation<I, R extends Message> {
         return table().name();
     }
 
+    /**
+     * Returns the query factories shared by the queries to the table.
+     */
+    protected final QueryFactories queryFactories() {
+        return table.queryFactories();
+    }
+
     /**
      * Returns the definition of the data source to use.
      */
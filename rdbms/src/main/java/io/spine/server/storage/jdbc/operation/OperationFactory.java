@@ -32,11 +32,27 @@ import io.spine.server.storage.jdbc.DataSourceWrapper;
 import io.spine.server.storage.jdbc.TypeMapping;
 import io.spine.server.storage.jdbc.engine.DetectedEngine;
 import io.spine.server.storage.jdbc.engine.PredefinedEngine;
+import io.spine.server.storage.jdbc.query.BytesReadMode;
+import io.spine.server.storage.jdbc.query.QueryFactories;
+import io.spine.server.storage.jdbc.operation.merge.MergeWriteBulk;
+import io.spine.server.storage.jdbc.operation.merge.MergeWriteOne;
+import io.spine.server.storage.jdbc.operation.mysql.MysqlCreateTable;
+import io.spine.server.storage.jdbc.operation.mysql.MysqlWriteBulk;
 import io.spine.server.storage.jdbc.operation.mysql.MysqlWriteOne;
+import io.spine.server.storage.jdbc.operation.postgres.PostgresCreateTable;
+import io.spine.server.storage.jdbc.operation.postgres.PostgresWriteBulk;
+import io.spine.server.storage.jdbc.operation.postgres.PostgresWriteOne;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
+import java.time.Duration;
+
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.server.storage.jdbc.engine.PredefinedEngine.H2;
+import static io.spine.server.storage.jdbc.engine.PredefinedEngine.HyperSql;
 import static io.spine.server.storage.jdbc.engine.PredefinedEngine.MySQL;
+import static io.spine.server.storage.jdbc.engine.PredefinedEngine.Postgres;
+import static io.spine.server.storage.jdbc.operation.WriteStrategy.APPEND_ONLY;
+import static io.spine.server.storage.jdbc.operation.WriteStrategy.UPDATE_FIRST;
 
 /**
  * A factory of {@link Operation}s.
@@ -59,6 +75,7 @@ public class OperationFactory {
     private final DataSourceWrapper dataSource;
     private final DetectedEngine engine;
     private final TypeMapping typeMapping;
+    private final QueryFactories queryFactories;
 
     /**
      * Creates a new factory on top of the passed data source and the Java-SQL type mapping.
@@ -85,12 +102,21 @@ public class OperationFactory {
         this.dataSource = wrapper;
         this.typeMapping = mapping;
         this.engine = engine;
-
+        this.queryFactories = QueryFactories.of(wrapper);
     }
 
     /**
      * Produces an operation which writes a single record to the table.
      *
+     * <p>If the table is configured to use {@link WriteStrategy#UPDATE_FIRST UPDATE_FIRST}
+     * strategy, returns the operation which attempts to update the record before inserting it,
+     * regardless of the engine. For the {@link WriteStrategy#APPEND_ONLY APPEND_ONLY} tables,
+     * returns the {@linkplain #insertOne(RecordTable) insert-only} operation.
+     *
+     * <p>Otherwise, for MySQL and PostgreSQL engines, returns the operations
+     * which perform the write via a single upsert statement. For H2 and HSQLDB,
+     * returns the operation which executes a single {@code MERGE} statement.
+     *
      * @param t
      *         the table to perform the operation over
      * @param <I>
@@ -100,9 +126,23 @@ public class OperationFactory {
      * @return a new operation
      */
     public <I, R extends Message> WriteOne<I, R> writeOne(RecordTable<I, R> t) {
+        var strategy = t.spec()
+                        .writeStrategy();
+        if (strategy == APPEND_ONLY) {
+            return insertOne(t);
+        }
+        if (strategy == UPDATE_FIRST) {
+            return new UpdateFirstWriteOne<>(t, dataSource);
+        }
         if (engine == MySQL) {
             return new MysqlWriteOne<>(t, dataSource);
         }
+        if (engine == Postgres) {
+            return new PostgresWriteOne<>(t, dataSource);
+        }
+        if (usesMerge()) {
+            return new MergeWriteOne<>(t, dataSource);
+        }
 
         return new WriteOne<>(t, dataSource);
     }
@@ -110,6 +150,14 @@ public class OperationFactory {
     /**
      * Produces an operation which writes several records to the table.
      *
+     * <p>For MySQL and PostgreSQL engines, returns the operations which write
+     * the records in chunks via multi-row upsert statements, with no preliminary lookup
+     * of the existing records. For H2 and HSQLDB, each chunk is written
+     * by a batch of {@code MERGE} statements.
+     *
+     * <p>For the {@link WriteStrategy#APPEND_ONLY APPEND_ONLY} tables, returns
+     * the {@linkplain #insertBulk(RecordTable) insert-only} operation, regardless of the engine.
+     *
      * @param t
      *         the table to perform the operation over
      * @param <I>
@@ -119,9 +167,57 @@ public class OperationFactory {
      * @return a new operation
      */
     public <I, R extends Message> WriteBulk<I, R> writeBulk(RecordTable<I, R> t) {
+        if (t.spec().writeStrategy() == APPEND_ONLY) {
+            return insertBulk(t);
+        }
+        if (engine == MySQL) {
+            return new MysqlWriteBulk<>(t, dataSource, this);
+        }
+        if (engine == Postgres) {
+            return new PostgresWriteBulk<>(t, dataSource, this);
+        }
+        if (usesMerge()) {
+            return new MergeWriteBulk<>(t, dataSource, this);
+        }
         return new WriteBulk<>(t, dataSource, this);
     }
 
+    /**
+     * Produces an operation which inserts a single record to the table
+     * with no preliminary lookup.
+     *
+     * <p>Used to write the records to the {@link WriteStrategy#APPEND_ONLY APPEND_ONLY} tables.
+     *
+     * @param t
+     *         the table to perform the operation over
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records stored in the table
+     * @return a new operation
+     */
+    public <I, R extends Message> InsertOne<I, R> insertOne(RecordTable<I, R> t) {
+        return new InsertOne<>(t, dataSource);
+    }
+
+    /**
+     * Produces an operation which inserts several records to the table
+     * with no preliminary lookup.
+     *
+     * <p>Used to write the records to the {@link WriteStrategy#APPEND_ONLY APPEND_ONLY} tables.
+     *
+     * @param t
+     *         the table to perform the operation over
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records stored in the table
+     * @return a new operation
+     */
+    public <I, R extends Message> InsertBulk<I, R> insertBulk(RecordTable<I, R> t) {
+        return new InsertBulk<>(t, dataSource, this);
+    }
+
     /**
      * Produces an operation which reads several records from the table by their IDs.
      *
@@ -137,6 +233,68 @@ public class OperationFactory {
         return new ReadManyByIds<>(t, dataSource);
     }
 
+    /**
+     * Produces an operation which coalesces the concurrent reads of single records
+     * from the table by their IDs.
+     *
+     * <p>Unlike the other operations, the produced one is shared by all the reads of the table.
+     *
+     * @param t
+     *         the table to perform the operation over
+     * @param window
+     *         the maximum time for which the reads are collected into a single query
+     * @param maxBatchSize
+     *         the maximum number of distinct IDs read by a single query
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records stored in the table
+     * @return a new operation
+     */
+    public <I, R extends Message> ReadCoalescer<I, R>
+    readCoalescer(RecordTable<I, R> t, Duration window, int maxBatchSize) {
+        return new ReadCoalescer<>(t, dataSource, window, maxBatchSize);
+    }
+
+    /**
+     * Produces an operation which groups the concurrent writes of single records
+     * to the table into a single transaction.
+     *
+     * <p>Unlike the other operations, the produced one is shared by all the writes to the table.
+     *
+     * @param t
+     *         the table to perform the operation over
+     * @param maxWait
+     *         the maximum time for which the writes are collected into a single transaction
+     * @param maxBatchSize
+     *         the maximum number of records written by a single transaction
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records stored in the table
+     * @return a new operation
+     */
+    public <I, R extends Message> GroupCommitWriter<I, R>
+    groupCommitWriter(RecordTable<I, R> t, Duration maxWait, int maxBatchSize) {
+        return new GroupCommitWriter<>(t, dataSource, this, maxWait, maxBatchSize);
+    }
+
+    /**
+     * Produces an operation which determines which of the passed IDs
+     * are already present in the table.
+     *
+     * @param t
+     *         the table to perform the operation over
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records stored in the table
+     * @return a new operation
+     */
+    public <I, R extends Message> FetchExistingIds<I, R> fetchExistingIds(RecordTable<I, R> t) {
+        return new FetchExistingIds<>(t, dataSource);
+    }
+
     /**
      * Produces an operation which reads several records from the table by executing a query.
      *
@@ -152,6 +310,52 @@ public class OperationFactory {
         return new ReadManyByQuery<>(t, dataSource);
     }
 
+    /**
+     * Produces an operation which reads the identifiers of the records
+     * matching a query.
+     *
+     * @param t
+     *         the table to perform the operation over
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records stored in the table
+     * @return a new operation
+     */
+    public <I, R extends Message> ReadIdsByQuery<I, R> readIdsByQuery(RecordTable<I, R> t) {
+        return new ReadIdsByQuery<>(t, dataSource);
+    }
+
+    /**
+     * Produces an operation which counts the records matching a query.
+     *
+     * @param t
+     *         the table to perform the operation over
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records stored in the table
+     * @return a new operation
+     */
+    public <I, R extends Message> CountByQuery<I, R> countByQuery(RecordTable<I, R> t) {
+        return new CountByQuery<>(t, dataSource);
+    }
+
+    /**
+     * Produces an operation which checks if any record matches a query.
+     *
+     * @param t
+     *         the table to perform the operation over
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records stored in the table
+     * @return a new operation
+     */
+    public <I, R extends Message> ExistsByQuery<I, R> existsByQuery(RecordTable<I, R> t) {
+        return new ExistsByQuery<>(t, dataSource);
+    }
+
     /**
      * Produces an operation which deletes a single record from the table.
      *
@@ -183,7 +387,12 @@ public class OperationFactory {
     }
 
     /**
-     * Produces an operation which creates the table in the underlying database.
+     * Produces an operation which creates the table in the underlying database,
+     * along with its indexes.
+     *
+     * <p>For PostgreSQL, returns the operation which creates the indexes
+     * {@code CONCURRENTLY}. For MySQL, which lacks {@code CREATE INDEX IF NOT EXISTS},
+     * returns the operation which checks the existing indexes first.
      *
      * @param t
      *         the table to perform the operation over
@@ -194,6 +403,12 @@ public class OperationFactory {
      * @return a new operation
      */
     public <I, R extends Message> CreateTable<I, R> createTable(RecordTable<I, R> t) {
+        if (engine == MySQL) {
+            return new MysqlCreateTable<>(t, dataSource, typeMapping);
+        }
+        if (engine == Postgres) {
+            return new PostgresCreateTable<>(t, dataSource, typeMapping);
+        }
         return new CreateTable<>(t, dataSource, typeMapping);
     }
 
@@ -212,6 +427,41 @@ public class OperationFactory {
         return new FetchIndex<>(t, dataSource);
     }
 
+    /**
+     * Returns the way of reading the serialized records from the query results.
+     *
+     * <p>For MySQL and H2 engines, which drivers expose the row data as a binary stream with
+     * no copying, returns {@link BytesReadMode#BINARY_STREAM BINARY_STREAM}. For other engines,
+     * returns {@link BytesReadMode#BYTE_ARRAY BYTE_ARRAY}.
+     *
+     * <p>SPI users may override this method to choose the mode for a custom engine.
+     */
+    public BytesReadMode bytesReadMode() {
+        if (engine == MySQL || engine == H2) {
+            return BytesReadMode.BINARY_STREAM;
+        }
+        return BytesReadMode.BYTE_ARRAY;
+    }
+
+    /**
+     * Returns the query factories and the rendered SQL statements shared by all
+     * the operations produced by this factory.
+     *
+     * <p>The factories are created once per data source, so that the steady-state reads
+     * and writes neither create the QueryDSL factories nor render the same statements anew.
+     */
+    public final QueryFactories queryFactories() {
+        return queryFactories;
+    }
+
+    /**
+     * Tells whether the detected engine is known to support
+     * the SQL:2003 {@code MERGE} statement used for writing.
+     */
+    private boolean usesMerge() {
+        return engine == H2 || engine == HyperSql;
+    }
+
     /**
      * Returns the detected storage engine.
      */
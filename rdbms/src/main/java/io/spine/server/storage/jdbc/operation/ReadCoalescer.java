@@ -0,0 +1,262 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.query.SelectMultipleByIds;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads single records from a database table by their IDs, coalescing the reads
+ * requested concurrently into a single {@code SELECT}.
+ *
+ * <p>The first read which arrives opens a batch. The reads requested while the batch is open
+ * join it. The batch is closed once the {@linkplain #window() window} elapses, or once
+ * the batch collects the {@linkplain #maxBatchSize() maximum number} of distinct IDs,
+ * whichever happens first. The thread which opened the batch then reads all the collected
+ * records with one {@link SelectMultipleByIds} query, and hands each record to the thread
+ * which asked for it.
+ *
+ * <p>Each read waits for at most the duration of the window, in exchange for fewer round trips
+ * to the database under a concurrent load. Therefore, the coalescing is only worth enabling
+ * for the tables which are read by many threads at once.
+ *
+ * <p>Unlike the other operations, an instance of this type is meant to be shared
+ * by all the reads of a table.
+ *
+ * @param <I>
+ *         the type of the identifiers of the stored records
+ * @param <R>
+ *         the type of the stored records
+ */
+public class ReadCoalescer<I, R extends Message> extends Operation<I, R> {
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchFull = lock.newCondition();
+
+    /**
+     * The batch open for the new reads, guarded by the {@code lock}.
+     */
+    private @Nullable Batch<I, R> current;
+
+    /**
+     * Creates a new coalescer of the reads from the passed table.
+     *
+     * @param table
+     *         the table to read the records from
+     * @param dataSource
+     *         the data source to use
+     * @param window
+     *         the maximum time for which a batch collects the reads
+     * @param maxBatchSize
+     *         the maximum number of distinct IDs read by a single query
+     */
+    @SuppressWarnings("WeakerAccess" /* Available to SPI users. */)
+    public ReadCoalescer(RecordTable<I, R> table,
+                         DataSourceWrapper dataSource,
+                         Duration window,
+                         int maxBatchSize) {
+        super(table, dataSource);
+        checkNotNull(window);
+        checkArgument(!window.isNegative() && !window.isZero(),
+                      "The read coalescing window must be positive.");
+        checkArgument(maxBatchSize > 0, "The maximum batch size must be positive.");
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns the maximum time for which a batch collects the reads.
+     */
+    public final Duration window() {
+        return window;
+    }
+
+    /**
+     * Returns the maximum number of distinct IDs read by a single query.
+     */
+    public final int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Reads the record with the passed ID.
+     *
+     * <p>Blocks until the batch which the read joins is executed.
+     *
+     * @param id
+     *         the ID of the record to read
+     * @return the read record, or empty {@code Optional} if there is no record with such an ID
+     */
+    public Optional<R> execute(I id) {
+        checkNotNull(id);
+        Batch<I, R> batch;
+        CompletableFuture<Optional<R>> result;
+        boolean opened;
+        lock.lock();
+        try {
+            opened = current == null;
+            if (opened) {
+                current = new Batch<>();
+            }
+            batch = current;
+            result = batch.add(id);
+            if (batch.size() >= maxBatchSize) {
+                current = null;
+                batchFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (opened) {
+            awaitClosing(batch);
+            load(batch);
+        }
+        return join(result);
+    }
+
+    /**
+     * Waits until the window of the passed batch elapses, or until the batch is full,
+     * and closes the batch for the new reads.
+     */
+    private void awaitClosing(Batch<I, R> batch) {
+        lock.lock();
+        try {
+            var remaining = window.toNanos();
+            while (current == batch && remaining > 0) {
+                remaining = batchFull.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (current == batch) {
+                current = null;
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the records of the closed batch and completes the reads which joined it.
+     *
+     * <p>Whatever the outcome of the query, each of the reads is completed, so that
+     * no thread waits for its result forever.
+     */
+    @SuppressWarnings("ProhibitedExceptionCaught" /* Passed to the waiting reads. */)
+    private void load(Batch<I, R> batch) {
+        try {
+            var ids = batch.ids();
+            var query = newSelectMany(ids);
+            var records = query.execute();
+            var spec = table().spec();
+            var found = new HashMap<I, R>();
+            while (records.hasNext()) {
+                var record = records.next();
+                found.put(spec.idFromRecord(record), record);
+            }
+            batch.complete(found);
+        } catch (Throwable t) {
+            batch.fail(t);
+        }
+    }
+
+    private SelectMultipleByIds<I, R> newSelectMany(Iterable<I> ids) {
+        SelectMultipleByIds.Builder<I, R> builder = SelectMultipleByIds.newBuilder();
+        var query = builder.setTableSpec(table().spec())
+                           .setDataSource(dataSource())
+                           .setQueryFactories(queryFactories())
+                           .setChunkSize(table().chunkSize())
+                           .setBytesReadMode(table().bytesReadMode())
+                           .setIds(ids)
+                           .build();
+        return query;
+    }
+
+    private static <R> Optional<R> join(CompletableFuture<Optional<R>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The reads collected for a single query.
+     *
+     * <p>The reads of the same ID share the result.
+     */
+    private static final class Batch<I, R> {
+
+        private final Map<I, CompletableFuture<Optional<R>>> reads = new LinkedHashMap<>();
+
+        private CompletableFuture<Optional<R>> add(I id) {
+            return reads.computeIfAbsent(id, k -> new CompletableFuture<>());
+        }
+
+        private int size() {
+            return reads.size();
+        }
+
+        private ImmutableList<I> ids() {
+            return ImmutableList.copyOf(reads.keySet());
+        }
+
+        private void complete(Map<I, R> records) {
+            reads.forEach((id, read) -> read.complete(Optional.ofNullable(records.get(id))));
+        }
+
+        private void fail(Throwable t) {
+            reads.values()
+                 .forEach(read -> read.completeExceptionally(t));
+        }
+    }
+}
@@ -58,6 +58,11 @@ public class ReadManyByIds<I, R extends Message> extends Operation<I, R>  {
         SelectMultipleByIds.Builder<I, R> builder = SelectMultipleByIds.newBuilder();
         var query = builder.setTableSpec(table().spec())
                            .setDataSource(dataSource())
+                           .setQueryFactories(queryFactories())
+                           .setChunkSize(table().chunkSize())
+                           .setBytesReadMode(table().bytesReadMode())
+                           .setFetchSize(table().fetchSize())
+                           .setStreaming(table().streamsReads())
                            .setIds(ids)
                            .build();
         return query;
@@ -26,10 +26,12 @@
 
 package io.spine.server.storage.jdbc.operation;
 
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Message;
 import io.spine.query.RecordQuery;
 import io.spine.server.storage.jdbc.DataSourceWrapper;
 import io.spine.server.storage.jdbc.query.SelectMessagesByQuery;
+import io.spine.server.storage.jdbc.query.SelectMultipleByIds;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
 import java.util.Iterator;
@@ -59,14 +61,70 @@ public class ReadManyByQuery<I, R extends Message> extends Operation<I, R> {
 
     /**
      * Reads the records by the given query.
+     *
+     * <p>The queries, which select the whole records by their IDs only, are executed
+     * by the {@linkplain SelectMultipleByIds statements} cached per number of IDs.
      */
     public Iterator<R> execute(RecordQuery<I, R> query) {
+        if (readsByIdsOnly(query)) {
+            return selectByIds(query.subject()
+                                    .id()
+                                    .values());
+        }
+        var sqlQuery = newSelect(query);
+        var queryResult = sqlQuery.execute();
+        return queryResult;
+    }
+
+    /**
+     * Obtains the plan of the given query from the database.
+     *
+     * @see SelectMessagesByQuery#explain()
+     */
+    public ImmutableList<String> explain(RecordQuery<I, R> query) {
+        return newSelect(query).explain();
+    }
+
+    private SelectMessagesByQuery<I, R> newSelect(RecordQuery<I, R> query) {
         SelectMessagesByQuery.Builder<I, R> builder = SelectMessagesByQuery.newBuilder();
         var sqlQuery = builder.setDataSource(dataSource())
+                              .setQueryFactories(queryFactories())
                               .setTableSpec(table().spec())
                               .setQuery(query)
+                              .setBytesReadMode(table().bytesReadMode())
+                              .setFetchSize(table().fetchSize())
+                              .setStreaming(table().streamsReads())
+                              .setPageSize(table().pageSize())
                               .build();
-        var queryResult = sqlQuery.execute();
-        return queryResult;
+        return sqlQuery;
+    }
+
+    private Iterator<R> selectByIds(Iterable<I> ids) {
+        SelectMultipleByIds.Builder<I, R> builder = SelectMultipleByIds.newBuilder();
+        var query = builder.setTableSpec(table().spec())
+                           .setDataSource(dataSource())
+                           .setQueryFactories(queryFactories())
+                           .setChunkSize(table().chunkSize())
+                           .setBytesReadMode(table().bytesReadMode())
+                           .setFetchSize(table().fetchSize())
+                           .setStreaming(table().streamsReads())
+                           .setIds(ids)
+                           .build();
+        return query.execute();
+    }
+
+    /**
+     * Tells whether the passed query selects the whole records by their IDs,
+     * with no other conditions, sorting, limit, or field mask.
+     */
+    public static boolean readsByIdsOnly(RecordQuery<?, ?> query) {
+        var subject = query.subject();
+        var predicate = subject.predicate();
+        return !subject.id().values().isEmpty()
+                && predicate.allParams().isEmpty()
+                && predicate.children().isEmpty()
+                && query.sorting().isEmpty()
+                && query.limit() == null
+                && query.mask().getPathsCount() == 0;
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.record.JdbcRecord;
+import io.spine.server.storage.jdbc.record.RecordTable;
+
+import java.sql.SQLException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes a single record to the database, attempting to update it first.
+ *
+ * <p>Executes an {@code UPDATE} query, and only if it affects no rows,
+ * an {@code INSERT} query. Unlike the generic {@link WriteOne}, no preliminary lookup is made,
+ * so writing a record, which already exists, takes a single round trip.
+ *
+ * <p>A concurrent writer may insert the same record in between the {@code UPDATE}
+ * and the {@code INSERT}. In this case, the {@code INSERT} fails with a unique constraint
+ * violation, and the write is retried from the start. The number of attempts is limited.
+ * Other failures, including the violations of other integrity constraints, are not retried.
+ *
+ * @param <I>
+ *         the type of the identifiers of the stored records
+ * @param <R>
+ *         the type of the stored records
+ * @see WriteStrategy#UPDATE_FIRST
+ */
+public class UpdateFirstWriteOne<I, R extends Message> extends WriteOne<I, R> {
+
+    /**
+     * The maximum number of attempts to write the record.
+     */
+    private static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * The {@linkplain SQLException#getSQLState() SQL state} of a unique constraint violation,
+     * reported by PostgreSQL, H2 and HSQLDB.
+     */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    /**
+     * The generic {@linkplain SQLException#getSQLState() SQL state} of an integrity constraint
+     * violation, reported by MySQL.
+     */
+    private static final String MYSQL_INTEGRITY_VIOLATION = "23000";
+
+    /**
+     * The MySQL {@linkplain SQLException#getErrorCode() error code} of a duplicate key,
+     * known as {@code ER_DUP_ENTRY}.
+     */
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    /**
+     * Creates a new operation.
+     *
+     * @param table
+     *         table to write the records to
+     * @param dataSource
+     *         the data source to use for connectivity
+     */
+    @SuppressWarnings("WeakerAccess" /* Available to SPI users. */)
+    public UpdateFirstWriteOne(RecordTable<I, R> table, DataSourceWrapper dataSource) {
+        super(table, dataSource);
+    }
+
+    @Override
+    public void execute(JdbcRecord<I, R> record) {
+        checkNotNull(record);
+        for (var attempt = 1; ; attempt++) {
+            var updated = newUpdate(record).execute();
+            if (updated > 0) {
+                return;
+            }
+            try {
+                newInsert(record).execute();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS || !isUniqueViolation(e)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells whether the passed throwable is caused by a violation of a unique constraint.
+     */
+    @VisibleForTesting
+    static boolean isUniqueViolation(Throwable throwable) {
+        var result = Throwables.getCausalChain(throwable)
+                               .stream()
+                               .filter(SQLException.class::isInstance)
+                               .map(SQLException.class::cast)
+                               .anyMatch(UpdateFirstWriteOne::isDuplicateKey);
+        return result;
+    }
+
+    private static boolean isDuplicateKey(SQLException e) {
+        var state = e.getSQLState();
+        if (UNIQUE_VIOLATION.equals(state)) {
+            return true;
+        }
+        var result = MYSQL_INTEGRITY_VIOLATION.equals(state)
+                && e.getErrorCode() == MYSQL_DUPLICATE_ENTRY;
+        return result;
+    }
+}
@@ -27,24 +27,34 @@
 package io.spine.server.storage.jdbc.operation;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Message;
 import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.query.ExecutionContext;
 import io.spine.server.storage.jdbc.query.InsertMultipleQuery;
 import io.spine.server.storage.jdbc.query.UpdateMultipleQuery;
 import io.spine.server.storage.jdbc.record.JdbcRecord;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
-import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
-import static com.google.common.collect.Streams.stream;
-import static java.util.stream.Collectors.toList;
+import static com.google.common.collect.Iterables.partition;
+import static com.google.common.collect.Iterables.transform;
+import static io.spine.server.storage.jdbc.record.column.IdColumn.keyOf;
 
 /**
  * Writes several records to the database in a bulk.
  *
+ * <p>The records are pulled from the passed {@code Iterable} and written
+ * {@linkplain #chunksOf(Iterable) chunk by chunk}. Only the chunk being written is held
+ * in memory, so that the memory consumption is bounded by the chunk size rather than
+ * by the number of the written records. All the chunks are written within
+ * a {@linkplain #execute(Iterable) single transaction}.
+ *
  * <p>This is a generic version of the operation, which performs
- * an additional {@code SELECT} lookup before either
+ * an additional {@code SELECT} lookup of the existing IDs in each chunk before either
  * executing an {@code UPDATE} query,
  * or an {@code INSERT} query.
  *
@@ -77,63 +87,137 @@ public class WriteBulk<I, R extends Message> extends Operation<I, R> {
 
     /**
      * Executes this operation.
+     *
+     * <p>The chunks are streamed from the passed records one at a time, yet all of them
+     * are written on a single connection, within a single transaction. This way, the records
+     * are either all written or none of them, and no concurrent reader observes a partially
+     * written bulk.
+     *
+     * <p>The passed records are iterated only once. If there are no records,
+     * no connection is borrowed from the data source.
+     *
+     * <p>Descendants overriding this method must keep the bulk atomic, as
+     * the {@link GroupCommitWriter} rewrites all the records of a failed bulk one by one.
      */
     public void execute(Iterable<JdbcRecord<I, R>> records) {
-        var existingIds = existingIds(records);
+        var chunks = chunksOf(records).iterator();
+        if (!chunks.hasNext()) {
+            return;
+        }
+        try (var context = ExecutionContext.open(dataSource())) {
+            while (chunks.hasNext()) {
+                write(chunks.next(), context);
+            }
+            context.commit();
+        }
+    }
+
+    /**
+     * Writes a single chunk of records within the passed execution context.
+     *
+     * <p>The generic version looks up the IDs of the chunk records, which are already stored,
+     * and then updates the existing records, and inserts the new ones.
+     *
+     * <p>Descendants may override this method to write the chunk in an engine-specific way.
+     *
+     * @param chunk
+     *         the records to write, with distinct IDs
+     * @param context
+     *         the context to execute the queries within
+     */
+    protected void write(ImmutableList<JdbcRecord<I, R>> chunk, ExecutionContext context) {
+        var existingIds = existingIds(chunk, context);
 
         var existingRecords =
-                stream(records)
-                        .filter(record -> existingIds.contains(record.id()))
-                        .collect(toImmutableList());
+                chunk.stream()
+                     .filter(record -> isIn(existingIds, record))
+                     .collect(toImmutableList());
         var newRecords =
-                stream(records)
-                        .filter(record -> !existingIds.contains(record.id()))
-                        .collect(toImmutableList());
+                chunk.stream()
+                     .filter(record -> !isIn(existingIds, record))
+                     .collect(toImmutableList());
+
+        updateAll(existingRecords, context);
+        insertAll(newRecords, context);
+    }
+
+    /**
+     * Lazily splits the passed records into chunks of at most
+     * {@linkplain RecordTable#chunkSize() chunk size} records each.
+     *
+     * <p>The records are pulled from the passed {@code Iterable} as the chunks are iterated.
+     *
+     * <p>If several records in a chunk share the same ID, only the last of them is retained,
+     * as it is the one which would be stored by writing the records one by one.
+     * Such a deduplication allows to write each chunk with a single statement. The chunks
+     * are meant to be written in order, so that a record from a later chunk overwrites
+     * the record with the same ID from an earlier one.
+     *
+     * @param records
+     *         the records to split
+     * @return the chunks of records with distinct IDs
+     */
+    protected final Iterable<ImmutableList<JdbcRecord<I, R>>>
+    chunksOf(Iterable<JdbcRecord<I, R>> records) {
+        var chunks = partition(records, table().chunkSize());
+        var result = transform(chunks, WriteBulk::distinctById);
+        return result;
+    }
+
+    private static <I, R extends Message> ImmutableList<JdbcRecord<I, R>>
+    distinctById(List<JdbcRecord<I, R>> chunk) {
+        var byId = new LinkedHashMap<I, JdbcRecord<I, R>>();
+        for (var record : chunk) {
+            byId.put(record.id(), record);
+        }
+        return ImmutableList.copyOf(byId.values());
+    }
 
-        updateAll(existingRecords);
-        insertAll(newRecords);
+    private ImmutableSet<Object> existingIds(ImmutableList<JdbcRecord<I, R>> records,
+                                             ExecutionContext context) {
+        var ids = records.stream()
+                         .map(JdbcRecord::id)
+                         .collect(toImmutableList());
+        var result = operations.fetchExistingIds(table())
+                               .execute(ids, context);
+        return result;
     }
 
-    private Collection<I> existingIds(Iterable<JdbcRecord<I, R>> records) {
-        var ids = stream(records)
-                .map(JdbcRecord::id)
-                .collect(toList());
-
-        var existingRecords = operations.readManyByIds(table())
-                                        .execute(ids);
-        var existingIds = stream(existingRecords)
-                .map(record -> table().spec()
-                                      .idFromRecord(record))
-                .collect(toList());
-        return existingIds;
+    private boolean isIn(ImmutableSet<Object> normalizedIds, JdbcRecord<I, R> record) {
+        var normalizedId = table().idColumn()
+                                  .normalize(record.id());
+        return normalizedIds.contains(keyOf(normalizedId));
     }
 
-    private void insertAll(ImmutableList<JdbcRecord<I, R>> records) {
-        var query = newBulkInsert(records);
+    private void insertAll(ImmutableList<JdbcRecord<I, R>> records, ExecutionContext context) {
+        var query = newBulkInsert(records, context);
         query.execute();
     }
 
-    private void updateAll(ImmutableList<JdbcRecord<I, R>> records) {
-        var query = newBulkUpdate(records);
+    private void updateAll(ImmutableList<JdbcRecord<I, R>> records, ExecutionContext context) {
+        var query = newBulkUpdate(records, context);
         query.execute();
     }
 
     private InsertMultipleQuery<I, R>
-    newBulkInsert(ImmutableList<JdbcRecord<I, R>> records) {
+    newBulkInsert(ImmutableList<JdbcRecord<I, R>> records, ExecutionContext context) {
         InsertMultipleQuery.Builder<I, R> builder = InsertMultipleQuery.newBuilder();
         var query = builder.setTableSpec(table().spec())
-                           .setDataSource(dataSource())
-                           .setTableSpec(table().spec())
+                           .setExecutionContext(context)
+                           .setQueryFactories(queryFactories())
+                           .setChunkSize(table().chunkSize())
                            .setRecords(records)
                            .build();
         return query;
     }
 
     private UpdateMultipleQuery<I, R>
-    newBulkUpdate(ImmutableList<JdbcRecord<I, R>> records) {
+    newBulkUpdate(ImmutableList<JdbcRecord<I, R>> records, ExecutionContext context) {
         UpdateMultipleQuery.Builder<I, R> builder = UpdateMultipleQuery.newBuilder();
         var query = builder.setTableSpec(table().spec())
-                           .setDataSource(dataSource())
+                           .setExecutionContext(context)
+                           .setQueryFactories(queryFactories())
+                           .setChunkSize(table().chunkSize())
                            .setRecords(records)
                            .build();
         return query;
@@ -94,6 +94,7 @@ public class WriteOne<I, R extends Message> extends Operation<I, R> {
         UpdateOneQuery.Builder<I, R> builder = UpdateOneQuery.newBuilder();
         var query = builder.setTableSpec(table().spec())
                            .setDataSource(dataSource())
+                           .setQueryFactories(queryFactories())
                            .setRecord(record)
                            .build();
         return query;
@@ -103,6 +104,7 @@ public class WriteOne<I, R extends Message> extends Operation<I, R> {
         InsertOneQuery.Builder<I, R> builder = InsertOneQuery.newBuilder();
         var query = builder.setTableSpec(table().spec())
                            .setDataSource(dataSource())
+                           .setQueryFactories(queryFactories())
                            .setRecord(record)
                            .build();
         return query;
@@ -113,6 +115,7 @@ public class WriteOne<I, R extends Message> extends Operation<I, R> {
         var query = builder.setId(id)
                            .setTableSpec(table().spec())
                            .setDataSource(dataSource())
+                           .setQueryFactories(queryFactories())
                            .build();
         return query;
     }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+/**
+ * The strategy of writing the records, which may or may not be already stored.
+ *
+ * <p>The strategy may be set both for all tables via
+ * {@link io.spine.server.storage.jdbc.JdbcStorageFactory.Builder#setWriteStrategy(WriteStrategy)
+ * JdbcStorageFactory.Builder}, and for the table storing the records of a particular type.
+ *
+ * @see OperationFactory#writeOne(io.spine.server.storage.jdbc.record.RecordTable)
+ */
+public enum WriteStrategy {
+
+    /**
+     * Writes the record with a single upsert statement, if the RDBMS engine supports one.
+     *
+     * <p>For other engines, checks whether the record exists first,
+     * and then either updates or inserts it.
+     *
+     * @see WriteOne
+     */
+    DEFAULT,
+
+    /**
+     * Updates the record first, and inserts it only if no rows were updated.
+     *
+     * <p>This strategy suits best the workloads, in which the records are mostly updated,
+     * such as storing the states of long-living entities. Most writes then take a single
+     * round trip to the database.
+     *
+     * @see UpdateFirstWriteOne
+     */
+    UPDATE_FIRST,
+
+    /**
+     * Inserts the records without checking whether they are already stored.
+     *
+     * <p>This strategy is meant for the records, which are written once and never
+     * updated, such as events. Both single and bulk writes then take no
+     * read-before-write round trips.
+     *
+     * <p>A rewrite of a record, which is already stored, fails with a unique constraint
+     * violation. Therefore, this strategy does not suit the records, which are updated
+     * after being written, such as inbox messages, which change their status.
+     *
+     * @see InsertOne
+     * @see InsertBulk
+     */
+    APPEND_ONLY
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation.mysql;
+
+import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+import io.spine.annotation.SPI;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.DatabaseException;
+import io.spine.server.storage.jdbc.TypeMapping;
+import io.spine.server.storage.jdbc.operation.CreateTable;
+import io.spine.server.storage.jdbc.query.QueryExecutor;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.server.storage.jdbc.record.TableIndex;
+import io.spine.server.storage.jdbc.record.column.IdEncoding;
+
+import java.sql.SQLException;
+
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.server.storage.jdbc.Sql.Query.CREATE_INDEX;
+
+/**
+ * A MySQL-specific operation creating a table in the database.
+ *
+ * <p>MySQL does not support {@code CREATE INDEX IF NOT EXISTS}. Therefore, this operation
+ * looks the indexes of the table up in the database metadata, and only creates the missing ones.
+ *
+ * <p>MySQL has no native {@code UUID} type. Therefore, the tables with
+ * the {@linkplain IdEncoding#UUID UUID-encoded} identifiers are not created.
+ *
+ * @param <I>
+ *         the type of the identifiers of the stored records
+ * @param <R>
+ *         the type of the stored records
+ */
+@SPI
+public class MysqlCreateTable<I, R extends Message> extends CreateTable<I, R> {
+
+    /**
+     * Creates a new operation.
+     *
+     * @param table
+     *         a description of the table to create
+     * @param ds
+     *         a data source to use for connectivity with the database instance
+     * @param mapping
+     *         the mapping of generic SQL types to the types used in a particular storage engine
+     */
+    public MysqlCreateTable(RecordTable<I, R> table, DataSourceWrapper ds, TypeMapping mapping) {
+        super(table, ds, mapping);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException
+     *         if the identifiers of the table are {@linkplain IdEncoding#UUID UUID-encoded}
+     */
+    @Override
+    public void execute() {
+        checkState(table().spec().idColumn().encoding() != IdEncoding.UUID,
+                   "MySQL does not support the `UUID` encoding of the identifiers " +
+                           "in the table `%s`.", tableName());
+        super.execute();
+    }
+
+    @Override
+    protected void createIndex(TableIndex index, QueryExecutor executor) {
+        if (!exists(index)) {
+            super.createIndex(index, executor);
+        }
+    }
+
+    @Internal
+    @Override
+    public String indexStatement(TableIndex index) {
+        return indexStatement(CREATE_INDEX, index);
+    }
+
+    private boolean exists(TableIndex index) {
+        var name = index.nameIn(tableName());
+        try (var connection = dataSource().getConnection(true)) {
+            var jdbcConnection = connection.get();
+            var metaData = jdbcConnection.getMetaData();
+            var catalog = jdbcConnection.getCatalog();
+            try (var indexes = metaData.getIndexInfo(catalog, null, tableName(), false, true)) {
+                while (indexes.next()) {
+                    if (name.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new DatabaseException(e);
+        }
+    }
+}
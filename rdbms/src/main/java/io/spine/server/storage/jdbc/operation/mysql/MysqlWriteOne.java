@@ -66,6 +66,7 @@ public class MysqlWriteOne<I, R extends Message> extends WriteOne<I, R> {
         MySqlUpsertOneQuery.Builder<I, R> builder = MySqlUpsertOneQuery.newBuilder();
         var query = builder.setTableSpec(table().spec())
                            .setDataSource(dataSource())
+                           .setQueryFactories(queryFactories())
                            .setRecord(record)
                            .build();
         query.execute();
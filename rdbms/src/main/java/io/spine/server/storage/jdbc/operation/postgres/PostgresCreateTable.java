@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation.postgres;
+
+import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+import io.spine.annotation.SPI;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.DatabaseException;
+import io.spine.server.storage.jdbc.TypeMapping;
+import io.spine.server.storage.jdbc.operation.CreateTable;
+import io.spine.server.storage.jdbc.query.QueryExecutor;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.server.storage.jdbc.record.TableIndex;
+
+import java.sql.SQLException;
+
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.SEMICOLON;
+import static io.spine.server.storage.jdbc.Sql.Query.CREATE_INDEX_CONCURRENTLY_IF_MISSING;
+import static io.spine.server.storage.jdbc.Sql.Query.DROP_INDEX_CONCURRENTLY_IF_EXISTS;
+import static java.lang.String.format;
+
+/**
+ * A PostgreSQL-specific operation creating a table in the database.
+ *
+ * <p>Creates the indexes {@code CONCURRENTLY}, so that the writes to an existing table
+ * are not blocked while a newly declared index is built.
+ *
+ * <p>If such a build fails or is interrupted, PostgreSQL leaves the index in place, yet marks
+ * it as invalid. An invalid index is never used for reads, while {@code IF NOT EXISTS}
+ * treats it as already created. Therefore, an index found invalid is dropped and built anew.
+ * Note that an index which is being built concurrently by another node is invalid too,
+ * so the table should not be created by several nodes at the same time.
+ *
+ * @param <I>
+ *         the type of the identifiers of the stored records
+ * @param <R>
+ *         the type of the stored records
+ */
+@SPI
+public class PostgresCreateTable<I, R extends Message> extends CreateTable<I, R> {
+
+    /**
+     * Creates a new operation.
+     *
+     * @param table
+     *         a description of the table to create
+     * @param ds
+     *         a data source to use for connectivity with the database instance
+     * @param mapping
+     *         the mapping of generic SQL types to the types used in a particular storage engine
+     */
+    public PostgresCreateTable(RecordTable<I, R> table, DataSourceWrapper ds, TypeMapping mapping) {
+        super(table, ds, mapping);
+    }
+
+    /**
+     * The query telling whether the index with the passed name is invalid.
+     *
+     * <p>Returns no rows if there is no such index in the current search path.
+     */
+    private static final String IS_INDEX_INVALID =
+            "SELECT NOT i.indisvalid FROM pg_catalog.pg_index i" +
+                    " JOIN pg_catalog.pg_class c ON c.oid = i.indexrelid" +
+                    " WHERE c.relname = ? AND pg_catalog.pg_table_is_visible(c.oid)";
+
+    @Override
+    protected void createIndex(TableIndex index, QueryExecutor executor) {
+        if (isInvalid(index)) {
+            logger().atWarning()
+                    .log(() -> format("Index `%s` of table `%s` is invalid. Re-creating it.",
+                                      index.nameIn(tableName()), tableName()));
+            executor.execute(dropStatement(index));
+        }
+        super.createIndex(index, executor);
+    }
+
+    @Internal
+    @Override
+    public String indexStatement(TableIndex index) {
+        return indexStatement(CREATE_INDEX_CONCURRENTLY_IF_MISSING, index);
+    }
+
+    private String dropStatement(TableIndex index) {
+        var templates = dataSource().templates();
+        return DROP_INDEX_CONCURRENTLY_IF_EXISTS.toString()
+                + templates.quoteIdentifier(index.nameIn(tableName()))
+                + SEMICOLON;
+    }
+
+    private boolean isInvalid(TableIndex index) {
+        var name = index.nameIn(tableName());
+        try (var connection = dataSource().getConnection(true);
+             var statement = connection.prepareStatement(IS_INDEX_INVALID)) {
+            statement.setString(1, name);
+            try (var result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException(e);
+        }
+    }
+}
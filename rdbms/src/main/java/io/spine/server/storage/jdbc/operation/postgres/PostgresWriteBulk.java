@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation.postgres;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Message;
+import io.spine.annotation.SPI;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.operation.OperationFactory;
+import io.spine.server.storage.jdbc.operation.WriteBulk;
+import io.spine.server.storage.jdbc.query.ExecutionContext;
+import io.spine.server.storage.jdbc.query.PostgresUpsertMultipleQuery;
+import io.spine.server.storage.jdbc.record.JdbcRecord;
+import io.spine.server.storage.jdbc.record.RecordTable;
+
+/**
+ * A PostgreSQL-optimized operation for writing several records into the database in a bulk.
+ *
+ * <p>Unlike the generic version, this operation does not look up the existing records.
+ * Instead, the records are split into {@linkplain #chunksOf(Iterable) chunks},
+ * and each chunk is written by a single multi-row upsert statement.
+ * All the chunks are written within a single transaction.
+ *
+ * @param <I>
+ *         the type of the identifiers of the stored records
+ * @param <R>
+ *         the type of the stored records
+ * @see PostgresUpsertMultipleQuery for more details on the SQL query executed
+ */
+@SPI
+public class PostgresWriteBulk<I, R extends Message> extends WriteBulk<I, R> {
+
+    /**
+     * Creates a new operation.
+     *
+     * @param table
+     *         table to write the records to
+     * @param dataSource
+     *         the data source to use for connectivity
+     * @param operations
+     *         the factory to instantiate auxiliary operations
+     */
+    public PostgresWriteBulk(RecordTable<I, R> table,
+                             DataSourceWrapper dataSource,
+                             OperationFactory operations) {
+        super(table, dataSource, operations);
+    }
+
+    @Override
+    protected void write(ImmutableList<JdbcRecord<I, R>> chunk, ExecutionContext context) {
+        var query = newUpsert(chunk, context);
+        query.execute();
+    }
+
+    private PostgresUpsertMultipleQuery<I, R> newUpsert(ImmutableList<JdbcRecord<I, R>> records,
+                                                        ExecutionContext context) {
+        var query = PostgresUpsertMultipleQuery.<I, R>newBuilder()
+                .setTableSpec(table().spec())
+                .setExecutionContext(context)
+                .setQueryFactories(queryFactories())
+                .setChunkSize(table().chunkSize())
+                .setRecords(records)
+                .build();
+        return query;
+    }
+}
@@ -27,35 +27,47 @@
 package io.spine.server.storage.jdbc.query;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Message;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.sql.AbstractSQLQuery;
 import com.querydsl.sql.AbstractSQLQueryFactory;
-import com.querydsl.sql.Configuration;
 import com.querydsl.sql.RelationalPath;
 import com.querydsl.sql.RelationalPathBase;
 import com.querydsl.sql.SQLBaseListener;
-import com.querydsl.sql.SQLCloseListener;
 import com.querydsl.sql.SQLListener;
 import com.querydsl.sql.SQLListenerContext;
-import com.querydsl.sql.SQLQueryFactory;
 import com.querydsl.sql.mysql.MySQLQueryFactory;
 import io.spine.query.ColumnName;
+import io.spine.query.LogicalOperator;
+import io.spine.query.RecordQuery;
 import io.spine.server.storage.jdbc.DataSourceWrapper;
 import io.spine.server.storage.jdbc.DatabaseException;
 import io.spine.server.storage.jdbc.TableColumn;
+import io.spine.server.storage.jdbc.query.DbIterator.DoubleColumnRecord;
+import io.spine.server.storage.jdbc.query.reader.ColumnReader;
+import io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory;
 import io.spine.server.storage.jdbc.record.JdbcTableSpec;
 import io.spine.server.storage.jdbc.record.column.IdColumn;
-import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
-import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.function.Supplier;
+import java.util.Iterator;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
-import static java.sql.ResultSet.HOLD_CURSORS_OVER_COMMIT;
+import static com.querydsl.core.types.dsl.Expressions.comparablePath;
+import static com.querydsl.core.types.dsl.Expressions.constant;
+import static io.spine.query.Direction.ASC;
+import static io.spine.server.storage.jdbc.query.QueryPredicates.inIds;
+import static io.spine.server.storage.jdbc.query.QueryPredicates.matchPredicate;
+import static io.spine.server.storage.jdbc.record.column.BytesColumn.bytesColumnName;
 
 /**
  * The implementation base for the queries to an SQL-compliant database.
@@ -68,18 +80,26 @@ import static java.sql.ResultSet.HOLD_CURSORS_OVER_COMMIT;
 @SuppressWarnings("AbstractClassWithoutAbstractMethods" /* To prevent direct instantiation.*/)
 public abstract class AbstractQuery<I, R extends Message> implements StorageQuery<I, R> {
 
-    private final DataSourceWrapper dataSource;
+    private final @Nullable ExecutionContext context;
     private final RelationalPathBase<Object> tablePath;
     private final PathBuilder<Object> pathBuilder;
     private final JdbcTableSpec<I, R> tableSpec;
-    private @MonotonicNonNull AbstractSQLQueryFactory<?> defaultFactory;
-    private @MonotonicNonNull MySQLQueryFactory mySqlFactory;
+    private final BytesReadMode bytesReadMode;
+    private final int fetchSize;
+    private final boolean streaming;
+    private final QueryFactories queryFactories;
 
     protected AbstractQuery(Builder<I, R, ? extends Builder<I, R, ?, ?>,
                                     ? extends StorageQuery<I, R>> builder) {
         this.tableSpec = builder.tableSpec;
         var tableName = builder.tableSpec.tableName();
-        this.dataSource = builder.dataSource;
+        this.context = builder.context;
+        this.bytesReadMode = builder.bytesReadMode;
+        this.fetchSize = builder.fetchSize;
+        this.streaming = builder.streaming;
+        this.queryFactories = builder.queryFactories != null
+                              ? builder.queryFactories
+                              : QueryFactories.of(builder.dataSource);
         this.tablePath = new RelationalPathBase<>(Object.class, tableName, tableName, tableName);
         this.pathBuilder = new PathBuilder<>(Object.class, tableName);
     }
@@ -102,11 +122,13 @@ public abstract class AbstractQuery<I, R extends Message> implements StorageQuer
      * @see #mySqlFactory() for MySQL-specific factory
      */
     @VisibleForTesting
-    public synchronized AbstractSQLQueryFactory<?> factory() {
-        if(defaultFactory == null) {
-            defaultFactory = defaultFactory(dataSource);
+    public AbstractSQLQueryFactory<?> factory() {
+        if (context != null) {
+            return context.queryFactory(queryFactories);
         }
-        return defaultFactory;
+        return streaming
+               ? queryFactories.streamingFactory(fetchSize)
+               : queryFactories.defaultFactory(fetchSize);
     }
 
     /**
@@ -115,11 +137,241 @@ public abstract class AbstractQuery<I, R extends Message> implements StorageQuer
      * @return the query factory
      */
     @VisibleForTesting
-    public synchronized MySQLQueryFactory mySqlFactory() {
-        if(mySqlFactory == null) {
-            mySqlFactory = mySqlFactory(dataSource);
+    public MySQLQueryFactory mySqlFactory() {
+        if (context != null) {
+            return context.mySqlQueryFactory(queryFactories);
+        }
+        return queryFactories.mySqlFactory();
+    }
+
+    /**
+     * Returns the query factories and the rendered statements shared by the queries
+     * to the same data source.
+     */
+    protected final QueryFactories queryFactories() {
+        return queryFactories;
+    }
+
+    /**
+     * Creates an iterator over the results of this query.
+     *
+     * <p>Once the iterator is closed, the connection it reads from is released. The only
+     * exception is a query executed within an {@linkplain ExecutionContext execution context},
+     * which releases the connection by itself.
+     *
+     * @param resultSet
+     *         the results of this query
+     * @param columnReader
+     *         the reader of the values to iterate over
+     * @param <T>
+     *         the type of the values
+     * @return a new iterator
+     */
+    protected final <T> DbIterator<T> iterate(ResultSet resultSet, ColumnReader<T> columnReader) {
+        var result = DbIterator.over(resultSet, columnReader);
+        return context == null ? result : result.keepingConnection();
+    }
+
+    /**
+     * Creates an iterator over the pairs of values in the results of this query.
+     *
+     * <p>Releases the connection in the same way as
+     * {@link #iterate(ResultSet, ColumnReader) iterate(resultSet, columnReader)} does.
+     *
+     * @param resultSet
+     *         the results of this query
+     * @param readerA
+     *         the reader of the first value of each pair
+     * @param readerB
+     *         the reader of the second value of each pair
+     * @param <A>
+     *         the type of the first values
+     * @param <B>
+     *         the type of the second values
+     * @return a new iterator
+     */
+    protected final <A, B> DbIterator<DoubleColumnRecord<A, B>>
+    iterate(ResultSet resultSet, ColumnReader<A> readerA, ColumnReader<B> readerB) {
+        var result = DbIterator.over(resultSet, readerA, readerB);
+        return context == null ? result : result.keepingConnection();
+    }
+
+    /**
+     * Restricts the passed query to a single page of rows, ordered by ID.
+     *
+     * @param query
+     *         the query to restrict
+     * @param after
+     *         the normalized ID, after which the rows are selected,
+     *         or {@code null} to select from the first row
+     * @param pageSize
+     *         the maximum number of rows to select
+     * @see KeysetIterator
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"} /* To avoid the hell in generics. */)
+    protected final void restrictToPage(AbstractSQLQuery<?, ?> query,
+                                        @Nullable Object after,
+                                        int pageSize) {
+        var idPath = comparablePath(Comparable.class, idColumn().columnName());
+        if (after != null) {
+            // The binary IDs are not `Comparable` in Java, but are in the database.
+            query.where(idPath.gt((Expression) constant(after)));
+        }
+        query.orderBy(idPath.asc());
+        query.limit(pageSize);
+    }
+
+    /**
+     * Restricts the passed query to the rows matching the passed record query.
+     *
+     * <p>Applies the ID filter, the column predicates, the sorting and the limit
+     * of the record query.
+     *
+     * @param query
+     *         the query to restrict
+     * @param recordQuery
+     *         the record query to match
+     */
+    protected final void restrictTo(AbstractSQLQuery<?, ?> query, RecordQuery<I, R> recordQuery) {
+        filter(query, recordQuery);
+        for (var sortDirective : recordQuery.sorting()) {
+            var name = sortDirective.column().name().value();
+            var sortingPath = comparablePath(Comparable.class, name);
+            var order = sortDirective.direction() == ASC ? Order.ASC : Order.DESC;
+            query.orderBy(new OrderSpecifier<>(order, sortingPath));
+        }
+        var limit = recordQuery.limit();
+        if (limit != null && limit >= 0) {
+            query.limit(limit);
+        }
+    }
+
+    /**
+     * Restricts the passed query to the rows matching the ID filter and the column predicates
+     * of the passed record query.
+     *
+     * <p>Unlike {@link #restrictTo(AbstractSQLQuery, RecordQuery) restrictTo(..)},
+     * ignores the sorting and the limit.
+     *
+     * @param query
+     *         the query to restrict
+     * @param recordQuery
+     *         the record query to match
+     */
+    protected final void filter(AbstractSQLQuery<?, ?> query, RecordQuery<I, R> recordQuery) {
+        var subject = recordQuery.subject();
+        var inIds = inIds(idColumn(), subject.id().values());
+        var matchParameters = matchPredicate(subject.predicate(), tableSpec.columnMapping());
+        query.where(inIds);
+        query.where(matchParameters);
+    }
+
+    /**
+     * Tells whether the passed query reads all the records of the table in no particular order.
+     *
+     * <p>Such a query may be executed {@linkplain #restrictToPage page by page}.
+     */
+    protected static boolean readsAll(RecordQuery<?, ?> recordQuery) {
+        var subject = recordQuery.subject();
+        var predicate = subject.predicate();
+        return subject.id().values().isEmpty()
+                && predicate.operator() == LogicalOperator.AND
+                && predicate.allParams().isEmpty()
+                && predicate.children().isEmpty()
+                && recordQuery.sorting().isEmpty()
+                && recordQuery.limit() == null;
+    }
+
+    /**
+     * Returns the results of this query read by the passed reader.
+     *
+     * <p>If the query is {@linkplain Builder#setStreaming(boolean) streaming}, returns
+     * an iterator, which reads the results lazily. Once such an iterator is exhausted,
+     * closed, or becomes unreachable, the connection it reads from is released.
+     *
+     * <p>Otherwise, reads all the results into memory, and releases
+     * the connection immediately.
+     *
+     * @param resultSet
+     *         the results of this query
+     * @param columnReader
+     *         the reader of the values to iterate over
+     * @param <T>
+     *         the type of the values
+     * @return an iterator over the results
+     */
+    protected final <T> Iterator<T> results(ResultSet resultSet, ColumnReader<T> columnReader) {
+        var iterator = iterate(resultSet, columnReader);
+        if (isStreaming()) {
+            return iterator.closingWhenUnreachable();
+        }
+        var result = ImmutableList.copyOf(iterator);
+        return result.iterator();
+    }
+
+    /**
+     * Tells whether the results of this query are read lazily.
+     *
+     * <p>The queries executed within an {@linkplain ExecutionContext execution context}
+     * are never streaming, as the connection is owned by the context.
+     */
+    protected final boolean isStreaming() {
+        return streaming && context == null;
+    }
+
+    /**
+     * Creates a reader of the records stored in the bytes column of the table.
+     *
+     * <p>The reader reads the values in the {@linkplain Builder#setBytesReadMode(BytesReadMode)
+     * configured} way, and decompresses them if needed.
+     *
+     * <p>A new reader must be created for each iterator.
+     */
+    protected final ColumnReader<R> messageReader() {
+        return ColumnReaderFactory.messageReader(bytesColumnName(),
+                                                 tableSpec.recordDescriptor(),
+                                                 tableSpec.compression(),
+                                                 bytesReadMode);
+    }
+
+    /**
+     * Executes the passed work on a JDBC connection to the database.
+     *
+     * <p>Unless the query is executed within an {@linkplain ExecutionContext execution context},
+     * the work is run on a new connection in a separate transaction. The transaction is
+     * committed if the work succeeds, and rolled back otherwise.
+     *
+     * <p>Within a context, the work is run on the connection of the context. The transaction
+     * is then left to the owner of the context.
+     *
+     * @param work
+     *         the work to execute
+     * @param <T>
+     *         the type of the work result
+     * @return the result of the work
+     * @throws DatabaseException
+     *         if the work fails with an {@code SQLException}
+     */
+    protected final <T> T withConnection(ConnectionWork<T> work) {
+        if (context != null) {
+            try {
+                return work.runOn(context.connection());
+            } catch (SQLException e) {
+                throw new DatabaseException(e);
+            }
+        }
+        try (var connection = factory().getConnection()) {
+            try {
+                var result = work.runOn(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException(e);
         }
-        return mySqlFactory;
     }
 
     @Override
@@ -162,46 +414,16 @@ public abstract class AbstractQuery<I, R extends Message> implements StorageQuer
         return pathOf(idColumn());
     }
 
-    /**
-     * Creates a configured query factory suitable for most RDBMS engines.
-     *
-     * <p>The returned factory does not perform any query optimizations specific to the database
-     * engine used. See {@link #mySqlFactory(DataSourceWrapper) mySqlFactory(dataSource)} for
-     * the factory which optimizes the execution for MySQL databases.
-     *
-     * <p>All queries produced by the factory are
-     * {@linkplain Connection#setAutoCommit(boolean) transactional}.
-     *
-     * <p>Both commits and rollbacks of transactions are done automatically
-     * by the {@linkplain TransactionHandler transaction handler}.
-     *
-     * <p>All {@linkplain Connection connections} will be closed automatically
-     * using {@link SQLCloseListener}.
-     *
-     * <p>To support iteration over {@link java.sql.ResultSet ResultSet} after a transaction commit,
-     * {@link java.sql.ResultSet#HOLD_CURSORS_OVER_COMMIT HOLD_CURSORS_OVER_COMMIT} option is used
-     * for the underlying {@linkplain Connection#setHoldability(int) connection}.
-     *
-     * @param dataSource
-     *         the data source to produce connections
-     * @return a new query factory
-     */
-    private static AbstractSQLQueryFactory<?> defaultFactory(DataSourceWrapper dataSource) {
-        var connectionSupplier = new ConnectionSupplier(dataSource);
-        var configuration = configuration(dataSource);
-        return new SQLQueryFactory(configuration, connectionSupplier);
-    }
-
     /**
      * Creates a new MySQL-specific query factory.
      *
-     * <p>Transactional settings of the returned factory are the same as for
-     * the {@linkplain #defaultFactory(DataSourceWrapper) default query factory}.
-     *
      * <p>The created factory optimizes the inserts and updates into DB tables
      * by leveraging {@code INSERT ... ON DUPLICATE KEY UPDATE ...} queries
      * instead of {@code SELECT ...} with the consecutive {@code INSERT}/{@code UPDATE}.
      *
+     * <p>The queries use the factory {@linkplain QueryFactories#mySqlFactory() shared}
+     * among the queries to the same data source, rather than this one.
+     *
      * @param dataSource
      *         the data source to produce connections
      * @return a new query factory
@@ -209,42 +431,23 @@ public abstract class AbstractQuery<I, R extends Message> implements StorageQuer
     @SuppressWarnings("WeakerAccess" /* Exposed to SPI users. */)
     protected static MySQLQueryFactory mySqlFactory(DataSourceWrapper dataSource) {
         checkNotNull(dataSource);
-        var connectionSupplier = new ConnectionSupplier(dataSource);
-        return new MySQLQueryFactory(configuration(dataSource), connectionSupplier);
-    }
-
-    @NonNull
-    private static Configuration configuration(DataSourceWrapper dataSource) {
-        var templates = dataSource.templates();
-        var configuration = new Configuration(templates);
-        configuration.addListener(TransactionHandler.INSTANCE);
-        configuration.addListener(SQLCloseListener.DEFAULT);
-        return configuration;
+        return QueryFactories.newMySqlFactory(dataSource);
     }
 
     /**
-     * Obtains a connection to the underlying data source.
+     * A piece of work executed on a JDBC connection.
+     *
+     * @param <T>
+     *         the type of the work result
+     * @see #withConnection(ConnectionWork)
      */
-    private static final class ConnectionSupplier implements Supplier<Connection> {
-
-        private final DataSourceWrapper dataSource;
-
-        private ConnectionSupplier(DataSourceWrapper source) {
-            dataSource = source;
-        }
+    @FunctionalInterface
+    protected interface ConnectionWork<T> {
 
-        @Override
-        public Connection get() {
-            var connection = dataSource
-                    .getConnection(false)
-                    .get();
-            try {
-                connection.setHoldability(HOLD_CURSORS_OVER_COMMIT);
-                return connection;
-            } catch (SQLException e) {
-                throw new DatabaseException(e);
-            }
-        }
+        /**
+         * Executes the work on the passed connection.
+         */
+        T runOn(Connection connection) throws SQLException;
     }
 
     /**
@@ -265,7 +468,12 @@ public abstract class AbstractQuery<I, R extends Message> implements StorageQuer
                                          Q extends AbstractQuery<I, R>> {
 
         private DataSourceWrapper dataSource;
+        private @Nullable ExecutionContext context;
+        private @Nullable QueryFactories queryFactories;
         private JdbcTableSpec<I, R> tableSpec;
+        private BytesReadMode bytesReadMode = BytesReadMode.BYTE_ARRAY;
+        private int fetchSize = 0;
+        private boolean streaming = false;
 
         /**
          * Creates a new instance of the {@link StorageQuery} with respect to the preconditions.
@@ -320,6 +528,39 @@ public abstract class AbstractQuery<I, R extends Message> implements StorageQuer
          */
         public B setDataSource(DataSourceWrapper dataSource) {
             this.dataSource = checkNotNull(dataSource);
+            this.context = null;
+            return getThis();
+        }
+
+        /**
+         * Sets the {@linkplain ExecutionContext execution context} to run the query in.
+         *
+         * <p>The query is then executed on the connection of the context, within
+         * its transaction. Use this method instead of
+         * {@link #setDataSource(DataSourceWrapper) setDataSource(..)} to execute several
+         * queries atomically.
+         *
+         * @param context
+         *         the context to use
+         */
+        public B setExecutionContext(ExecutionContext context) {
+            checkNotNull(context);
+            this.dataSource = context.dataSource();
+            this.context = context;
+            return getThis();
+        }
+
+        /**
+         * Sets the query factories shared by the queries to the data source.
+         *
+         * <p>If not set, the factories {@linkplain QueryFactories#of(DataSourceWrapper) shared}
+         * by the queries to the data source are used.
+         *
+         * @param factories
+         *         the factories created for the data source of the query
+         */
+        public B setQueryFactories(QueryFactories factories) {
+            this.queryFactories = checkNotNull(factories);
             return getThis();
         }
 
@@ -334,6 +575,48 @@ public abstract class AbstractQuery<I, R extends Message> implements StorageQuer
             return getThis();
         }
 
+        /**
+         * Sets the way of reading the serialized records from the query results.
+         *
+         * <p>If not set, {@link BytesReadMode#BYTE_ARRAY BYTE_ARRAY} is used.
+         *
+         * @param mode
+         *         the way of reading the records
+         */
+        public B setBytesReadMode(BytesReadMode mode) {
+            this.bytesReadMode = checkNotNull(mode);
+            return getThis();
+        }
+
+        /**
+         * Sets the number of rows to fetch from the database at once.
+         *
+         * <p>If not set, or set to {@code 0}, the default of the JDBC driver is used.
+         *
+         * @param fetchSize
+         *         the non-negative number of rows
+         */
+        public B setFetchSize(int fetchSize) {
+            checkArgument(fetchSize >= 0,
+                          "The fetch size must not be negative, but was %s.", fetchSize);
+            this.fetchSize = fetchSize;
+            return getThis();
+        }
+
+        /**
+         * Sets whether the results of the query are read lazily.
+         *
+         * <p>By default, the queries read all their results into memory at once.
+         *
+         * @param streaming
+         *         whether to read the results lazily
+         * @see AbstractQuery#results(ResultSet, ColumnReader)
+         */
+        public B setStreaming(boolean streaming) {
+            this.streaming = streaming;
+            return getThis();
+        }
+
         /**
          * Returns the table specification, if previously set.
          *
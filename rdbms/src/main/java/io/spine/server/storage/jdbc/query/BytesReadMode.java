@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query;
+
+import java.sql.ResultSet;
+
+/**
+ * The way of reading the serialized records from the bytes column of a {@link ResultSet}.
+ */
+public enum BytesReadMode {
+
+    /**
+     * Each value is obtained via {@link ResultSet#getBytes(String)}.
+     *
+     * <p>The JDBC driver allocates a new array for each row.
+     */
+    BYTE_ARRAY,
+
+    /**
+     * Each value is read from {@link ResultSet#getBinaryStream(String)} into
+     * a buffer, which is reused for all rows of the result set.
+     *
+     * <p>Pays off for the drivers which expose the row data as a stream without copying it,
+     * such as the MySQL and H2 ones. For other drivers, the stream may be backed
+     * by a new array anyway, which makes this mode no better than {@link #BYTE_ARRAY}.
+     */
+    BINARY_STREAM
+}
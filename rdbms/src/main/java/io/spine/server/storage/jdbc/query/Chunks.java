@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.record.JdbcRecord;
+import io.spine.server.storage.jdbc.record.column.IdColumn;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.server.storage.jdbc.record.column.IdColumn.keyOf;
+import static java.util.Comparator.comparing;
+
+/**
+ * Utilities for splitting the multi-record queries into chunks.
+ *
+ * <p>A single statement cannot carry an unlimited number of records or IDs. The engines
+ * and their JDBC drivers limit the number of bind parameters and the size of a network packet.
+ * Therefore, the multi-record queries are executed chunk by chunk.
+ *
+ * <p>Within each chunk, the rows are ordered by their normalized IDs. This way,
+ * the concurrent writers acquire the row locks in the same order, and do not deadlock
+ * each other.
+ */
+final class Chunks {
+
+    /**
+     * The maximum number of bind parameters in a single SQL statement.
+     *
+     * <p>This is the limit imposed by the PostgreSQL JDBC driver, which is the lowest
+     * among the engines supported out of the box.
+     */
+    static final int MAX_PARAMETERS = Short.MAX_VALUE;
+
+    /**
+     * Compares the normalized IDs, which are either {@code String}s, {@code Integer}s,
+     * {@code Long}s, {@code UUID}s, or byte arrays.
+     *
+     * <p>The byte arrays are compared by their {@linkplain IdColumn#keyOf(Object) contents}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"} /* See the doc above. */)
+    private static final Comparator<Object> NORMALIZED_ORDER =
+            (left, right) -> ((Comparable) keyOf(left)).compareTo(keyOf(right));
+
+    /** Prevents instantiation of this utility class. */
+    private Chunks() {
+    }
+
+    /**
+     * Splits the passed items into chunks.
+     *
+     * <p>The size of each chunk is limited both by the passed {@code chunkSize}, and by
+     * the {@linkplain #MAX_PARAMETERS number of parameters} allowed in a single statement.
+     *
+     * @param items
+     *         the items to split
+     * @param chunkSize
+     *         the maximum number of items in a chunk
+     * @param parametersPerItem
+     *         the number of bind parameters, which each of the items takes
+     * @return the consecutive chunks of the passed list
+     */
+    static <T> List<List<T>> split(List<T> items, int chunkSize, int parametersPerItem) {
+        checkArgument(chunkSize > 0, "The chunk size must be positive.");
+        checkArgument(parametersPerItem > 0, "The number of parameters must be positive.");
+        var limitedByParameters = Math.max(1, MAX_PARAMETERS / parametersPerItem);
+        var size = Math.min(chunkSize, limitedByParameters);
+        return Lists.partition(items, size);
+    }
+
+    /**
+     * Returns the number of parameters in an {@code IN} list, to which the list of
+     * the passed size is padded.
+     *
+     * <p>The sizes are rounded up to the powers of two, so that the lists of various sizes
+     * share a few rendered statements, and their prepared plans.
+     *
+     * @param size
+     *         the positive number of items in the list
+     * @param limit
+     *         the maximum number of items, which the list may be padded to
+     * @return the padded size, which is never less than {@code size}
+     */
+    static int bucket(int size, int limit) {
+        checkArgument(size > 0, "The size of the list must be positive.");
+        var rounded = Integer.highestOneBit(size);
+        if (rounded < size) {
+            rounded <<= 1;
+        }
+        var result = Math.max(size, Math.min(rounded, limit));
+        return result;
+    }
+
+    /**
+     * Pads the passed list to the passed size by repeating its last item.
+     */
+    static <T> ImmutableList<T> padded(List<T> items, int size) {
+        checkArgument(!items.isEmpty(), "Only a non-empty list may be padded.");
+        var result = ImmutableList.<T>builderWithExpectedSize(size);
+        result.addAll(items);
+        var last = items.get(items.size() - 1);
+        for (var i = items.size(); i < size; i++) {
+            result.add(last);
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the passed records ordered by their normalized IDs.
+     */
+    static <I, R extends Message> ImmutableList<JdbcRecord<I, R>>
+    sortedById(List<JdbcRecord<I, R>> records, IdColumn<I> idColumn) {
+        var result = records
+                .stream()
+                .sorted(comparing(record -> idColumn.normalize(record.id()), NORMALIZED_ORDER))
+                .collect(toImmutableList());
+        return result;
+    }
+
+    /**
+     * Normalizes the passed IDs, and returns them in their natural order.
+     */
+    static <I> ImmutableList<Object> normalizedAndSorted(List<I> ids, IdColumn<I> idColumn) {
+        var result = ids.stream()
+                        .map(idColumn::normalize)
+                        .sorted(NORMALIZED_ORDER)
+                        .collect(toImmutableList());
+        return result;
+    }
+}
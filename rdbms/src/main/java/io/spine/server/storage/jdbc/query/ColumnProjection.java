@@ -0,0 +1,186 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Message;
+import io.spine.query.ColumnName;
+import io.spine.server.storage.jdbc.TableColumn;
+import io.spine.server.storage.jdbc.Type;
+import io.spine.server.storage.jdbc.query.reader.ColumnReader;
+import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import io.spine.server.storage.jdbc.record.MessageCodec;
+import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+
+import static io.spine.server.storage.jdbc.record.column.BytesColumn.bytesColumnName;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A projection of the stored records onto the table columns.
+ *
+ * <p>If each field of a field mask is stored in a column of the same name, which is
+ * {@linkplain JdbcTableSpec#mirrorsField(ColumnName) declared} to mirror the field,
+ * the masked records may be restored from these columns alone, with no need to read and parse
+ * the serialized records. The column values are converted back to the field values
+ * by {@link JdbcColumnMapping#restore(Object, FieldDescriptor) JdbcColumnMapping}.
+ *
+ * @param <R>
+ *         the type of the stored records
+ */
+final class ColumnProjection<R extends Message> {
+
+    private final ImmutableMap<TableColumn, FieldDescriptor> fields;
+    private final JdbcColumnMapping mapping;
+    private final MessageCodec codec;
+
+    private ColumnProjection(ImmutableMap<TableColumn, FieldDescriptor> fields,
+                             JdbcTableSpec<?, R> spec) {
+        this.fields = fields;
+        this.mapping = spec.columnMapping();
+        this.codec = spec.codec();
+    }
+
+    /**
+     * Creates a projection for the passed field mask, if all the masked fields
+     * may be restored from the columns of the table.
+     *
+     * @param spec
+     *         the specification of the table
+     * @param mask
+     *         the field mask to apply to the records
+     * @return the projection, or {@code Optional.empty()} if the mask is empty,
+     *         or any of the masked fields is not restorable from a mirroring column
+     */
+    static <R extends Message> Optional<ColumnProjection<R>>
+    of(JdbcTableSpec<?, R> spec, FieldMask mask) {
+        if (mask.getPathsCount() == 0) {
+            return Optional.empty();
+        }
+        var descriptor = spec.recordDescriptor();
+        var mapping = spec.columnMapping();
+        var fields = new LinkedHashMap<TableColumn, FieldDescriptor>();
+        for (var path : mask.getPathsList()) {
+            var field = descriptor.findFieldByName(path);
+            if (field == null || path.equals(bytesColumnName())) {
+                return Optional.empty();
+            }
+            var name = ColumnName.of(path);
+            var column = spec.findColumn(name);
+            if (column.isEmpty()
+                    || !spec.mirrorsField(name)
+                    || !mapping.isRestorable(column.get().javaType(), field)) {
+                return Optional.empty();
+            }
+            fields.put(column.get(), field);
+        }
+        return Optional.of(new ColumnProjection<>(ImmutableMap.copyOf(fields), spec));
+    }
+
+    /**
+     * Returns the columns to select.
+     */
+    Iterable<TableColumn> columns() {
+        return fields.keySet();
+    }
+
+    /**
+     * Returns the reader, which restores the masked records from the selected columns.
+     */
+    ColumnReader<R> reader() {
+        var firstColumn = fields.keySet()
+                                .iterator()
+                                .next();
+        return new Reader(firstColumn.name());
+    }
+
+    /**
+     * Restores a masked record from the values of the projected columns in the current row.
+     */
+    private final class Reader extends ColumnReader<R> {
+
+        private Reader(String columnName) {
+            super(columnName);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked" /* The codec is of the record type. */)
+        public R readValue(ResultSet resultSet) throws SQLException {
+            var builder = codec.newBuilder();
+            for (var entry : fields.entrySet()) {
+                var column = entry.getKey();
+                var storedValue = storedValue(resultSet, column.name(),
+                                              requireNonNull(column.type()));
+                if (storedValue != null) {
+                    var field = entry.getValue();
+                    builder.setField(field, mapping.restore(storedValue, field));
+                }
+            }
+            return (R) builder.build();
+        }
+    }
+
+    /**
+     * Reads the value of the column, as it is stored in the database.
+     */
+    private static @Nullable Object
+    storedValue(ResultSet resultSet, String column, Type type) throws SQLException {
+        Object result;
+        switch (type) {
+            case BYTE_ARRAY:
+            case BYTE_ARRAY_255:
+                result = resultSet.getBytes(column);
+                break;
+            case INT:
+                result = resultSet.getInt(column);
+                break;
+            case LONG:
+                result = resultSet.getLong(column);
+                break;
+            case FLOAT:
+                result = resultSet.getFloat(column);
+                break;
+            case DOUBLE:
+                result = resultSet.getDouble(column);
+                break;
+            case BOOLEAN:
+                result = resultSet.getBoolean(column);
+                break;
+            default:
+                result = resultSet.getString(column);
+        }
+        return resultSet.wasNull() ? null : result;
+    }
+}
@@ -32,7 +32,11 @@ import io.spine.server.storage.jdbc.DatabaseException;
 import io.spine.server.storage.jdbc.query.reader.ColumnReader;
 import io.spine.server.storage.jdbc.record.Serializer;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.io.Closeable;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Cleaner.Cleanable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -58,7 +62,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Internal
 public abstract class DbIterator<R> implements Iterator<R>, Closeable {
 
+    private static final Cleaner cleaner = Cleaner.create();
+
     private final ResultSet resultSet;
+    private @Nullable Cleanable cleanable;
+    private boolean closesConnection = true;
     private boolean hasNextCalled = false;
     private boolean nextCalled = true;
     private boolean memoizedHasNext = false;
@@ -108,6 +116,35 @@ public abstract class DbIterator<R> implements Iterator<R>, Closeable {
         return new DoubleColumnIterator<>(resultSet, columnReaderA, columnReaderB);
     }
 
+    /**
+     * Makes this iterator leave the connection open once it is {@linkplain #close() closed}.
+     *
+     * <p>Used for the results of the queries executed within
+     * an {@linkplain ExecutionContext execution context}, which manages the connection.
+     *
+     * @return this iterator
+     */
+    DbIterator<R> keepingConnection() {
+        closesConnection = false;
+        return this;
+    }
+
+    /**
+     * Makes this iterator release the database resources once it becomes unreachable,
+     * if it has not been closed by then.
+     *
+     * <p>Serves as a safety net for the iterators, which are abandoned by their callers
+     * before they are exhausted.
+     *
+     * @return this iterator
+     */
+    DbIterator<R> closingWhenUnreachable() {
+        if (cleanable == null) {
+            cleanable = cleaner.register(this, new Release(resultSet, closesConnection));
+        }
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -179,13 +216,25 @@ public abstract class DbIterator<R> implements Iterator<R>, Closeable {
     /**
      * Closes {@link #resultSet} and the related {@link Statement} and {@link Connection}.
      *
+     * <p>The connection is left open, if this iterator is
+     * {@linkplain #keepingConnection() told so}.
+     *
      * <p>This method should be called either manually or called by {@link #hasNext()}.
+     * Closing an already closed iterator has no effect.
      *
      * @throws DatabaseException
      *         if {@code SQLException} occurred
      */
     @Override
     public void close() throws DatabaseException {
+        if (cleanable != null) {
+            cleanable.clean();
+        } else {
+            release(resultSet, closesConnection);
+        }
+    }
+
+    private static void release(ResultSet resultSet, boolean closesConnection) {
         try {
             if (!resultSet.isClosed()) {
 
@@ -199,7 +248,7 @@ public abstract class DbIterator<R> implements Iterator<R>, Closeable {
                     var connection = statement.getConnection();
                     statement.close();
                     var connectionClosed = connection == null || connection.isClosed();
-                    if (!connectionClosed) {
+                    if (closesConnection && !connectionClosed) {
                         connection.close();
                     }
                 }
@@ -209,6 +258,27 @@ public abstract class DbIterator<R> implements Iterator<R>, Closeable {
         }
     }
 
+    /**
+     * Releases the resources of an iterator.
+     *
+     * <p>Does not reference the iterator, so that it may become unreachable.
+     */
+    private static final class Release implements Runnable {
+
+        private final ResultSet resultSet;
+        private final boolean closesConnection;
+
+        private Release(ResultSet resultSet, boolean closesConnection) {
+            this.resultSet = resultSet;
+            this.closesConnection = closesConnection;
+        }
+
+        @Override
+        public void run() {
+            release(resultSet, closesConnection);
+        }
+    }
+
     private static NoSuchElementException noSuchElement() {
         throw new NoSuchElementException("No elements remained.");
     }
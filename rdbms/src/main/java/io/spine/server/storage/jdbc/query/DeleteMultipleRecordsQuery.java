@@ -31,7 +31,8 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
-import static java.util.stream.Collectors.toList;
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.spine.server.storage.jdbc.JdbcStorageFactory.DEFAULT_CHUNK_SIZE;
 
 /**
  * Deletes multiple records by IDs from the {@link RecordTable}.
@@ -44,22 +45,37 @@ import static java.util.stream.Collectors.toList;
 public class DeleteMultipleRecordsQuery<I, R extends Message> extends ModifyQuery<I, R> {
 
     private final ImmutableList<I> ids;
+    private final int chunkSize;
 
     private DeleteMultipleRecordsQuery(Builder<I, R> builder) {
         super(builder);
         this.ids = builder.ids;
+        this.chunkSize = builder.chunkSize;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The records are deleted in {@linkplain Builder#setChunkSize(int) chunks},
+     * each chunk being a separate {@code DELETE} statement. Within a chunk, the IDs
+     * are ordered, so that the concurrent deletions lock the rows in the same order.
+     *
+     * <p>To delete all the chunks atomically, build the query with
+     * an {@linkplain Builder#setExecutionContext(ExecutionContext) execution context}.
+     * Otherwise, each chunk is deleted in its own transaction.
+     */
     @CanIgnoreReturnValue
     @Override
     public long execute() {
         var idColumn = tableSpec().idColumn();
-        var normalizedIds = ids.stream()
-                .map(idColumn::normalize)
-                .collect(toList());
-        var query = factory().delete(table())
-                             .where(pathOf(idColumn).in(normalizedIds));
-        return query.execute();
+        long result = 0;
+        for (var chunk : Chunks.split(ids, chunkSize, 1)) {
+            var normalizedIds = Chunks.normalizedAndSorted(chunk, idColumn);
+            var query = factory().delete(table())
+                                 .where(pathOf(idColumn).in(normalizedIds));
+            result += query.execute();
+        }
+        return result;
     }
 
     public static <I, R extends Message> Builder<I, R> newBuilder() {
@@ -71,12 +87,25 @@ public class DeleteMultipleRecordsQuery<I, R extends Message> extends ModifyQuer
             extends AbstractQuery.Builder<I, R, Builder<I, R>, DeleteMultipleRecordsQuery<I, R>> {
 
         private ImmutableList<I> ids;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
 
         public Builder<I, R> setIds(Iterable<I> ids) {
             this.ids = ImmutableList.copyOf(ids);
             return getThis();
         }
 
+        /**
+         * Sets the maximum number of records deleted by a single statement.
+         *
+         * <p>If not set, {@link io.spine.server.storage.jdbc.JdbcStorageFactory#DEFAULT_CHUNK_SIZE
+         * JdbcStorageFactory.DEFAULT_CHUNK_SIZE} is used.
+         */
+        public Builder<I, R> setChunkSize(int chunkSize) {
+            checkArgument(chunkSize > 0, "The chunk size must be positive.");
+            this.chunkSize = chunkSize;
+            return getThis();
+        }
+
         @Override
         protected Builder<I, R> getThis() {
             return this;
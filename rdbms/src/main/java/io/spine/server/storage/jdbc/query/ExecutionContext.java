@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.querydsl.sql.SQLQueryFactory;
+import com.querydsl.sql.mysql.MySQLQueryFactory;
+import io.spine.server.storage.jdbc.ConnectionWrapper;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.DatabaseException;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.sql.ResultSet.HOLD_CURSORS_OVER_COMMIT;
+
+/**
+ * A connection-scoped context of query execution.
+ *
+ * <p>The context borrows a single connection from the data source, and turns its auto-commit
+ * mode off. All queries {@linkplain AbstractQuery.Builder#setExecutionContext(ExecutionContext)
+ * built} with the same context run on this connection within one transaction. The queries
+ * neither commit nor close the connection; instead, the owner of the context does:
+ *
+ * <pre>
+ * try (var context = ExecutionContext.open(dataSource)) {
+ *     // Build and execute the queries.
+ *     context.commit();
+ * }
+ * </pre>
+ *
+ * <p>If the context is closed without a commit, the transaction is rolled back.
+ *
+ * <p>The context is not thread-safe, and is meant to be used within a single operation.
+ */
+public final class ExecutionContext implements AutoCloseable {
+
+    private final DataSourceWrapper dataSource;
+    private final ConnectionWrapper connection;
+    private boolean committed = false;
+    private boolean closed = false;
+    private @MonotonicNonNull SQLQueryFactory queryFactory;
+    private @MonotonicNonNull MySQLQueryFactory mySqlQueryFactory;
+
+    private ExecutionContext(DataSourceWrapper dataSource, ConnectionWrapper connection) {
+        this.dataSource = dataSource;
+        this.connection = connection;
+    }
+
+    /**
+     * Borrows a connection from the passed data source and opens a new transaction on it.
+     *
+     * @param dataSource
+     *         the data source to borrow the connection from
+     * @return a new execution context
+     * @throws DatabaseException
+     *         if the connection cannot be obtained or configured
+     */
+    public static ExecutionContext open(DataSourceWrapper dataSource) {
+        checkNotNull(dataSource);
+        var connection = dataSource.getConnection(false);
+        try {
+            connection.get()
+                      .setHoldability(HOLD_CURSORS_OVER_COMMIT);
+        } catch (SQLException e) {
+            connection.close();
+            throw new DatabaseException(e);
+        }
+        return new ExecutionContext(dataSource, connection);
+    }
+
+    /**
+     * Returns the data source, from which the connection of this context is borrowed.
+     */
+    public DataSourceWrapper dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Returns the connection shared by the queries executed within this context.
+     *
+     * @throws IllegalStateException
+     *         if the context is already closed
+     */
+    Connection connection() {
+        checkOpen();
+        return connection.get();
+    }
+
+    /**
+     * Returns the factory of the queries executed on the connection of this context.
+     *
+     * <p>The factory is created on the first call, and is then shared by all the queries
+     * executed within this context.
+     *
+     * @param factories
+     *         the query factories of the data source of this context
+     */
+    SQLQueryFactory queryFactory(QueryFactories factories) {
+        checkOpen();
+        if (queryFactory == null) {
+            queryFactory = new SQLQueryFactory(factories.contextConfiguration(), this::connection);
+        }
+        return queryFactory;
+    }
+
+    /**
+     * Returns the MySQL-specific factory of the queries executed on the connection
+     * of this context.
+     *
+     * <p>Same as {@link #queryFactory(QueryFactories) queryFactory(..)}, the factory
+     * is created once per context.
+     *
+     * @param factories
+     *         the query factories of the data source of this context
+     */
+    MySQLQueryFactory mySqlQueryFactory(QueryFactories factories) {
+        checkOpen();
+        if (mySqlQueryFactory == null) {
+            mySqlQueryFactory =
+                    new MySQLQueryFactory(factories.contextConfiguration(), this::connection);
+        }
+        return mySqlQueryFactory;
+    }
+
+    /**
+     * Commits the transaction of this context.
+     *
+     * @throws IllegalStateException
+     *         if the context is already closed
+     * @throws DatabaseException
+     *         if the commit fails
+     */
+    public void commit() {
+        checkOpen();
+        connection.commit();
+        committed = true;
+    }
+
+    /**
+     * Returns the connection back to the data source.
+     *
+     * <p>Rolls back the transaction, if it has not been {@linkplain #commit() committed}.
+     *
+     * <p>Closing an already closed context has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!committed) {
+                connection.rollback();
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    private void checkOpen() {
+        checkState(!closed, "The execution context is already closed.");
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.protobuf.Message;
+import io.spine.query.RecordQuery;
+import io.spine.server.storage.jdbc.record.RecordTable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.querydsl.core.types.dsl.Expressions.ONE;
+
+/**
+ * A query which checks if the {@link RecordTable RecordTable} contains at least one record
+ * matching the passed {@link RecordQuery}.
+ *
+ * <p>Unlike {@link ContainsQuery}, which looks up a single ID, matches the records
+ * by all the criteria of the record query. The database stops at the first matching row.
+ *
+ * @param <I>
+ *         the type of identifiers of the queried records
+ * @param <R>
+ *         the type of queried records
+ */
+public final class ExistsQuery<I, R extends Message>
+        extends AbstractQuery<I, R>
+        implements SelectQuery<Boolean> {
+
+    private final RecordQuery<I, R> recordQuery;
+
+    private ExistsQuery(Builder<I, R> builder) {
+        super(builder);
+        this.recordQuery = builder.recordQuery;
+    }
+
+    /**
+     * Returns {@code true} if there is at least one record matching the query,
+     * {@code false} otherwise.
+     */
+    @Override
+    public Boolean execute() {
+        var limit = recordQuery.limit();
+        if (limit != null && limit == 0) {
+            return false;
+        }
+        var query = factory().select(ONE)
+                             .from(table());
+        filter(query, recordQuery);
+        var found = query.fetchFirst();
+        return found != null;
+    }
+
+    /**
+     * Creates a new builder for this query.
+     *
+     * @param <I>
+     *         type of identifiers of the queried records
+     * @param <R>
+     *         type of queried records
+     */
+    public static <I, R extends Message> Builder<I, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    @SuppressWarnings("ClassNameSameAsAncestorName" /* For simplicity. */)
+    public static class Builder<I, R extends Message>
+            extends AbstractQuery.Builder<I, R, Builder<I, R>, ExistsQuery<I, R>> {
+
+        private RecordQuery<I, R> recordQuery;
+
+        private Builder() {
+            super();
+        }
+
+        public Builder<I, R> setQuery(RecordQuery<I, R> recordQuery) {
+            this.recordQuery = checkNotNull(recordQuery);
+            return this;
+        }
+
+        @Override
+        protected void checkPreconditions() throws IllegalStateException {
+            super.checkPreconditions();
+            checkNotNull(recordQuery, "`RecordQuery` must be set.");
+        }
+
+        @Override
+        protected ExistsQuery<I, R> doBuild() {
+            return new ExistsQuery<>(this);
+        }
+
+        @Override
+        protected Builder<I, R> getThis() {
+            return this;
+        }
+    }
+}
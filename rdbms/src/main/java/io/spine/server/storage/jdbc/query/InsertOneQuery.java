@@ -26,10 +26,24 @@
 
 package io.spine.server.storage.jdbc.query;
 
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
 import com.querydsl.core.dml.StoreClause;
+import io.spine.query.ColumnName;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.BRACKET_CLOSE;
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.BRACKET_OPEN;
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.COMMA;
+import static io.spine.server.storage.jdbc.Sql.Query.INSERT_INTO;
+import static io.spine.server.storage.jdbc.Sql.Query.PLACEHOLDER;
+import static io.spine.server.storage.jdbc.Sql.Query.VALUES;
+import static io.spine.server.storage.jdbc.query.QueryFactories.StatementKind.INSERT;
+
 /**
  * Inserts a single record to the {@link RecordTable}.
  *
@@ -44,6 +58,52 @@ public final class InsertOneQuery<I, M extends Message> extends WriteOneQuery<I,
         super(builder);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The text of the {@code INSERT} statement is rendered once per table and set
+     * of the written columns, and is then {@linkplain QueryFactories#statement cached}.
+     */
+    @CanIgnoreReturnValue
+    @Override
+    public long execute() {
+        var columns = columns();
+        var sql = queryFactories().statement(tableSpec().tableName(), INSERT, columns,
+                                             () -> insertStatement(columns));
+        List<Parameter> parameters = new ArrayList<>(columns.size() + 1);
+        parameters.add(Parameter.of(normalizedId()));
+        parameters.addAll(valuesOf(columns));
+        return execute(sql, parameters);
+    }
+
+    /**
+     * Composes the text of the {@code INSERT} statement, with the placeholders
+     * for the record ID and the values of the passed columns.
+     */
+    private String insertStatement(ImmutableList<ColumnName> columns) {
+        var templates = factory().getConfiguration()
+                                 .getTemplates();
+        var names = new StringBuilder(templates.quoteIdentifier(idColumn().columnName()));
+        var values = new StringBuilder(PLACEHOLDER.toString());
+        for (var column : columns) {
+            names.append(COMMA)
+                 .append(templates.quoteIdentifier(column.value()));
+            values.append(COMMA)
+                  .append(PLACEHOLDER);
+        }
+        var sql = new StringBuilder();
+        sql.append(INSERT_INTO)
+           .append(templates.quoteIdentifier(tableSpec().tableName()))
+           .append(BRACKET_OPEN)
+           .append(names)
+           .append(BRACKET_CLOSE)
+           .append(VALUES)
+           .append(BRACKET_OPEN)
+           .append(values)
+           .append(BRACKET_CLOSE);
+        return sql.toString();
+    }
+
     @Override
     protected StoreClause<?> clause() {
         return insertWithId();
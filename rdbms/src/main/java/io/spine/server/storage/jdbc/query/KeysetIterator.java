@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * An iterator over the rows of a table, which reads them in pages ordered by ID.
+ *
+ * <p>Each page is read by a separate query of the form
+ * {@code WHERE ID > :last ORDER BY ID LIMIT :pageSize}, where {@code :last} is the ID
+ * of the last row of the previous page. Unlike {@code OFFSET}, such a query is served
+ * by the primary key index in the same time regardless of the position of the page.
+ *
+ * <p>The pages are read as the iteration proceeds. No connection is held in between.
+ *
+ * @param <T>
+ *         the type of the rows
+ */
+final class KeysetIterator<T> extends AbstractIterator<T> {
+
+    private final PageReader<T> reader;
+    private final Function<T, Object> keyOf;
+    private final int pageSize;
+    private Iterator<T> page = Collections.emptyIterator();
+    private @Nullable Object lastKey = null;
+    private boolean lastPage = false;
+
+    /**
+     * Creates a new iterator.
+     *
+     * @param reader
+     *         reads a page of rows
+     * @param keyOf
+     *         obtains the normalized ID of a row
+     * @param pageSize
+     *         the maximum number of rows in a page
+     */
+    KeysetIterator(PageReader<T> reader, Function<T, Object> keyOf, int pageSize) {
+        this.reader = reader;
+        this.keyOf = keyOf;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    protected @Nullable T computeNext() {
+        while (!page.hasNext()) {
+            if (lastPage) {
+                return endOfData();
+            }
+            var rows = reader.read(lastKey, pageSize);
+            lastPage = rows.size() < pageSize;
+            if (!rows.isEmpty()) {
+                lastKey = keyOf.apply(rows.get(rows.size() - 1));
+            }
+            page = rows.iterator();
+        }
+        return page.next();
+    }
+
+    /**
+     * Reads a single page of rows.
+     *
+     * @param <T>
+     *         the type of the rows
+     */
+    @FunctionalInterface
+    interface PageReader<T> {
+
+        /**
+         * Reads the rows following the passed ID, in the order of their IDs.
+         *
+         * @param after
+         *         the normalized ID, after which the rows are read, or {@code null}
+         *         to read from the first row
+         * @param pageSize
+         *         the maximum number of rows to read
+         * @return the rows of the page
+         */
+        ImmutableList<T> read(@Nullable Object after, int pageSize);
+    }
+}
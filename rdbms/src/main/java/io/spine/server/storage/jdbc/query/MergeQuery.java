@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Message;
+import com.querydsl.sql.SQLTemplates;
+import io.spine.query.ColumnName;
+import io.spine.server.storage.jdbc.record.JdbcRecord;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.server.storage.jdbc.JdbcStorageFactory.DEFAULT_CHUNK_SIZE;
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.BRACKET_CLOSE;
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.BRACKET_OPEN;
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.COMMA;
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.EQUAL;
+import static io.spine.server.storage.jdbc.Sql.Query.AS;
+import static io.spine.server.storage.jdbc.Sql.Query.MERGE_INTO;
+import static io.spine.server.storage.jdbc.Sql.Query.ON;
+import static io.spine.server.storage.jdbc.Sql.Query.PLACEHOLDER;
+import static io.spine.server.storage.jdbc.Sql.Query.SET;
+import static io.spine.server.storage.jdbc.Sql.Query.USING;
+import static io.spine.server.storage.jdbc.Sql.Query.VALUES;
+import static io.spine.server.storage.jdbc.Sql.Query.WHEN_MATCHED_THEN_UPDATE;
+import static io.spine.server.storage.jdbc.Sql.Query.WHEN_NOT_MATCHED_THEN_INSERT;
+import static io.spine.server.storage.jdbc.query.QueryFactories.StatementKind.MERGE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Inserts or updates one or more records by their IDs, using the {@code MERGE} statement
+ * defined by the SQL:2003 standard.
+ *
+ * <p>The statement executed for each record looks as follows:
+ *
+ * <pre>
+ * MERGE INTO table
+ *     USING (VALUES (1)) AS MERGE_SOURCE (MERGE_KEY)
+ *     ON ID = ?
+ *     WHEN MATCHED THEN UPDATE SET column_1 = ?, column_2 = ?
+ *     WHEN NOT MATCHED THEN INSERT (ID, column_1, column_2) VALUES (?, ?, ?)
+ * </pre>
+ *
+ * <p>The single-row source table only drives the statement, while the values of the record
+ * are bound directly into the {@code ON}, {@code UPDATE} and {@code INSERT} parts. This way
+ * the type of each parameter is inferred from the target column, so that no explicit
+ * {@code CAST}s are required by the engines with strict typing, such as HSQLDB.
+ *
+ * <p>Several records are written as JDBC batches, one per {@linkplain Builder#setChunkSize(int)
+ * chunk}, each within its own transaction, unless the query is executed within
+ * an {@linkplain ExecutionContext execution context}. Within a chunk, the records are ordered
+ * by their IDs.
+ *
+ * <p>The text of the statement is rendered once per table and set of the written columns,
+ * and is then {@linkplain QueryFactories#statement cached}.
+ *
+ * @param <I>
+ *         the record ID type
+ * @param <R>
+ *         the record type
+ */
+public class MergeQuery<I, R extends Message> extends ModifyQuery<I, R> {
+
+    private static final String SOURCE_TABLE = "MERGE_SOURCE";
+    private static final String SOURCE_COLUMN = "MERGE_KEY";
+
+    private final ImmutableList<JdbcRecord<I, R>> records;
+    private final int chunkSize;
+
+    private MergeQuery(Builder<I, R> builder) {
+        super(builder);
+        this.records = builder.records;
+        this.chunkSize = builder.chunkSize;
+    }
+
+    @Override
+    @CanIgnoreReturnValue
+    public long execute() {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        var columns = ImmutableList.copyOf(records.get(0)
+                                                  .columns());
+        var sql = queryFactories().statement(tableSpec().tableName(), MERGE, columns,
+                                             () -> mergeStatement(columns));
+        var sqlTypes = columns.stream()
+                              .mapToInt(column -> Parameter.sqlTypeOf(tableSpec(), column))
+                              .toArray();
+        long result = 0;
+        for (var chunk : Chunks.split(records, chunkSize, 2 * (columns.size() + 1))) {
+            var sorted = Chunks.sortedById(chunk, idColumn());
+            result += withConnection(
+                    connection -> executeIn(connection, sql, sorted, columns, sqlTypes));
+        }
+        return result;
+    }
+
+    private long executeIn(Connection connection,
+                           String sql,
+                           ImmutableList<JdbcRecord<I, R>> chunk,
+                           ImmutableList<ColumnName> columns,
+                           int[] sqlTypes) throws SQLException {
+        @SuppressWarnings("JDBCPrepareStatementWithNonConstantString" /* Composed by this query. */)
+        var statement = connection.prepareStatement(sql);
+        try (statement) {
+            if (chunk.size() == 1) {
+                bind(statement, chunk.get(0), columns, sqlTypes);
+                return statement.executeUpdate();
+            }
+            for (var record : chunk) {
+                bind(statement, record, columns, sqlTypes);
+                statement.addBatch();
+            }
+            var counts = statement.executeBatch();
+            return Arrays.stream(counts)
+                         .filter(count -> count > 0)
+                         .sum();
+        }
+    }
+
+    /**
+     * Binds the ID and the column values of the passed record to the statement parameters.
+     *
+     * <p>The order of the parameters matches the one of
+     * the {@linkplain #mergeStatement(ImmutableList) composed statement}.
+     * The {@code null} values are bound with the passed SQL types of their columns.
+     */
+    private void bind(PreparedStatement statement,
+                      JdbcRecord<I, R> record,
+                      ImmutableList<ColumnName> columns,
+                      int[] sqlTypes) throws SQLException {
+        var id = idColumn().normalize(record.id());
+        var index = 1;
+        statement.setObject(index++, id);
+        index = bindColumns(statement, index, record, columns, sqlTypes);
+        statement.setObject(index++, id);
+        bindColumns(statement, index, record, columns, sqlTypes);
+    }
+
+    private static int bindColumns(PreparedStatement statement,
+                                   int firstIndex,
+                                   JdbcRecord<?, ?> record,
+                                   ImmutableList<ColumnName> columns,
+                                   int[] sqlTypes) throws SQLException {
+        var index = firstIndex;
+        for (var i = 0; i < columns.size(); i++) {
+            var value = record.columnValue(columns.get(i));
+            Parameter.bind(statement, index++, value, sqlTypes[i]);
+        }
+        return index;
+    }
+
+    /**
+     * Composes the text of the {@code MERGE} statement, with the placeholders
+     * for the record ID and the values of the passed columns.
+     */
+    private String mergeStatement(ImmutableList<ColumnName> columns) {
+        var templates = factory().getConfiguration()
+                                 .getTemplates();
+        var idName = templates.quoteIdentifier(idColumn().columnName());
+        var sql = new StringBuilder();
+        sql.append(MERGE_INTO)
+           .append(templates.quoteIdentifier(tableSpec().tableName()))
+           .append(USING)
+           .append(BRACKET_OPEN)
+           .append(VALUES)
+           .append(BRACKET_OPEN)
+           .append(1)
+           .append(BRACKET_CLOSE)
+           .append(BRACKET_CLOSE)
+           .append(AS)
+           .append(SOURCE_TABLE)
+           .append(BRACKET_OPEN)
+           .append(SOURCE_COLUMN)
+           .append(BRACKET_CLOSE)
+           .append(ON)
+           .append(idName)
+           .append(EQUAL)
+           .append(PLACEHOLDER);
+
+        sql.append(WHEN_MATCHED_THEN_UPDATE)
+           .append(SET);
+        appendJoined(sql, columns, templates, name -> name + EQUAL + PLACEHOLDER);
+
+        sql.append(WHEN_NOT_MATCHED_THEN_INSERT)
+           .append(BRACKET_OPEN)
+           .append(idName)
+           .append(COMMA);
+        appendJoined(sql, columns, templates, name -> name);
+        sql.append(BRACKET_CLOSE)
+           .append(VALUES)
+           .append(BRACKET_OPEN)
+           .append(PLACEHOLDER)
+           .append(COMMA);
+        appendJoined(sql, columns, templates, name -> PLACEHOLDER.toString());
+        sql.append(BRACKET_CLOSE);
+        return sql.toString();
+    }
+
+    private static void appendJoined(StringBuilder sql,
+                                     ImmutableList<ColumnName> columns,
+                                     SQLTemplates templates,
+                                     UnaryOperator<String> fragment) {
+        var first = true;
+        for (var column : columns) {
+            if (!first) {
+                sql.append(COMMA);
+            }
+            var name = templates.quoteIdentifier(column.value());
+            sql.append(fragment.apply(name));
+            first = false;
+        }
+    }
+
+    public static <I, R extends Message> Builder<I, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    @SuppressWarnings("ClassNameSameAsAncestorName" /* For simplicity. */)
+    public static class Builder<I, R extends Message>
+            extends AbstractQuery.Builder<I, R, Builder<I, R>, MergeQuery<I, R>> {
+
+        private ImmutableList<JdbcRecord<I, R>> records;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        /**
+         * Sets the records to write.
+         */
+        public Builder<I, R> setRecords(ImmutableList<JdbcRecord<I, R>> records) {
+            this.records = requireNonNull(records);
+            return getThis();
+        }
+
+        /**
+         * Sets the maximum number of records written by a single batch.
+         *
+         * <p>If not set, {@link io.spine.server.storage.jdbc.JdbcStorageFactory#DEFAULT_CHUNK_SIZE
+         * JdbcStorageFactory.DEFAULT_CHUNK_SIZE} is used.
+         */
+        public Builder<I, R> setChunkSize(int chunkSize) {
+            checkArgument(chunkSize > 0, "The chunk size must be positive.");
+            this.chunkSize = chunkSize;
+            return getThis();
+        }
+
+        @Override
+        protected Builder<I, R> getThis() {
+            return this;
+        }
+
+        @Override
+        protected void checkPreconditions() throws IllegalStateException {
+            super.checkPreconditions();
+            checkState(records != null, "Records to merge must not be `null`.");
+        }
+
+        @Override
+        protected MergeQuery<I, R> doBuild() {
+            return new MergeQuery<>(this);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.protobuf.Message;
+import com.querydsl.sql.dml.SQLInsertClause;
+import io.spine.server.storage.jdbc.TableColumn;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Inserts or updates multiple records in the MySQL database, by their IDs.
+ *
+ * <p>The records are written with multi-row
+ * {@code INSERT ... VALUES (...), (...) ON DUPLICATE KEY UPDATE} statements. Rows which already
+ * exist are updated with the values proposed for insertion, referenced via {@code VALUES(col)}.
+ *
+ * <p>The passed records are split into {@linkplain Builder#setChunkSize(int) chunks} by
+ * the query itself, each chunk written with a single statement. The size of a chunk is also
+ * limited by the number of parameters allowed in a single statement.
+ *
+ * @param <I>
+ *         the record ID type
+ * @param <R>
+ *         the record type
+ */
+public class MySqlUpsertMultipleQuery<I, R extends Message>
+        extends WriteMultipleQuery<I, R, SQLInsertClause> {
+
+    private MySqlUpsertMultipleQuery(Builder<I, R> builder) {
+        super(builder);
+    }
+
+    @Override
+    protected SQLInsertClause clause() {
+        var templates = mySqlFactory().getConfiguration()
+                                      .getTemplates();
+        var updates = tableSpec()
+                .dataColumns()
+                .stream()
+                .map(TableColumn::name)
+                .map(templates::quoteIdentifier)
+                .map(name -> name + " = VALUES(" + name + ')')
+                .collect(joining(", "));
+        var result = mySqlFactory().insertOnDuplicateKeyUpdate(table(), updates);
+        result.setBatchToBulk(true);
+        return result;
+    }
+
+    @Override
+    protected void setIdClause(SQLInsertClause query, I id) {
+        query.set(pathOf(idColumn()),
+                  idColumn().normalize(id));
+    }
+
+    @Override
+    protected void addBatch(SQLInsertClause query) {
+        query.addBatch();
+    }
+
+    public static <I, R extends Message> Builder<I, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    @SuppressWarnings("ClassNameSameAsAncestorName" /* For simplicity. */)
+    public static class Builder<I, R extends Message>
+            extends WriteMultipleQuery.Builder<I, R, Builder<I, R>,
+                                               MySqlUpsertMultipleQuery<I, R>> {
+
+        @Override
+        protected Builder<I, R> getThis() {
+            return this;
+        }
+
+        @Override
+        protected MySqlUpsertMultipleQuery<I, R> doBuild() {
+            return new MySqlUpsertMultipleQuery<>(this);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import io.spine.query.ColumnName;
+import io.spine.server.storage.jdbc.TableColumn;
+import io.spine.server.storage.jdbc.Type;
+import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A value bound to a parameter of a statement, the SQL text of which is composed by a query.
+ *
+ * <p>Unlike QueryDSL, which binds the values by the types of the column paths,
+ * {@link PreparedStatement#setObject(int, Object) setObject(..)} cannot tell the SQL type
+ * of a {@code null}. Some engines, such as PostgreSQL, reject the {@code null}s of no type.
+ * Therefore, the {@code null}s are bound with the SQL type of their column.
+ */
+final class Parameter {
+
+    private final @Nullable Object value;
+    private final int sqlType;
+
+    private Parameter(@Nullable Object value, int sqlType) {
+        this.value = value;
+        this.sqlType = sqlType;
+    }
+
+    /**
+     * Creates a parameter with the non-{@code null} value, such as a record ID.
+     */
+    static Parameter of(Object value) {
+        checkNotNull(value);
+        return new Parameter(value, Types.NULL);
+    }
+
+    /**
+     * Creates a parameter with the value of the passed column of the table.
+     */
+    static Parameter ofColumn(JdbcTableSpec<?, ?> spec,
+                              ColumnName column,
+                              @Nullable Object value) {
+        return new Parameter(value, sqlTypeOf(spec, column));
+    }
+
+    /**
+     * Returns the {@linkplain Types JDBC type} of the values of the passed column,
+     * or {@link Types#NULL} if the type is unknown.
+     */
+    static int sqlTypeOf(JdbcTableSpec<?, ?> spec, ColumnName column) {
+        var type = spec.findColumn(column)
+                       .map(TableColumn::type)
+                       .orElse(null);
+        return sqlTypeOf(type);
+    }
+
+    private static int sqlTypeOf(@Nullable Type type) {
+        if (type == null) {
+            return Types.NULL;
+        }
+        switch (type) {
+            case BYTE_ARRAY:
+            case BYTE_ARRAY_255:
+                return Types.VARBINARY;
+            case INT:
+                return Types.INTEGER;
+            case LONG:
+                return Types.BIGINT;
+            case FLOAT:
+                return Types.REAL;
+            case DOUBLE:
+                return Types.DOUBLE;
+            case STRING_255:
+            case STRING_512:
+            case STRING:
+                return Types.VARCHAR;
+            case BOOLEAN:
+                return Types.BOOLEAN;
+            case UUID:
+            default:
+                return Types.OTHER;
+        }
+    }
+
+    /**
+     * Binds the value to the parameter of the statement with the passed index.
+     */
+    static void bind(PreparedStatement statement, int index, @Nullable Object value, int sqlType)
+            throws SQLException {
+        if (value == null) {
+            statement.setNull(index, sqlType);
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    /**
+     * Binds this parameter to the statement parameter with the passed index.
+     */
+    void bindTo(PreparedStatement statement, int index) throws SQLException {
+        bind(statement, index, value, sqlType);
+    }
+}
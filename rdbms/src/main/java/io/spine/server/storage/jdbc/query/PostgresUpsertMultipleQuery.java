@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.protobuf.Message;
+import com.querydsl.core.QueryFlag.Position;
+import com.querydsl.sql.dml.SQLInsertClause;
+import io.spine.server.storage.jdbc.TableColumn;
+
+import static io.spine.server.storage.jdbc.query.PostgresUpsertOneQuery.onConflictUpdate;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Inserts or updates multiple records in the PostgreSQL database, by their IDs.
+ *
+ * <p>The records are written with multi-row
+ * {@code INSERT ... VALUES (...), (...) ON CONFLICT (ID) DO UPDATE} statements. Rows which already
+ * exist are updated with the values of the {@code EXCLUDED} pseudo-row.
+ *
+ * <p>The passed records are split into {@linkplain Builder#setChunkSize(int) chunks} by
+ * the query itself, each chunk written with a single statement. The size of a chunk is also
+ * limited by the number of bound parameters allowed by the JDBC driver.
+ *
+ * <p>PostgreSQL refuses to update the same row twice within a single statement. Therefore,
+ * the passed records must have distinct IDs.
+ *
+ * @param <I>
+ *         the record ID type
+ * @param <R>
+ *         the record type
+ */
+public class PostgresUpsertMultipleQuery<I, R extends Message>
+        extends WriteMultipleQuery<I, R, SQLInsertClause> {
+
+    private PostgresUpsertMultipleQuery(Builder<I, R> builder) {
+        super(builder);
+    }
+
+    @Override
+    protected SQLInsertClause clause() {
+        var templates = factory().getConfiguration()
+                                 .getTemplates();
+        var columns = tableSpec()
+                .dataColumns()
+                .stream()
+                .map(TableColumn::name)
+                .collect(toList());
+        var conflictClause = onConflictUpdate(templates, idColumn().columnName(), columns);
+        var result = factory().insert(table())
+                              .addFlag(Position.END, conflictClause);
+        result.setBatchToBulk(true);
+        return result;
+    }
+
+    @Override
+    protected void setIdClause(SQLInsertClause query, I id) {
+        query.set(pathOf(idColumn()),
+                  idColumn().normalize(id));
+    }
+
+    @Override
+    protected void addBatch(SQLInsertClause query) {
+        query.addBatch();
+    }
+
+    public static <I, R extends Message> Builder<I, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    @SuppressWarnings("ClassNameSameAsAncestorName" /* For simplicity. */)
+    public static class Builder<I, R extends Message>
+            extends WriteMultipleQuery.Builder<I, R, Builder<I, R>,
+                                               PostgresUpsertMultipleQuery<I, R>> {
+
+        @Override
+        protected Builder<I, R> getThis() {
+            return this;
+        }
+
+        @Override
+        protected PostgresUpsertMultipleQuery<I, R> doBuild() {
+            return new PostgresUpsertMultipleQuery<>(this);
+        }
+    }
+}
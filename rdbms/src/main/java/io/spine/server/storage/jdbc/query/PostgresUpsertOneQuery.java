@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.protobuf.Message;
+import com.querydsl.core.QueryFlag.Position;
+import com.querydsl.core.dml.StoreClause;
+import com.querydsl.sql.SQLTemplates;
+import io.spine.query.ColumnName;
+
+import static com.google.common.collect.Streams.stream;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Inserts or updates a single record in the PostgreSQL database, by the record ID.
+ *
+ * <p>This query uses a PostgreSQL-specific {@code INSERT ... ON CONFLICT (ID) DO UPDATE} syntax.
+ * In case the record by the provided ID already exists in the table, this query updates
+ * the existing row with the values of the {@code EXCLUDED} pseudo-row. Otherwise, it inserts
+ * a new table row reflecting the provided record.
+ *
+ * <p>Unlike the generic approach, the whole write takes a single statement and a single
+ * round trip to the database, and is atomic with respect to concurrent writers.
+ *
+ * @param <I>
+ *         the record ID type
+ * @param <R>
+ *         the record type
+ */
+public class PostgresUpsertOneQuery<I, R extends Message> extends WriteOneQuery<I, R> {
+
+    private PostgresUpsertOneQuery(Builder<I, R> builder) {
+        super(builder);
+    }
+
+    @Override
+    protected StoreClause<?> clause() {
+        var templates = factory().getConfiguration()
+                                 .getTemplates();
+        var columns = stream(record().columns())
+                .map(ColumnName::value)
+                .collect(toList());
+        var conflictClause = onConflictUpdate(templates, idColumn().columnName(), columns);
+        var result = insertWithId().addFlag(Position.END, conflictClause);
+        return result;
+    }
+
+    /**
+     * Composes the {@code ON CONFLICT} clause, which turns an {@code INSERT} statement
+     * into an upsert by the passed ID column.
+     *
+     * <p>Every passed column is updated with the value proposed for insertion,
+     * which is available via the {@code EXCLUDED} pseudo-table.
+     *
+     * @param templates
+     *         the templates used to quote the identifiers
+     * @param idColumn
+     *         the name of the ID column, on which the conflict is detected
+     * @param columns
+     *         the columns to update in case of a conflict
+     * @return the SQL text of the clause, prefixed with a whitespace
+     */
+    static String onConflictUpdate(SQLTemplates templates,
+                                   String idColumn,
+                                   Iterable<String> columns) {
+        var assignments = stream(columns)
+                .map(templates::quoteIdentifier)
+                .map(name -> name + " = EXCLUDED." + name)
+                .collect(joining(", "));
+        var conflictTarget = " ON CONFLICT (" + templates.quoteIdentifier(idColumn) + ")";
+        if (assignments.isEmpty()) {
+            return conflictTarget + " DO NOTHING";
+        }
+        return conflictTarget + " DO UPDATE SET " + assignments;
+    }
+
+    public static <I, R extends Message> Builder<I, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    @SuppressWarnings("ClassNameSameAsAncestorName" /* For simplicity. */)
+    public static class Builder<I, R extends Message>
+            extends WriteOneQuery.Builder<I, R, Builder<I, R>, PostgresUpsertOneQuery<I, R>> {
+
+        @Override
+        protected Builder<I, R> getThis() {
+            return this;
+        }
+
+        @Override
+        protected PostgresUpsertOneQuery<I, R> doBuild() {
+            return new PostgresUpsertOneQuery<>(this);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Objects;
+import com.querydsl.sql.AbstractSQLQueryFactory;
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.SQLCloseListener;
+import com.querydsl.sql.SQLQueryFactory;
+import com.querydsl.sql.mysql.MySQLQueryFactory;
+import io.spine.annotation.Internal;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.DatabaseException;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.sql.ResultSet.CLOSE_CURSORS_AT_COMMIT;
+import static java.sql.ResultSet.HOLD_CURSORS_OVER_COMMIT;
+
+/**
+ * The query factories and the rendered SQL statements shared by all the queries
+ * to a certain data source.
+ *
+ * <p>The QueryDSL factories, along with their configurations and listeners, are created
+ * once per fetch size, and are then reused by all the queries. The factories are stateless,
+ * and each query they produce obtains its own connection.
+ *
+ * <p>The SQL text of the statements, which differ only by the values of their parameters,
+ * is rendered once, and is then {@linkplain #statement(String, StatementKind, Object, Supplier)
+ * cached} per table, kind of the statement, and its shape, such as the number of parameters.
+ *
+ * <p>An instance is {@linkplain #of(DataSourceWrapper) shared} by the
+ * {@link io.spine.server.storage.jdbc.operation.OperationFactory OperationFactory} and
+ * the queries to the same data source. The factory passes it to the queries via
+ * {@link AbstractQuery.Builder#setQueryFactories(QueryFactories)}, and the queries built
+ * without it obtain the shared instance themselves.
+ */
+@Internal
+public final class QueryFactories {
+
+    /**
+     * The instances shared per data source.
+     *
+     * <p>The instances are held as long as anyone uses them, and the data sources
+     * are compared by identity.
+     */
+    private static final Cache<DataSourceWrapper, QueryFactories> shared =
+            Caffeine.newBuilder()
+                    .weakKeys()
+                    .weakValues()
+                    .build();
+
+    private final DataSourceWrapper dataSource;
+    private final Configuration contextConfiguration;
+    private final ConcurrentMap<Integer, AbstractSQLQueryFactory<?>> defaultFactories =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, AbstractSQLQueryFactory<?>> streamingFactories =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<StatementKey, String> statements = new ConcurrentHashMap<>();
+    private volatile @MonotonicNonNull MySQLQueryFactory mySqlFactory;
+
+    /**
+     * Creates the factories for the passed data source.
+     */
+    public QueryFactories(DataSourceWrapper dataSource) {
+        this.dataSource = checkNotNull(dataSource);
+        this.contextConfiguration = new Configuration(dataSource.templates());
+    }
+
+    /**
+     * Returns the factories shared by the queries to the passed data source.
+     */
+    public static QueryFactories of(DataSourceWrapper dataSource) {
+        checkNotNull(dataSource);
+        return shared.get(dataSource, QueryFactories::new);
+    }
+
+    /**
+     * Returns the data source of the queries.
+     */
+    public DataSourceWrapper dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Returns the factory of the transactional queries, suitable for most RDBMS engines.
+     *
+     * <p>Each query runs on its own connection in a separate transaction. The transaction
+     * is committed or rolled back by the {@linkplain AbstractQuery.TransactionHandler
+     * transaction handler}, and the connection is closed by the {@link SQLCloseListener}.
+     *
+     * <p>To support iteration over the {@link java.sql.ResultSet ResultSet} after
+     * the commit, the {@link java.sql.ResultSet#HOLD_CURSORS_OVER_COMMIT
+     * HOLD_CURSORS_OVER_COMMIT} holdability is used for the connections.
+     *
+     * @param fetchSize
+     *         the fetch size to set for the statements, or {@code 0} to use the driver default
+     */
+    AbstractSQLQueryFactory<?> defaultFactory(int fetchSize) {
+        return defaultFactories.computeIfAbsent(fetchSize, this::newDefaultFactory);
+    }
+
+    /**
+     * Returns the factory of the streaming queries.
+     *
+     * <p>Each query is executed on its own connection in a transaction, which is never
+     * committed, as the queries only read the data. The cursors are not held over commit,
+     * which allows drivers such as the PostgreSQL one to fetch the rows
+     * in portions of the {@code fetchSize}.
+     *
+     * <p>The connection is closed along with the {@code ResultSet} of the query,
+     * which rolls back the transaction.
+     *
+     * @param fetchSize
+     *         the fetch size to set for the statements, or {@code 0} to use the driver default
+     */
+    AbstractSQLQueryFactory<?> streamingFactory(int fetchSize) {
+        return streamingFactories.computeIfAbsent(fetchSize, this::newStreamingFactory);
+    }
+
+    /**
+     * Returns the MySQL-specific query factory.
+     *
+     * <p>The transactional settings of the factory are the same as for
+     * the {@linkplain #defaultFactory(int) default} one.
+     */
+    MySQLQueryFactory mySqlFactory() {
+        var result = mySqlFactory;
+        if (result == null) {
+            synchronized (this) {
+                result = mySqlFactory;
+                if (result == null) {
+                    result = newMySqlFactory(dataSource);
+                    mySqlFactory = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the configuration of the factories for the queries executed within
+     * an {@linkplain ExecutionContext execution context}.
+     *
+     * <p>Such factories neither commit the transaction nor close the connection,
+     * as it is done by the owner of the context.
+     */
+    Configuration contextConfiguration() {
+        return contextConfiguration;
+    }
+
+    /**
+     * Returns the SQL text of the statement, rendering it if it is not cached yet.
+     *
+     * <p>The statement is rendered outside any lock, so that rendering never blocks
+     * the concurrent lookups. If two threads render the same statement at once,
+     * both obtain the text cached first.
+     *
+     * @param table
+     *         the name of the table, to which the statement is executed
+     * @param kind
+     *         the kind of the statement
+     * @param shape
+     *         what else the text of the statement depends on, such as the size
+     *         of an {@code IN} list, or the names of the written columns
+     * @param render
+     *         renders the statement
+     * @return the SQL text of the statement
+     */
+    String statement(String table, StatementKind kind, Object shape, Supplier<String> render) {
+        var key = new StatementKey(table, kind, shape);
+        var cached = statements.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        var rendered = render.get();
+        var previous = statements.putIfAbsent(key, rendered);
+        return previous != null ? previous : rendered;
+    }
+
+    private AbstractSQLQueryFactory<?> newDefaultFactory(int fetchSize) {
+        var connectionSupplier = new ConnectionSupplier(dataSource, HOLD_CURSORS_OVER_COMMIT);
+        var configuration = transactional(dataSource);
+        addFetchSize(configuration, fetchSize);
+        return new SQLQueryFactory(configuration, connectionSupplier);
+    }
+
+    private AbstractSQLQueryFactory<?> newStreamingFactory(int fetchSize) {
+        var connectionSupplier = new ConnectionSupplier(dataSource, CLOSE_CURSORS_AT_COMMIT);
+        var configuration = new Configuration(dataSource.templates());
+        configuration.addListener(SQLCloseListener.DEFAULT);
+        addFetchSize(configuration, fetchSize);
+        return new SQLQueryFactory(configuration, connectionSupplier);
+    }
+
+    /**
+     * Creates a new MySQL-specific query factory.
+     */
+    static MySQLQueryFactory newMySqlFactory(DataSourceWrapper dataSource) {
+        var connectionSupplier = new ConnectionSupplier(dataSource, HOLD_CURSORS_OVER_COMMIT);
+        return new MySQLQueryFactory(transactional(dataSource), connectionSupplier);
+    }
+
+    private static Configuration transactional(DataSourceWrapper dataSource) {
+        var configuration = new Configuration(dataSource.templates());
+        configuration.addListener(AbstractQuery.TransactionHandler.INSTANCE);
+        configuration.addListener(SQLCloseListener.DEFAULT);
+        return configuration;
+    }
+
+    private static void addFetchSize(Configuration configuration, int fetchSize) {
+        if (fetchSize > 0) {
+            configuration.addListener(new FetchSizeListener(fetchSize));
+        }
+    }
+
+    /**
+     * The kinds of statements, the SQL text of which is cached.
+     */
+    enum StatementKind {
+
+        /**
+         * Selects the records by a list of IDs.
+         */
+        SELECT_BY_IDS,
+
+        /**
+         * Inserts a single record.
+         */
+        INSERT,
+
+        /**
+         * Updates a single record by its ID.
+         */
+        UPDATE_BY_ID,
+
+        /**
+         * Inserts or updates a single record by a {@code MERGE} statement.
+         */
+        MERGE
+    }
+
+    /**
+     * The key of a cached statement.
+     */
+    private static final class StatementKey {
+
+        private final String table;
+        private final StatementKind kind;
+        private final Object shape;
+
+        private StatementKey(String table, StatementKind kind, Object shape) {
+            this.table = table;
+            this.kind = kind;
+            this.shape = shape;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StatementKey)) {
+                return false;
+            }
+            var other = (StatementKey) o;
+            return kind == other.kind
+                    && table.equals(other.table)
+                    && shape.equals(other.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(table, kind, shape);
+        }
+    }
+
+    /**
+     * Obtains a connection to the underlying data source.
+     */
+    private static final class ConnectionSupplier implements Supplier<Connection> {
+
+        private final DataSourceWrapper dataSource;
+
+        private final int holdability;
+
+        private ConnectionSupplier(DataSourceWrapper source, int holdability) {
+            dataSource = source;
+            this.holdability = holdability;
+        }
+
+        @Override
+        public Connection get() {
+            var connection = dataSource
+                    .getConnection(false)
+                    .get();
+            try {
+                connection.setHoldability(holdability);
+                return connection;
+            } catch (SQLException e) {
+                throw new DatabaseException(e);
+            }
+        }
+    }
+}
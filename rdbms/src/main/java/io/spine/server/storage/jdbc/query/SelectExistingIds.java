@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Message;
+import com.querydsl.sql.AbstractSQLQuery;
+import io.spine.server.storage.jdbc.record.column.IdColumn;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Iterators.transform;
+import static io.spine.server.storage.jdbc.JdbcStorageFactory.DEFAULT_CHUNK_SIZE;
+import static io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory.idReader;
+
+/**
+ * A query selecting which of the passed IDs are present in the table.
+ *
+ * <p>Only the ID column is projected, so that the database may resolve the query using
+ * the primary key index alone, and neither the serialized records nor any other column
+ * values are transferred.
+ *
+ * <p>The IDs are returned in their {@linkplain
+ * io.spine.server.storage.jdbc.record.column.IdColumn#normalize(Object) normalized} form,
+ * exactly as stored in the table. The binary IDs are {@linkplain IdColumn#keyOf(Object)
+ * wrapped}, so that they are compared by their contents.
+ *
+ * @param <I>
+ *         the record ID type
+ * @param <R>
+ *         the record type
+ */
+public final class SelectExistingIds<I, R extends Message>
+        extends AbstractQuery<I, R>
+        implements SelectQuery<ImmutableSet<Object>> {
+
+    private final ImmutableList<I> ids;
+    private final int chunkSize;
+
+    private SelectExistingIds(Builder<I, R> builder) {
+        super(builder);
+        this.ids = builder.ids;
+        this.chunkSize = builder.chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The IDs are queried in {@linkplain Builder#setChunkSize(int) chunks},
+     * each chunk being a separate {@code SELECT} statement.
+     */
+    @Override
+    public ImmutableSet<Object> execute() {
+        var idColumn = tableSpec().idColumn();
+        var reader = idReader(idColumn.columnName(), idColumn.normalizedType());
+        var result = ImmutableSet.<Object>builder();
+        for (var chunk : Chunks.split(ids, chunkSize, 1)) {
+            var results = query(chunk).getResults();
+            result.addAll(transform(iterate(results, reader), IdColumn::keyOf));
+        }
+        return result.build();
+    }
+
+    private AbstractSQLQuery<Object, ?> query(List<I> chunk) {
+        var idColumn = tableSpec().idColumn();
+        var normalizedIds = Chunks.normalizedAndSorted(chunk, idColumn);
+        return factory().select(pathOf(idColumn))
+                        .from(table())
+                        .where(pathOf(idColumn).in(normalizedIds));
+    }
+
+    public static <I, R extends Message> Builder<I, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    @SuppressWarnings("ClassNameSameAsAncestorName" /* For simplicity. */)
+    public static class Builder<I, R extends Message>
+            extends AbstractQuery.Builder<I, R, Builder<I, R>, SelectExistingIds<I, R>> {
+
+        private ImmutableList<I> ids;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        public Builder<I, R> setIds(Iterable<I> ids) {
+            this.ids = ImmutableList.copyOf(ids);
+            return getThis();
+        }
+
+        /**
+         * Sets the maximum number of IDs queried by a single statement.
+         *
+         * <p>If not set, {@link io.spine.server.storage.jdbc.JdbcStorageFactory#DEFAULT_CHUNK_SIZE
+         * JdbcStorageFactory.DEFAULT_CHUNK_SIZE} is used.
+         */
+        public Builder<I, R> setChunkSize(int chunkSize) {
+            checkArgument(chunkSize > 0, "The chunk size must be positive.");
+            this.chunkSize = chunkSize;
+            return getThis();
+        }
+
+        @Override
+        protected Builder<I, R> getThis() {
+            return this;
+        }
+
+        @Override
+        protected SelectExistingIds<I, R> doBuild() {
+            return new SelectExistingIds<>(this);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Message;
+import io.spine.query.RecordQuery;
+import io.spine.server.storage.jdbc.query.reader.ColumnReader;
+import io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Selects the identifiers of the records from the {@link RecordTable RecordTable}
+ * which match the passed {@link RecordQuery}.
+ *
+ * <p>Only the ID column is selected, so the records are neither transferred
+ * nor deserialized. The field mask of the query is ignored.
+ *
+ * @param <I>
+ *         the type of identifiers of the queried records
+ * @param <R>
+ *         the type of queried records
+ */
+public class SelectIdsByQuery<I, R extends Message> extends AbstractQuery<I, R>
+        implements SelectQuery<Iterator<I>> {
+
+    private final RecordQuery<I, R> recordQuery;
+    private final int pageSize;
+
+    private SelectIdsByQuery(Builder<I, R> builder) {
+        super(builder);
+        this.recordQuery = builder.recordQuery;
+        this.pageSize = builder.pageSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the {@linkplain Builder#setPageSize(int) page size} is set, and the query
+     * neither filters, nor sorts, nor limits the records, the IDs are read page by page,
+     * each page by a separate query.
+     */
+    @Override
+    public Iterator<I> execute() {
+        var idColumn = idColumn();
+        if (pageSize > 0 && readsAll(recordQuery)) {
+            return new KeysetIterator<>(this::readPage, idColumn::normalize, pageSize);
+        }
+        var query = factory().select(pathOf(idColumn))
+                             .from(table());
+        restrictTo(query, recordQuery);
+        return results(query.getResults(), idReader());
+    }
+
+    private ImmutableList<I> readPage(@Nullable Object after, int pageSize) {
+        var query = factory().select(pathOf(idColumn()))
+                             .from(table());
+        restrictToPage(query, after, pageSize);
+        var iterator = iterate(query.getResults(), idReader());
+        return ImmutableList.copyOf(iterator);
+    }
+
+    private ColumnReader<I> idReader() {
+        return ColumnReaderFactory.idReader(idColumn());
+    }
+
+    /**
+     * Creates and returns a new builder for {@code SelectIdsByQuery}.
+     *
+     * @param <I>
+     *         the type of identifiers of the queried records
+     * @param <R>
+     *         the type of queried records
+     * @return a new {@code Builder} instance
+     */
+    public static <I, R extends Message> Builder<I, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    /**
+     * A builder of {@code SelectIdsByQuery}.
+     *
+     * @param <I>
+     *         the type of identifiers of the queried records
+     * @param <R>
+     *         the type of queried records
+     */
+    @SuppressWarnings("ClassNameSameAsAncestorName" /* For simplicity. */)
+    public static class Builder<I, R extends Message>
+            extends AbstractQuery.Builder<I, R, Builder<I, R>, SelectIdsByQuery<I, R>> {
+
+        private RecordQuery<I, R> recordQuery;
+        private int pageSize = 0;
+
+        private Builder() {
+            super();
+        }
+
+        public Builder<I, R> setQuery(RecordQuery<I, R> recordQuery) {
+            this.recordQuery = checkNotNull(recordQuery);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of IDs read by a single query,
+         * when the IDs of all the records of the table are read.
+         *
+         * <p>If not set, or set to {@code 0}, the IDs are read by a single query.
+         *
+         * @param pageSize
+         *         the non-negative number of IDs
+         */
+        public Builder<I, R> setPageSize(int pageSize) {
+            checkArgument(pageSize >= 0,
+                          "The page size must not be negative, but was %s.", pageSize);
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Checks that the record query is set.
+         */
+        @Override
+        protected void checkPreconditions() throws IllegalStateException {
+            super.checkPreconditions();
+            checkNotNull(recordQuery, "`RecordQuery` must be set.");
+        }
+
+        @Override
+        protected SelectIdsByQuery<I, R> doBuild() {
+            return new SelectIdsByQuery<>(this);
+        }
+
+        @Override
+        protected Builder<I, R> getThis() {
+            return this;
+        }
+    }
+}
@@ -26,17 +26,16 @@
 
 package io.spine.server.storage.jdbc.query;
 
-import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Message;
 import com.querydsl.sql.AbstractSQLQuery;
 import io.spine.server.storage.jdbc.DatabaseException;
-import io.spine.server.storage.jdbc.record.Serializer;
+import io.spine.server.storage.jdbc.record.MessageCodec;
+import io.spine.server.storage.jdbc.record.compression.Compression;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.server.storage.jdbc.record.column.BytesColumn.bytesColumnName;
 import static java.util.Objects.requireNonNull;
 
@@ -52,13 +51,16 @@ public abstract class SelectMessageByIdQuery<I, R extends Message>
         extends ReadByIdQuery<I, R>
         implements SelectQuery<R> {
 
-    private final Descriptor messageDescriptor;
+    private final MessageCodec codec;
+    private final Compression compression;
 
     protected SelectMessageByIdQuery(
             Builder<I, R, ? extends Builder<I, R, ?, ?>,
                     ? extends SelectMessageByIdQuery<I, R>> builder) {
         super(builder);
-        this.messageDescriptor = requireNonNull(builder.tableSpec()).recordDescriptor();
+        var tableSpec = requireNonNull(builder.tableSpec());
+        this.codec = tableSpec.codec();
+        this.compression = tableSpec.compression();
     }
 
     /**
@@ -67,7 +69,7 @@ public abstract class SelectMessageByIdQuery<I, R extends Message>
      * @return a message or {@code null} if there is no needed data
      * @throws DatabaseException
      *         if an error occurs during an interaction with the DB
-     * @see Serializer#deserialize
+     * @see MessageCodec#decode(byte[])
      */
     @Override
     public final @Nullable R execute() throws DatabaseException {
@@ -92,7 +94,8 @@ public abstract class SelectMessageByIdQuery<I, R extends Message>
     /**
      * Retrieves a message from a DB result set.
      *
-     * <p>The default implementation reads a message as byte array and deserializes it.
+     * <p>The default implementation reads a message as byte array, decompresses it
+     * if needed, and deserializes it.
      *
      * @param resultSet
      *         a data set with the cursor pointed to the first row
@@ -101,14 +104,13 @@ public abstract class SelectMessageByIdQuery<I, R extends Message>
      *         if an error occurs during an interaction with the DB
      */
     protected @Nullable R readMessage(ResultSet resultSet) throws SQLException {
-        checkNotNull(messageDescriptor);
         var bytes = resultSet.getBytes(bytesColumnName());
         if (bytes == null) {
             return null;
         }
 
         @SuppressWarnings("unchecked") // It's up to user to provide correct binary data for unpack.
-        var message = (R) Serializer.deserialize(bytes, messageDescriptor);
+        var message = (R) codec.decode(compression.decode(bytes));
         return message;
     }
 
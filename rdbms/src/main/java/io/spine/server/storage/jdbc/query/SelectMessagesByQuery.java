@@ -27,31 +27,29 @@
 package io.spine.server.storage.jdbc.query;
 
 import com.google.common.collect.ImmutableList;
-import com.google.protobuf.Descriptors.Descriptor;
+import com.google.common.collect.ObjectArrays;
+import com.google.common.collect.Streams;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.sql.AbstractSQLQuery;
+import com.querydsl.core.types.Expression;
 import io.spine.query.RecordQuery;
-import io.spine.query.SortBy;
 import io.spine.server.storage.FieldMaskApplier;
+import io.spine.server.storage.jdbc.query.DbIterator.DoubleColumnRecord;
+import io.spine.server.storage.jdbc.query.reader.ColumnReader;
 import io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory;
 import io.spine.server.storage.jdbc.record.RecordTable;
-import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.sql.ResultSet;
 import java.util.Iterator;
+import java.util.StringJoiner;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterators.transform;
-import static com.querydsl.core.types.dsl.Expressions.comparablePath;
-import static io.spine.query.Direction.ASC;
-import static io.spine.server.storage.jdbc.query.QueryPredicates.inIds;
-import static io.spine.server.storage.jdbc.query.QueryPredicates.matchPredicate;
+import static io.spine.server.storage.jdbc.Sql.Query.EXPLAIN;
 import static io.spine.server.storage.jdbc.record.column.BytesColumn.bytesColumnName;
-import static java.util.Objects.requireNonNull;
 
 /**
  * Selects multiple records from the {@link RecordTable RecordTable}
@@ -66,30 +64,38 @@ public class SelectMessagesByQuery<I, R extends Message> extends AbstractQuery<I
         implements SelectQuery<Iterator<R>> {
 
     private final RecordQuery<I, R> recordQuery;
-    private final JdbcColumnMapping columnMapping;
-    private final Descriptor descriptor;
+    private final int pageSize;
+    private final @Nullable ColumnProjection<R> projection;
 
     private SelectMessagesByQuery(Builder<I, R> builder) {
         super(builder);
         this.recordQuery = builder.recordQuery;
-        var tableSpec = requireNonNull(builder.tableSpec());
-        this.columnMapping = tableSpec.columnMapping();
-        this.descriptor = tableSpec.recordDescriptor();
+        this.pageSize = builder.pageSize;
+        this.projection = ColumnProjection.of(tableSpec(), recordQuery.mask())
+                                          .orElse(null);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the {@linkplain Builder#setPageSize(int) page size} is set, and the query
+     * neither filters, nor sorts, nor limits the records, the records are read page by page,
+     * each page by a separate query.
+     *
+     * <p>If all the fields of the query mask are stored in the columns of the table,
+     * the masked records are restored from these columns, and the serialized records
+     * are not read.
+     */
     @Override
     public Iterator<R> execute() {
-        var subject = recordQuery.subject();
-        var idColumn = tableSpec().idColumn();
-        var inIds = inIds(idColumn, subject.id().values());
-        var matchParameters = matchPredicate(subject.predicate(), columnMapping);
-
-        var query = factory().select(pathOf(bytesColumnName()))
-                             .where(inIds)
-                             .where(matchParameters)
+        if (pageSize > 0 && readsAll(recordQuery)) {
+            var pages = new KeysetIterator<>(this::readPage, this::keyOf, pageSize);
+            var records = transform(pages, DoubleColumnRecord::second);
+            return maskFields(records);
+        }
+        var query = factory().select(selection())
                              .from(table());
-        addSorting(query, recordQuery.sorting());
-        setLimit(query);
+        restrictTo(query, recordQuery);
 
         var resultSet = query.getResults();
         var records = asIterator(resultSet);
@@ -97,36 +103,91 @@ public class SelectMessagesByQuery<I, R extends Message> extends AbstractQuery<I
         return maskedRecords;
     }
 
-    private void setLimit(AbstractSQLQuery<Object, ? extends AbstractSQLQuery<Object, ?>> query) {
-        var limit = recordQuery.limit();
-        if(limit != null && limit >= 0) {
-            query.limit(limit);
-        }
+    /**
+     * Obtains the plan of this query from the database, by executing it
+     * with the {@code EXPLAIN} prefix.
+     *
+     * <p>The plan is read row by row, with the columns of each row separated by spaces.
+     * The query is not paginated.
+     *
+     * <p>The {@code EXPLAIN} prefix is supported by H2, MySQL, and PostgreSQL.
+     * For other engines, the execution fails.
+     *
+     * @throws io.spine.server.storage.jdbc.DatabaseException
+     *         if the plan cannot be obtained
+     */
+    public ImmutableList<String> explain() {
+        var query = factory().select(selection())
+                             .from(table());
+        restrictTo(query, recordQuery);
+        var bindings = query.getSQL();
+        var sql = EXPLAIN + bindings.getSQL();
+        return withConnection(connection -> {
+            @SuppressWarnings("JDBCPrepareStatementWithNonConstantString" /* QueryDSL SQL. */)
+            var statement = connection.prepareStatement(sql);
+            try (statement) {
+                var index = 1;
+                for (var value : bindings.getNullFriendlyBindings()) {
+                    statement.setObject(index++, value);
+                }
+                try (var resultSet = statement.executeQuery()) {
+                    var columnCount = resultSet.getMetaData()
+                                               .getColumnCount();
+                    var result = ImmutableList.<String>builder();
+                    while (resultSet.next()) {
+                        var row = new StringJoiner(" ");
+                        for (var column = 1; column <= columnCount; column++) {
+                            row.add(String.valueOf(resultSet.getString(column)));
+                        }
+                        result.add(row.toString());
+                    }
+                    return result.build();
+                }
+            }
+        });
+    }
+
+    private ImmutableList<DoubleColumnRecord<I, R>> readPage(@Nullable Object after,
+                                                             int pageSize) {
+        var idColumn = idColumn();
+        var idReader = ColumnReaderFactory.idReader(idColumn);
+        Expression<?> idPath = pathOf(idColumn);
+        var query = factory().select(ObjectArrays.concat(idPath, selection()))
+                             .from(table());
+        restrictToPage(query, after, pageSize);
+        var iterator = iterate(query.getResults(), idReader, recordReader());
+        return ImmutableList.copyOf(iterator);
+    }
+
+    private Object keyOf(DoubleColumnRecord<I, R> row) {
+        return idColumn().normalize(row.first());
     }
 
-    private void addSorting(AbstractSQLQuery<Object, ?> query, Iterable<SortBy<?, R>> sorting) {
-        for (var sortDirective : sorting) {
-            var column = sortDirective.column();
-            var name = column.name().value();
-            var sortingPath = comparablePath(Comparable.class, name);
-            var order = sortDirective.direction() == ASC ? Order.ASC : Order.DESC;
-            var specifier = new OrderSpecifier<>(order, sortingPath);
-            query.orderBy(specifier);
+    /**
+     * Returns the columns to select in order to read the records.
+     */
+    private Expression<?>[] selection() {
+        if (projection == null) {
+            return new Expression<?>[]{pathOf(bytesColumnName())};
         }
+        return Streams.stream(projection.columns())
+                      .map(this::pathOf)
+                      .toArray(Expression<?>[]::new);
+    }
+
+    private ColumnReader<R> recordReader() {
+        return projection == null ? messageReader() : projection.reader();
     }
 
     private Iterator<R> asIterator(ResultSet resultSet) {
-        var messageReader = ColumnReaderFactory.<R>messageReader(bytesColumnName(), descriptor);
-        var records = DbIterator.over(resultSet, messageReader);
-        var result = ImmutableList.copyOf(records);
-        return result.iterator();
+        return results(resultSet, recordReader());
     }
 
     @NonNull
     private Iterator<R> maskFields(Iterator<R> records) {
         var mask = recordQuery.mask();
         Iterator<R> result;
-        if (!mask.equals(FieldMask.getDefaultInstance())) {
+        if (projection == null && !mask.equals(FieldMask.getDefaultInstance())) {
             var masker = new FieldMaskApplier<R>(mask);
             result = transform(records, masker::apply);
         } else {
@@ -161,6 +222,7 @@ public class SelectMessagesByQuery<I, R extends Message> extends AbstractQuery<I
             extends AbstractQuery.Builder<I, R, Builder<I, R>, SelectMessagesByQuery<I, R>> {
 
         private RecordQuery<I, R> recordQuery;
+        private int pageSize = 0;
 
         private Builder() {
             super();
@@ -171,6 +233,22 @@ public class SelectMessagesByQuery<I, R extends Message> extends AbstractQuery<I
             return this;
         }
 
+        /**
+         * Sets the maximum number of records read by a single query,
+         * when all the records of the table are read.
+         *
+         * <p>If not set, or set to {@code 0}, the records are read by a single query.
+         *
+         * @param pageSize
+         *         the non-negative number of records
+         */
+        public Builder<I, R> setPageSize(int pageSize) {
+            checkArgument(pageSize >= 0,
+                          "The page size must not be negative, but was %s.", pageSize);
+            this.pageSize = pageSize;
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          *
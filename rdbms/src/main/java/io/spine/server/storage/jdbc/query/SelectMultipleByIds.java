@@ -27,17 +27,21 @@
 package io.spine.server.storage.jdbc.query;
 
 import com.google.common.collect.ImmutableList;
-import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Message;
 import com.querydsl.sql.AbstractSQLQuery;
+import io.spine.server.storage.jdbc.query.reader.ColumnReader;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
 import java.util.Iterator;
+import java.util.List;
 
-import static io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory.messageReader;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Iterators.concat;
+import static com.google.common.collect.Iterators.transform;
+import static io.spine.server.storage.jdbc.JdbcStorageFactory.DEFAULT_CHUNK_SIZE;
+import static io.spine.server.storage.jdbc.query.Chunks.MAX_PARAMETERS;
+import static io.spine.server.storage.jdbc.query.QueryFactories.StatementKind.SELECT_BY_IDS;
 import static io.spine.server.storage.jdbc.record.column.BytesColumn.bytesColumnName;
-import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Selects multiple records from the {@link RecordTable} by their IDs.
@@ -52,33 +56,79 @@ public final class SelectMultipleByIds<I, R extends Message>
         implements SelectQuery<Iterator<R>> {
 
     private final ImmutableList<I> ids;
-    private final Descriptor messageDescriptor;
+    private final int chunkSize;
 
     private SelectMultipleByIds(Builder<I, R> builder) {
         super(builder);
         this.ids = builder.ids;
-        this.messageDescriptor = requireNonNull(builder.tableSpec()).recordDescriptor();
+        this.chunkSize = builder.chunkSize;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The IDs are queried in {@linkplain Builder#setChunkSize(int) chunks},
+     * each chunk being a separate {@code SELECT} statement. For a
+     * {@linkplain Builder#setStreaming(boolean) streaming} query, each next chunk is queried
+     * once the records of the previous one are iterated over.
+     *
+     * <p>Otherwise, the {@code IN} list of each chunk is {@linkplain Chunks#bucket(int, int)
+     * padded} by repeating its last ID, so that the chunks of the similar sizes are selected
+     * by the same statement. The text of such a statement is rendered once, and is then
+     * {@linkplain QueryFactories#statement cached}.
+     */
     @Override
     public Iterator<R> execute() {
-        var results = query().getResults();
-        DbIterator<R> iterator =
-                DbIterator.over(results,
-                                messageReader(bytesColumnName(), messageDescriptor));
-        var list = ImmutableList.copyOf(iterator);
-        return list.iterator();
+        var reader = messageReader();
+        var chunks = Chunks.split(ids, chunkSize, 1);
+        if (isStreaming()) {
+            var results = transform(chunks.iterator(),
+                                    chunk -> results(query(normalized(chunk)).getResults(),
+                                                     reader));
+            return concat(results);
+        }
+        var result = ImmutableList.<R>builder();
+        for (var chunk : chunks) {
+            result.addAll(read(chunk, reader));
+        }
+        return result.build()
+                     .iterator();
     }
 
-    AbstractSQLQuery<Object, ?> query() {
-        var idColumn = tableSpec().idColumn();
-        var normalizedIds = ids
-                .stream()
-                .map(idColumn::normalize)
-                .collect(toList());
+    private ImmutableList<R> read(List<I> chunk, ColumnReader<R> reader) {
+        var normalizedIds = normalized(chunk);
+        var size = Chunks.bucket(normalizedIds.size(), Math.min(chunkSize, MAX_PARAMETERS));
+        var padded = Chunks.padded(normalizedIds, size);
+        var sql = queryFactories().statement(tableSpec().tableName(), SELECT_BY_IDS, size,
+                                             () -> query(padded).getSQL()
+                                                                .getSQL());
+        return withConnection(connection -> {
+            @SuppressWarnings("JDBCPrepareStatementWithNonConstantString" /* Rendered once. */)
+            var statement = connection.prepareStatement(sql);
+            try (statement) {
+                var index = 1;
+                for (var id : padded) {
+                    statement.setObject(index++, id);
+                }
+                try (var resultSet = statement.executeQuery()) {
+                    var result = ImmutableList.<R>builder();
+                    while (resultSet.next()) {
+                        result.add(reader.readValue(resultSet));
+                    }
+                    return result.build();
+                }
+            }
+        });
+    }
+
+    private ImmutableList<Object> normalized(List<I> chunk) {
+        return Chunks.normalizedAndSorted(chunk, tableSpec().idColumn());
+    }
+
+    private AbstractSQLQuery<Object, ?> query(List<Object> normalizedIds) {
         return factory().select(pathOf(bytesColumnName()))
                         .from(table())
-                        .where(pathOf(idColumn).in(normalizedIds));
+                        .where(pathOf(tableSpec().idColumn()).in(normalizedIds));
     }
 
     public static <I, M extends Message> Builder<I, M> newBuilder() {
@@ -90,12 +140,25 @@ public final class SelectMultipleByIds<I, R extends Message>
             extends AbstractQuery.Builder<I, R, Builder<I, R>, SelectMultipleByIds<I, R>> {
 
         private ImmutableList<I> ids;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
 
         public Builder<I, R> setIds(Iterable<I> ids) {
             this.ids = ImmutableList.copyOf(ids);
             return getThis();
         }
 
+        /**
+         * Sets the maximum number of IDs queried by a single statement.
+         *
+         * <p>If not set, {@link io.spine.server.storage.jdbc.JdbcStorageFactory#DEFAULT_CHUNK_SIZE
+         * JdbcStorageFactory.DEFAULT_CHUNK_SIZE} is used.
+         */
+        public Builder<I, R> setChunkSize(int chunkSize) {
+            checkArgument(chunkSize > 0, "The chunk size must be positive.");
+            this.chunkSize = chunkSize;
+            return getThis();
+        }
+
         @Override
         protected Builder<I, R> getThis() {
             return this;
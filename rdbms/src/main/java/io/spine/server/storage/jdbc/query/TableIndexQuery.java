@@ -28,14 +28,21 @@ package io.spine.server.storage.jdbc.query;
 
 import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.query.reader.ColumnReader;
+import io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Iterator;
 
-import static io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory.idReader;
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * A query for all the IDs in a certain table.
  *
+ * <p>If the {@linkplain Builder#setPageSize(int) page size} is set, the IDs are read
+ * page by page, each page by a separate query. Otherwise, all the IDs are selected
+ * by a single query.
+ *
  * @param <I>
  *         the type of IDs
  * @param <R>
@@ -44,22 +51,35 @@ import static io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory.idRe
 public class TableIndexQuery<I, R extends Message>
         extends AbstractQuery<I, R> implements SelectQuery<Iterator<I>> {
 
+    private final int pageSize;
+
     private TableIndexQuery(Builder<I, R> builder) {
         super(builder);
+        this.pageSize = builder.pageSize;
     }
 
     @Override
     public Iterator<I> execute() {
-        var idColumn = tableSpec().idColumn();
+        var idColumn = idColumn();
+        if (pageSize > 0) {
+            return new KeysetIterator<>(this::readPage, idColumn::normalize, pageSize);
+        }
         var resultSet = factory().select(pathOf(idColumn))
-                                 .distinct()
                                  .from(table())
                                  .getResults();
-        var columnType = idColumn.javaType();
-        var idColumnReader = idReader(idColumn.columnName(), columnType);
-        var iterator = DbIterator.over(resultSet, idColumnReader);
-        var records = ImmutableList.copyOf(iterator);
-        return records.iterator();
+        return results(resultSet, idReader());
+    }
+
+    private ImmutableList<I> readPage(@Nullable Object after, int pageSize) {
+        var query = factory().select(pathOf(idColumn()))
+                             .from(table());
+        restrictToPage(query, after, pageSize);
+        var iterator = iterate(query.getResults(), idReader());
+        return ImmutableList.copyOf(iterator);
+    }
+
+    private ColumnReader<I> idReader() {
+        return ColumnReaderFactory.idReader(idColumn());
     }
 
     public static <I, R extends Message> Builder<I, R> newBuilder() {
@@ -70,6 +90,23 @@ public class TableIndexQuery<I, R extends Message>
     public static class Builder<I, R extends Message>
             extends AbstractQuery.Builder<I, R, Builder<I, R>, TableIndexQuery<I, R>> {
 
+        private int pageSize = 0;
+
+        /**
+         * Sets the maximum number of IDs read by a single query.
+         *
+         * <p>If not set, or set to {@code 0}, all the IDs are read by a single query.
+         *
+         * @param pageSize
+         *         the non-negative number of IDs
+         */
+        public Builder<I, R> setPageSize(int pageSize) {
+            checkArgument(pageSize >= 0,
+                          "The page size must not be negative, but was %s.", pageSize);
+            this.pageSize = pageSize;
+            return getThis();
+        }
+
         @Override
         protected TableIndexQuery<I, R> doBuild() {
             return new TableIndexQuery<>(this);
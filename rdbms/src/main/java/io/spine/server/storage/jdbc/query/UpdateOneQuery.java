@@ -26,10 +26,21 @@
 
 package io.spine.server.storage.jdbc.query;
 
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
 import com.querydsl.core.dml.StoreClause;
+import io.spine.query.ColumnName;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.COMMA;
+import static io.spine.server.storage.jdbc.Sql.BuildingBlock.EQUAL;
+import static io.spine.server.storage.jdbc.Sql.Query.PLACEHOLDER;
+import static io.spine.server.storage.jdbc.Sql.Query.SET;
+import static io.spine.server.storage.jdbc.Sql.Query.UPDATE;
+import static io.spine.server.storage.jdbc.Sql.Query.WHERE;
+import static io.spine.server.storage.jdbc.query.QueryFactories.StatementKind.UPDATE_BY_ID;
+
 /**
  * Updates a single record in a {@link RecordTable}.
  *
@@ -44,6 +55,51 @@ public final class UpdateOneQuery<I, R extends Message> extends WriteOneQuery<I,
         super(builder);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The text of the {@code UPDATE} statement is rendered once per table and set
+     * of the written columns, and is then {@linkplain QueryFactories#statement cached}.
+     */
+    @CanIgnoreReturnValue
+    @Override
+    public long execute() {
+        var columns = columns();
+        var sql = queryFactories().statement(tableSpec().tableName(), UPDATE_BY_ID, columns,
+                                             () -> updateStatement(columns));
+        var parameters = valuesOf(columns);
+        parameters.add(Parameter.of(normalizedId()));
+        return execute(sql, parameters);
+    }
+
+    /**
+     * Composes the text of the {@code UPDATE} statement, with the placeholders
+     * for the values of the passed columns and the record ID.
+     */
+    private String updateStatement(ImmutableList<ColumnName> columns) {
+        var templates = factory().getConfiguration()
+                                 .getTemplates();
+        var sql = new StringBuilder();
+        sql.append(UPDATE)
+           .append(templates.quoteIdentifier(tableSpec().tableName()))
+           .append(SET);
+        var first = true;
+        for (var column : columns) {
+            if (!first) {
+                sql.append(COMMA);
+            }
+            sql.append(templates.quoteIdentifier(column.value()))
+               .append(EQUAL)
+               .append(PLACEHOLDER);
+            first = false;
+        }
+        sql.append(WHERE)
+           .append(templates.quoteIdentifier(idColumn().columnName()))
+           .append(EQUAL)
+           .append(PLACEHOLDER);
+        return sql.toString();
+    }
+
     @Override
     protected StoreClause<?> clause() {
         return updateById();
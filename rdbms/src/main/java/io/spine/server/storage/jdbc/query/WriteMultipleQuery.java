@@ -33,6 +33,8 @@ import com.querydsl.core.dml.StoreClause;
 import io.spine.server.storage.jdbc.record.JdbcRecord;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.spine.server.storage.jdbc.JdbcStorageFactory.DEFAULT_CHUNK_SIZE;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -50,22 +52,36 @@ abstract class WriteMultipleQuery<I, R extends Message, C extends StoreClause<C>
         extends WriteQuery<I, R> {
 
     private final ImmutableList<JdbcRecord<I, R>> records;
+    private final int chunkSize;
 
     WriteMultipleQuery(Builder<I, R, ? extends Builder<I, R, ?, ?>,
             ? extends WriteMultipleQuery<I, R, ?>> builder) {
         super(builder);
         this.records = builder.records;
+        this.chunkSize = builder.chunkSize;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The records are written in {@linkplain Builder#setChunkSize(int) chunks}, each chunk
+     * being executed as a separate batch. Within a chunk, the records are ordered by their IDs.
+     */
     @Override
     @CanIgnoreReturnValue
     public long execute() {
         if (records.isEmpty()) {
             return 0;
         }
-        var query = clause();
-        records.forEach(record -> addToBatch(query, record));
-        return query.execute();
+        var parametersPerRecord = tableSpec().dataColumns().size() + 1;
+        long result = 0;
+        for (var chunk : Chunks.split(records, chunkSize, parametersPerRecord)) {
+            var query = clause();
+            Chunks.sortedById(chunk, idColumn())
+                  .forEach(record -> addToBatch(query, record));
+            result += query.execute();
+        }
+        return result;
     }
 
     /**
@@ -98,10 +114,23 @@ abstract class WriteMultipleQuery<I, R extends Message, C extends StoreClause<C>
             extends AbstractQuery.Builder<I, R, B, Q> {
 
         private ImmutableList<JdbcRecord<I, R>> records;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
 
         public B setRecords(ImmutableList<JdbcRecord<I, R>> records) {
             this.records = requireNonNull(records);
             return getThis();
         }
+
+        /**
+         * Sets the maximum number of records written by a single batch.
+         *
+         * <p>If not set, {@link io.spine.server.storage.jdbc.JdbcStorageFactory#DEFAULT_CHUNK_SIZE
+         * JdbcStorageFactory.DEFAULT_CHUNK_SIZE} is used.
+         */
+        public B setChunkSize(int chunkSize) {
+            checkArgument(chunkSize > 0, "The chunk size must be positive.");
+            this.chunkSize = chunkSize;
+            return getThis();
+        }
     }
 }
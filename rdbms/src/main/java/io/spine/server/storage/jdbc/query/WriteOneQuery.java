@@ -26,6 +26,7 @@
 
 package io.spine.server.storage.jdbc.query;
 
+import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
 import com.querydsl.core.dml.StoreClause;
@@ -38,6 +39,9 @@ import io.spine.server.storage.jdbc.TableColumn;
 import io.spine.server.storage.jdbc.record.JdbcRecord;
 import io.spine.server.storage.jdbc.record.RecordTable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -65,6 +69,50 @@ public abstract class WriteOneQuery<I, R extends Message> extends WriteQuery<I,
         return query.execute();
     }
 
+    /**
+     * Executes the passed statement with the passed parameters bound in their order.
+     *
+     * <p>Used by the queries, which cache the text of their statements
+     * in the {@linkplain QueryFactories shared factories}.
+     *
+     * @param sql
+     *         the text of the statement
+     * @param parameters
+     *         the statement parameters, {@code null}s included
+     * @return the number of affected rows
+     */
+    final long execute(String sql, List<Parameter> parameters) {
+        return withConnection(connection -> {
+            @SuppressWarnings("JDBCPrepareStatementWithNonConstantString" /* Rendered once. */)
+            var statement = connection.prepareStatement(sql);
+            try (statement) {
+                var index = 1;
+                for (var parameter : parameters) {
+                    parameter.bindTo(statement, index++);
+                }
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Returns the names of the columns of the written record, in their order.
+     */
+    final ImmutableList<ColumnName> columns() {
+        return ImmutableList.copyOf(record.columns());
+    }
+
+    /**
+     * Returns the parameters with the values of the passed columns of the written record.
+     */
+    final List<Parameter> valuesOf(List<ColumnName> columns) {
+        List<Parameter> result = new ArrayList<>(columns.size() + 1);
+        for (var column : columns) {
+            result.add(Parameter.ofColumn(tableSpec(), column, record.columnValue(column)));
+        }
+        return result;
+    }
+
     /**
      * Obtains an SQL clause to use, basically {@code INSERT} or {@code UPDATE}.
      */
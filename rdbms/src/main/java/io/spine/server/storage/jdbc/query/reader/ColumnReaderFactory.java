@@ -29,6 +29,13 @@ package io.spine.server.storage.jdbc.query.reader;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
+import io.spine.server.storage.jdbc.query.BytesReadMode;
+import io.spine.server.storage.jdbc.record.column.IdColumn;
+import io.spine.server.storage.jdbc.record.compression.Compression;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.server.storage.jdbc.query.BytesReadMode.BINARY_STREAM;
+import static io.spine.server.storage.jdbc.query.BytesReadMode.BYTE_ARRAY;
 
 /**
  * The factory which creates {@link ColumnReader} instances.
@@ -58,6 +65,21 @@ public final class ColumnReaderFactory {
         return IndexColumnReaders.create(columnName, idType);
     }
 
+    /**
+     * Creates a reader for the passed ID column, which restores the identifiers
+     * in the {@linkplain IdColumn#encoding() encoding} of the column.
+     *
+     * @param column
+     *         the column to create the reader for
+     * @param <I>
+     *         the compile-time type of the IDs stored in the column
+     * @return the {@code ColumnReader} instance for the given column
+     */
+    public static <I> ColumnReader<I> idReader(IdColumn<I> column) {
+        checkNotNull(column);
+        return IndexColumnReaders.create(column);
+    }
+
     /**
      * Creates a reader for the column storing serialized Protobuf {@linkplain Message messages}.
      *
@@ -71,6 +93,55 @@ public final class ColumnReaderFactory {
      */
     public static <M extends Message> ColumnReader<M>
     messageReader(String columnName, Descriptor messageDescriptor) {
-        return MessageBytesColumnReader.create(columnName, messageDescriptor);
+        return messageReader(columnName, messageDescriptor, Compression.none());
+    }
+
+    /**
+     * Creates a reader for the column storing serialized Protobuf {@linkplain Message messages},
+     * which may be compressed.
+     *
+     * @param columnName
+     *         the name of the column to create the reader for
+     * @param messageDescriptor
+     *         the descriptor of the column message type
+     * @param compression
+     *         the compression settings of the stored values
+     * @param <M>
+     *         the compile-time type of the messages stored in the column
+     * @return the {@code ColumnReader} for the given column
+     */
+    public static <M extends Message> ColumnReader<M>
+    messageReader(String columnName, Descriptor messageDescriptor, Compression compression) {
+        return messageReader(columnName, messageDescriptor, compression, BYTE_ARRAY);
+    }
+
+    /**
+     * Creates a reader for the column storing serialized Protobuf {@linkplain Message messages},
+     * which reads the values in the specified way.
+     *
+     * <p>The reader created for the {@link BytesReadMode#BINARY_STREAM BINARY_STREAM} mode
+     * reuses its buffer, and therefore must not be shared between the iterators.
+     *
+     * @param columnName
+     *         the name of the column to create the reader for
+     * @param messageDescriptor
+     *         the descriptor of the column message type
+     * @param compression
+     *         the compression settings of the stored values
+     * @param mode
+     *         the way of reading the values
+     * @param <M>
+     *         the compile-time type of the messages stored in the column
+     * @return the {@code ColumnReader} for the given column
+     */
+    public static <M extends Message> ColumnReader<M>
+    messageReader(String columnName,
+                  Descriptor messageDescriptor,
+                  Compression compression,
+                  BytesReadMode mode) {
+        checkNotNull(mode);
+        return mode == BINARY_STREAM
+               ? MessageStreamColumnReader.create(columnName, messageDescriptor, compression)
+               : MessageBytesColumnReader.create(columnName, messageDescriptor, compression);
     }
 }
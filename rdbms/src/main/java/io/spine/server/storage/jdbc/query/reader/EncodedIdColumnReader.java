@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query.reader;
+
+import io.spine.server.storage.jdbc.record.column.IdColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The reader for the columns which store the identifiers in an
+ * {@linkplain io.spine.server.storage.jdbc.record.column.IdEncoding encoding}
+ * other than JSON.
+ *
+ * <p>Reads the stored value, and restores the identifier from it.
+ *
+ * @param <I>
+ *         the type of the identifiers
+ */
+final class EncodedIdColumnReader<I> extends ColumnReader<I> {
+
+    private final IdColumn<I> column;
+    private final ColumnReader<?> storedValues;
+
+    /**
+     * Creates a new {@code EncodedIdColumnReader} instance.
+     *
+     * @param column
+     *         the column to read
+     * @param storedValues
+     *         the reader of the values as they are stored in the column
+     */
+    EncodedIdColumnReader(IdColumn<I> column, ColumnReader<?> storedValues) {
+        super(column.columnName());
+        this.column = column;
+        this.storedValues = checkNotNull(storedValues);
+    }
+
+    @Override
+    public I readValue(ResultSet resultSet) throws SQLException {
+        checkNotNull(resultSet);
+        var stored = storedValues.readValue(resultSet);
+        var result = column.denormalize(stored);
+        return result;
+    }
+}
@@ -28,7 +28,11 @@ package io.spine.server.storage.jdbc.query.reader;
 
 import com.google.common.primitives.Primitives;
 import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.record.column.IdColumn;
 
+import java.util.UUID;
+
+import static io.spine.server.storage.jdbc.record.column.IdEncoding.JSON;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
@@ -41,6 +45,27 @@ final class IndexColumnReaders {
     private IndexColumnReaders() {
     }
 
+    /**
+     * Creates a new reader for the passed ID column.
+     *
+     * <p>Takes into account the {@linkplain IdColumn#encoding() encoding}
+     * of the stored identifiers.
+     *
+     * @param column
+     *         the column storing the IDs
+     * @param <I>
+     *         the compile-time type of the IDs
+     * @return a new instance of the {@code ColumnReader}
+     */
+    static <I> ColumnReader<I> create(IdColumn<I> column) {
+        var name = column.columnName();
+        if (column.encoding() == JSON) {
+            return create(name, column.javaType());
+        }
+        var storedValues = create(name, column.normalizedType());
+        return new EncodedIdColumnReader<>(column, storedValues);
+    }
+
     /**
      * Creates a new iterator for the column storing entity IDs.
      *
@@ -64,6 +89,10 @@ final class IndexColumnReaders {
             return (ColumnReader<I>) new LongColumnReader(columnName);
         } else if (Message.class.isAssignableFrom(idType)) {
             return new MessageColumnReader(columnName, idType);
+        } else if (byte[].class == idType) {
+            return (ColumnReader<I>) new ByteArrayColumnReader(columnName);
+        } else if (UUID.class == idType) {
+            return (ColumnReader<I>) new UuidColumnReader(columnName);
         } else {
             throw newIllegalArgumentException("ID type '%s' is not supported.", idType);
         }
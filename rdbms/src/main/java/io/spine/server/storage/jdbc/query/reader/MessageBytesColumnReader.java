@@ -28,28 +28,34 @@ package io.spine.server.storage.jdbc.query.reader;
 
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.record.MessageCodec;
+import io.spine.server.storage.jdbc.record.compression.Compression;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.server.storage.jdbc.record.Serializer.deserialize;
 
 /**
  * The reader for the columns which store Protobuf messages in a serialized form.
  *
  * <p>The result of the read operation is a deserialized {@link Message}.
+ * The compressed values are decompressed prior to deserialization.
  *
  * @param <M>
  *         the type of the messages stored in the column
  */
 final class MessageBytesColumnReader<M extends Message> extends ColumnReader<M> {
 
-    private final Descriptor messageDescriptor;
+    private final MessageCodec codec;
+    private final Compression compression;
 
-    private MessageBytesColumnReader(String columnName, Descriptor messageDescriptor) {
+    private MessageBytesColumnReader(String columnName,
+                                     Descriptor messageDescriptor,
+                                     Compression compression) {
         super(columnName);
-        this.messageDescriptor = messageDescriptor;
+        this.codec = MessageCodec.of(messageDescriptor);
+        this.compression = compression;
     }
 
     /**
@@ -59,19 +65,21 @@ final class MessageBytesColumnReader<M extends Message> extends ColumnReader<M>
      *         the name of the column to read
      * @param messageDescriptor
      *         the {@code Descriptor} of the column message type
+     * @param compression
+     *         the compression settings of the stored values
      */
     static <M extends Message> ColumnReader<M>
-    create(String columnName, Descriptor messageDescriptor) {
-        return new MessageBytesColumnReader<>(columnName, messageDescriptor);
+    create(String columnName, Descriptor messageDescriptor, Compression compression) {
+        return new MessageBytesColumnReader<>(columnName, messageDescriptor, compression);
     }
 
     @Override
     public M readValue(ResultSet resultSet) throws SQLException {
         checkNotNull(resultSet);
-        var bytes = resultSet.getBytes(columnName());
+        var bytes = compression.decode(resultSet.getBytes(columnName()));
 
         @SuppressWarnings("unchecked") // It's up to user to provide correct binary data for unpack.
-        var result = (M) deserialize(bytes, messageDescriptor);
+        var result = (M) codec.decode(bytes);
         return result;
     }
 }
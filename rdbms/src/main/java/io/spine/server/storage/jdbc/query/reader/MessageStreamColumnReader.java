@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query.reader;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Message;
+import io.spine.server.storage.jdbc.DatabaseException;
+import io.spine.server.storage.jdbc.record.MessageCodec;
+import io.spine.server.storage.jdbc.record.compression.Compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The reader for the columns which store Protobuf messages in a serialized form,
+ * which reads the values from the {@linkplain ResultSet#getBinaryStream(String) binary streams}.
+ *
+ * <p>Unlike {@link MessageBytesColumnReader}, this reader does not make the JDBC driver allocate
+ * an array per row. Instead, the value is copied into a buffer, which is owned by the reader,
+ * and grows to fit the largest value read so far. The message is then parsed straight
+ * from the buffer.
+ *
+ * <p>A single instance of this reader must be used by a single iterator at a time.
+ *
+ * @param <M>
+ *         the type of the messages stored in the column
+ */
+final class MessageStreamColumnReader<M extends Message> extends ColumnReader<M> {
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final MessageCodec codec;
+    private final Compression compression;
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+    private MessageStreamColumnReader(String columnName,
+                                      Descriptor messageDescriptor,
+                                      Compression compression) {
+        super(columnName);
+        this.codec = MessageCodec.of(messageDescriptor);
+        this.compression = compression;
+    }
+
+    /**
+     * Creates a new instance of the {@code MessageStreamColumnReader}.
+     *
+     * @param columnName
+     *         the name of the column to read
+     * @param messageDescriptor
+     *         the {@code Descriptor} of the column message type
+     * @param compression
+     *         the compression settings of the stored values
+     */
+    static <M extends Message> ColumnReader<M>
+    create(String columnName, Descriptor messageDescriptor, Compression compression) {
+        return new MessageStreamColumnReader<>(columnName, messageDescriptor, compression);
+    }
+
+    @Override
+    public M readValue(ResultSet resultSet) throws SQLException {
+        checkNotNull(resultSet);
+        try (var stream = resultSet.getBinaryStream(columnName())) {
+            checkState(stream != null, "The column `%s` has no value.", columnName());
+            var length = readFully(stream);
+            @SuppressWarnings("unchecked") // It's up to user to provide correct binary data.
+            var result = (M) decode(length);
+            return result;
+        } catch (IOException e) {
+            throw new DatabaseException(e);
+        }
+    }
+
+    private Message decode(int length) {
+        if (Compression.isCompressed(buffer, length)) {
+            var stored = Arrays.copyOf(buffer, length);
+            return codec.decode(compression.decode(stored));
+        }
+        return codec.decode(buffer, 0, length);
+    }
+
+    /**
+     * Reads the stream into the buffer, growing it if needed.
+     *
+     * @return the number of bytes read
+     */
+    private int readFully(InputStream stream) throws IOException {
+        var length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            var read = stream.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                return length;
+            }
+            length += read;
+        }
+    }
+}
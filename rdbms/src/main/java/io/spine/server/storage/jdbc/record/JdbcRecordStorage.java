@@ -27,6 +27,7 @@
 package io.spine.server.storage.jdbc.record;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
@@ -37,8 +38,16 @@ import io.spine.server.storage.RecordSpec;
 import io.spine.server.storage.RecordStorage;
 import io.spine.server.storage.RecordWithColumns;
 import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.GroupCommitStats;
+import io.spine.server.storage.jdbc.record.cache.RecordCacheConfig;
+import io.spine.server.storage.jdbc.record.cache.RecordCacheStats;
+import io.spine.server.storage.jdbc.record.stats.IndexAdvice;
+import io.spine.server.storage.jdbc.record.stats.IndexAdvisor;
+import io.spine.server.storage.jdbc.record.stats.QueryStatistics;
 
+import java.time.Duration;
 import java.util.Iterator;
+import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -152,6 +161,78 @@ public class JdbcRecordStorage<I, R extends Message> extends RecordStorage<I, R>
         return table.index();
     }
 
+    /**
+     * Counts the records which match the passed query.
+     *
+     * <p>The records are counted by the database, with no records being read.
+     * If the query has a limit, the result does not exceed it.
+     *
+     * @param query
+     *         the query to match the records
+     * @return the number of matching records
+     */
+    public long count(RecordQuery<I, R> query) {
+        checkNotNull(query);
+        checkNotClosed();
+        return table.count(query);
+    }
+
+    /**
+     * Tells whether any record matches the passed query.
+     *
+     * @param query
+     *         the query to match the records
+     * @return {@code true} if at least one record matches the query, {@code false} otherwise
+     */
+    public boolean exists(RecordQuery<I, R> query) {
+        checkNotNull(query);
+        checkNotClosed();
+        return table.exists(query);
+    }
+
+    /**
+     * Returns the statistics of the cache of the records read by their IDs,
+     * or empty {@code Optional} if the records are not cached.
+     *
+     * @see JdbcStorageFactory.Builder#setCache(Class, RecordCacheConfig)
+     */
+    public Optional<RecordCacheStats> cacheStats() {
+        return table.cacheStats();
+    }
+
+    /**
+     * Returns the statistics of the group commits of the single-record writes,
+     * or empty {@code Optional} if the writes are not grouped.
+     *
+     * @see JdbcStorageFactory.Builder#enableGroupCommit(Duration, int)
+     */
+    public Optional<GroupCommitStats> groupCommitStats() {
+        return table.groupCommitStats();
+    }
+
+    /**
+     * Returns the statistics of the queries to the storage, per shape of the queries,
+     * or empty {@code Optional} if the statistics are not collected.
+     *
+     * @see JdbcStorageFactory.Builder#enableQueryStatistics()
+     */
+    public Optional<QueryStatistics> queryStatistics() {
+        return table.queryStatistics();
+    }
+
+    /**
+     * Suggests the indexes for the table of the storage, based upon
+     * the {@linkplain #queryStatistics() statistics} of the queries.
+     *
+     * @param advisor
+     *         the advisor to use
+     * @return the suggested indexes, or an empty list if the statistics are not collected
+     */
+    public ImmutableList<IndexAdvice> adviseIndexes(IndexAdvisor advisor) {
+        checkNotNull(advisor);
+        return advisor.advise(table);
+    }
+
     @Override
     public void write(I id, R record) {
         var spec = (RecordSpec<I, R>) recordSpec();
@@ -27,8 +27,10 @@
 package io.spine.server.storage.jdbc.record;
 
 import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Message;
 import io.spine.protobuf.Messages;
@@ -37,14 +39,26 @@ import io.spine.query.ColumnName;
 import io.spine.server.storage.RecordSpec;
 import io.spine.server.storage.RecordWithColumns;
 import io.spine.server.storage.jdbc.TableColumn;
+import io.spine.server.storage.jdbc.operation.WriteStrategy;
+import io.spine.server.storage.jdbc.record.cache.RecordCacheConfig;
 import io.spine.server.storage.jdbc.record.column.BytesColumn;
 import io.spine.server.storage.jdbc.record.column.IdColumn;
+import io.spine.server.storage.jdbc.record.column.IdEncoding;
+import io.spine.server.storage.jdbc.record.compression.Compression;
 import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
@@ -65,11 +79,21 @@ public final class JdbcTableSpec<I, R extends Message> {
     private final JdbcColumnMapping columnMapping;
     private final IdColumn<I> idColumn;
     private final Descriptor recordDescriptor;
+    private final MessageCodec codec;
     private final ImmutableMap<ColumnName, TableColumn> dataColumns;
+    private final WriteStrategy writeStrategy;
+    private final Compression compression;
+    private final @Nullable RecordCacheConfig cacheConfig;
+    private final ImmutableList<TableIndex> indexes;
+    private final ImmutableSet<ColumnName> mirroredColumns;
 
     /**
      * Creates a new table specification, also setting a custom name for the table.
      *
+     * <p>The records are written to the table with the {@linkplain WriteStrategy#DEFAULT
+     * default} strategy, and are not compressed. Use {@link #newBuilder()} to configure
+     * these settings.
+     *
      * <p>It is a responsibility of callers to select the table name which is both unique and
      * compatible with the requirements of the underlying database engine.
      *
@@ -81,12 +105,25 @@ public final class JdbcTableSpec<I, R extends Message> {
      *         the column mapping to use
      */
     public JdbcTableSpec(String tableName, RecordSpec<I, R> recordSpec, JdbcColumnMapping mapping) {
-        this.tableName = checkNotEmptyOrBlank(tableName);
-        this.recordSpec = recordSpec;
-        columnMapping = mapping;
-        this.idColumn = IdColumn.of(recordSpec, columnMapping);
+        this(JdbcTableSpec.<I, R>newBuilder()
+                     .setTableName(tableName)
+                     .setRecordSpec(recordSpec)
+                     .setColumnMapping(mapping));
+    }
+
+    private JdbcTableSpec(Builder<I, R> builder) {
+        this.tableName = requireNonNull(builder.tableName);
+        this.recordSpec = requireNonNull(builder.recordSpec);
+        this.columnMapping = requireNonNull(builder.columnMapping);
+        this.writeStrategy = builder.writeStrategy;
+        this.compression = builder.compression;
+        this.cacheConfig = builder.cacheConfig;
+        this.idColumn = IdColumn.of(recordSpec, columnMapping, builder.idEncoding);
         this.recordDescriptor = descriptorFrom(recordSpec.recordType());
+        this.codec = MessageCodec.of(recordDescriptor);
         this.dataColumns = createDataColumns();
+        this.indexes = createIndexes(builder.indexes);
+        this.mirroredColumns = createMirroredColumns(builder.mirroredColumns);
     }
 
     private static Descriptor descriptorFrom(Class<? extends Message> type) {
@@ -129,6 +166,59 @@ public final class JdbcTableSpec<I, R extends Message> {
         return columnMapping;
     }
 
+    /**
+     * Returns the strategy of writing the records to the table.
+     */
+    public WriteStrategy writeStrategy() {
+        return writeStrategy;
+    }
+
+    /**
+     * Returns the codec of the stored records.
+     */
+    public MessageCodec codec() {
+        return codec;
+    }
+
+    /**
+     * Returns the compression settings of the serialized records stored in the table.
+     */
+    public Compression compression() {
+        return compression;
+    }
+
+    /**
+     * Returns the settings of the cache of the records read by their IDs,
+     * or empty {@code Optional} if the records are not cached.
+     */
+    public Optional<RecordCacheConfig> cacheConfig() {
+        return Optional.ofNullable(cacheConfig);
+    }
+
+    /**
+     * Returns the secondary indexes of the table.
+     *
+     * <p>If the records have the {@code archived} and {@code deleted} columns, as the records
+     * of the entity states do, the index over these columns is included by default.
+     */
+    public ImmutableList<TableIndex> indexes() {
+        return indexes;
+    }
+
+    /**
+     * Tells whether the passed column is declared to hold the value of the record field
+     * of the same name, as is.
+     *
+     * <p>The masked fields of the records are only restored from such columns, with no need
+     * to read the serialized records.
+     *
+     * @see Builder#addMirroredColumn(String)
+     */
+    public boolean mirrorsField(ColumnName column) {
+        checkNotNull(column);
+        return mirroredColumns.contains(column);
+    }
+
     /**
      * Returns all table columns except for the {@linkplain #idColumn() ID column}.
      */
@@ -136,6 +226,14 @@ public final class JdbcTableSpec<I, R extends Message> {
         return dataColumns.values();
     }
 
+    /**
+     * Returns the {@linkplain #dataColumns() data column} with the passed name, if any.
+     */
+    public Optional<TableColumn> findColumn(ColumnName name) {
+        checkNotNull(name);
+        return Optional.ofNullable(dataColumns.get(name));
+    }
+
     /**
      * Returns the names of the {@linkplain #dataColumns() data columns}.
      */
@@ -154,6 +252,41 @@ public final class JdbcTableSpec<I, R extends Message> {
         return result;
     }
 
+    private ImmutableList<TableIndex> createIndexes(List<TableIndex> declared) {
+        var result = ImmutableList.<TableIndex>builder();
+        for (var index : declared) {
+            checkArgument(hasColumnsOf(index),
+                          "The table `%s` does not have all the index columns `%s`.",
+                          tableName, index.columns());
+            result.add(index);
+        }
+        var lifecycle = TableIndex.lifecycle();
+        if (hasColumnsOf(lifecycle) && !declared.contains(lifecycle)) {
+            result.add(lifecycle);
+        }
+        return result.build();
+    }
+
+    private ImmutableSet<ColumnName> createMirroredColumns(Set<String> declared) {
+        var result = ImmutableSet.<ColumnName>builder();
+        for (var column : declared) {
+            checkArgument(dataColumns.containsKey(ColumnName.of(column)),
+                          "The table `%s` does not have the mirrored column `%s`.",
+                          tableName, column);
+            checkArgument(recordDescriptor.findFieldByName(column) != null,
+                          "The records of the table `%s` do not have the mirrored field `%s`.",
+                          tableName, column);
+            result.add(ColumnName.of(column));
+        }
+        return result.build();
+    }
+
+    private boolean hasColumnsOf(TableIndex index) {
+        return index.columns()
+                    .stream()
+                    .allMatch(column -> dataColumns.containsKey(ColumnName.of(column)));
+    }
+
     private TableColumn toNativeColumn(Column<?, ?> column) {
         var name = column.name();
         var nativeColumn = new TableColumn(name.value(), column.type(), columnMapping);
@@ -162,7 +295,7 @@ public final class JdbcTableSpec<I, R extends Message> {
 
     private void addBytesColumn(Map<ColumnName, TableColumn> cols) {
         var bytesColumnName = ColumnName.of(BytesColumn.bytesColumnName());
-        var bytesColumn = new BytesColumn(columnMapping);
+        var bytesColumn = new BytesColumn(columnMapping, compression);
         cols.put(bytesColumnName, bytesColumn);
     }
 
@@ -197,4 +330,166 @@ public final class JdbcTableSpec<I, R extends Message> {
     RecordSpec<I, R> recordSpec() {
         return recordSpec;
     }
+
+    /**
+     * Creates a new {@code Builder} of table specifications.
+     *
+     * @param <I>
+     *         the type of identifiers of the stored records
+     * @param <R>
+     *         the type of the stored records
+     */
+    public static <I, R extends Message> Builder<I, R> newBuilder() {
+        return new Builder<>();
+    }
+
+    /**
+     * A builder of {@code JdbcTableSpec} instances.
+     *
+     * <p>The table name, the record specification, and the column mapping are required.
+     *
+     * @param <I>
+     *         the type of identifiers of the stored records
+     * @param <R>
+     *         the type of the stored records
+     */
+    public static final class Builder<I, R extends Message> {
+
+        private @Nullable String tableName;
+        private @Nullable RecordSpec<I, R> recordSpec;
+        private @Nullable JdbcColumnMapping columnMapping;
+        private WriteStrategy writeStrategy = WriteStrategy.DEFAULT;
+        private Compression compression = Compression.none();
+        private @Nullable RecordCacheConfig cacheConfig;
+        private IdEncoding idEncoding = IdEncoding.JSON;
+        private final List<TableIndex> indexes = new ArrayList<>();
+        private final Set<String> mirroredColumns = new LinkedHashSet<>();
+
+        /**
+         * Prevents direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the name of the table.
+         *
+         * <p>It is a responsibility of callers to select the table name which is both unique
+         * and compatible with the requirements of the underlying database engine.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> setTableName(String tableName) {
+            this.tableName = checkNotEmptyOrBlank(tableName);
+            return this;
+        }
+
+        /**
+         * Sets the original specification of the stored record.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> setRecordSpec(RecordSpec<I, R> recordSpec) {
+            this.recordSpec = checkNotNull(recordSpec);
+            return this;
+        }
+
+        /**
+         * Sets the column mapping to use.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> setColumnMapping(JdbcColumnMapping mapping) {
+            this.columnMapping = checkNotNull(mapping);
+            return this;
+        }
+
+        /**
+         * Sets the strategy of writing the records to the table.
+         *
+         * <p>If not set, {@link WriteStrategy#DEFAULT} is used.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> setWriteStrategy(WriteStrategy strategy) {
+            this.writeStrategy = checkNotNull(strategy);
+            return this;
+        }
+
+        /**
+         * Sets the compression settings of the serialized records.
+         *
+         * <p>If not set, the records are stored {@linkplain Compression#none() uncompressed}.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> setCompression(Compression compression) {
+            this.compression = checkNotNull(compression);
+            return this;
+        }
+
+        /**
+         * Sets the settings of the cache of the records read by their IDs.
+         *
+         * <p>If not set, the records are not cached.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> setCacheConfig(RecordCacheConfig config) {
+            this.cacheConfig = checkNotNull(config);
+            return this;
+        }
+
+        /**
+         * Sets the way the message identifiers of the records are stored.
+         *
+         * <p>If not set, the identifiers are stored {@linkplain IdEncoding#JSON as JSON}.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> setIdEncoding(IdEncoding encoding) {
+            this.idEncoding = checkNotNull(encoding);
+            return this;
+        }
+
+        /**
+         * Adds a secondary index of the table.
+         *
+         * <p>The indexed columns must be the columns of the stored records.
+         * The same index added several times is created once.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> addIndex(TableIndex index) {
+            checkNotNull(index);
+            if (!indexes.contains(index)) {
+                indexes.add(index);
+            }
+            return this;
+        }
+
+        /**
+         * Declares that the column holds the value of the record field of the same name, as is.
+         *
+         * <p>The masked fields of the records are then restored from the mirrored columns,
+         * if possible, with no need to read and parse the serialized records. The columns
+         * are not mirrored by default, as a column may share the name with a field, yet hold
+         * a value derived from it.
+         */
+        @CanIgnoreReturnValue
+        public Builder<I, R> addMirroredColumn(String column) {
+            checkNotEmptyOrBlank(column);
+            mirroredColumns.add(column);
+            return this;
+        }
+
+        /**
+         * Creates a new table specification.
+         *
+         * @throws IllegalStateException
+         *         if any of the required values is not set
+         * @throws IllegalArgumentException
+         *         if an index or a mirrored column refers to a column, which the table
+         *         does not have, if the records have no field mirrored by a column,
+         *         or if the record identifiers cannot be stored in the set encoding
+         */
+        public JdbcTableSpec<I, R> build() {
+            checkState(tableName != null, "The table name must be set.");
+            checkState(recordSpec != null, "The record specification must be set.");
+            checkState(columnMapping != null, "The column mapping must be set.");
+            return new JdbcTableSpec<>(this);
+        }
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.record;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.spine.annotation.Internal;
+import io.spine.protobuf.Messages;
+import io.spine.server.storage.jdbc.DatabaseException;
+import io.spine.type.TypeUrl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Converts the Protobuf messages of a certain type to bytes, and back.
+ *
+ * <p>The codec parses the stored bytes with the {@link Parser} of the message type directly,
+ * with no intermediate {@code ByteString} or {@code Any}. The parser is resolved once
+ * per message type, and the codecs are cached per {@link Descriptor}.
+ *
+ * <p>The messages are serialized straight into an array of their serialized size.
+ */
+@Internal
+public final class MessageCodec {
+
+    private static final ConcurrentMap<Descriptor, MessageCodec> codecs =
+            new ConcurrentHashMap<>();
+
+    private final Descriptor descriptor;
+    private final Message defaultInstance;
+    private final Parser<? extends Message> parser;
+
+    private MessageCodec(Descriptor descriptor) {
+        this.descriptor = descriptor;
+        var messageClass = TypeUrl.from(descriptor)
+                                  .toJavaClass();
+        this.defaultInstance = Messages.getDefaultInstance(messageClass);
+        this.parser = defaultInstance.getParserForType();
+    }
+
+    /**
+     * Returns the codec of the messages of the described type.
+     *
+     * @param descriptor
+     *         the descriptor of the message type
+     */
+    public static MessageCodec of(Descriptor descriptor) {
+        checkNotNull(descriptor);
+        return codecs.computeIfAbsent(descriptor, MessageCodec::new);
+    }
+
+    /**
+     * Creates a new builder of the messages of the codec type.
+     */
+    public Message.Builder newBuilder() {
+        return defaultInstance.newBuilderForType();
+    }
+
+    /**
+     * Serializes the message to an array of bytes.
+     *
+     * @param message
+     *         the message to serialize
+     * @return a byte array, which length is equal to the serialized size of the message
+     */
+    public byte[] encode(Message message) {
+        checkNotNull(message);
+        return message.toByteArray();
+    }
+
+    /**
+     * Parses the message from the passed bytes.
+     *
+     * @param bytes
+     *         the serialized message
+     * @return a message instance
+     * @throws DatabaseException
+     *         if the bytes do not represent a message of the codec type
+     */
+    public Message decode(byte[] bytes) {
+        checkNotNull(bytes);
+        try {
+            return parser.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            var message = format("Unable to parse the stored record of type `%s`.",
+                                 descriptor.getFullName());
+            throw new DatabaseException(message, e);
+        }
+    }
+
+    /**
+     * Parses the message from the range of the passed array.
+     *
+     * <p>The bytes are read from the array in place, with no copying.
+     *
+     * @param bytes
+     *         the array containing the serialized message
+     * @param offset
+     *         the index of the first byte of the message
+     * @param length
+     *         the size of the serialized message
+     * @return a message instance
+     * @throws DatabaseException
+     *         if the bytes do not represent a message of the codec type
+     */
+    public Message decode(byte[] bytes, int offset, int length) {
+        checkNotNull(bytes);
+        try {
+            return parser.parseFrom(bytes, offset, length);
+        } catch (InvalidProtocolBufferException e) {
+            var message = format("Unable to parse the stored record of type `%s`.",
+                                 descriptor.getFullName());
+            throw new DatabaseException(message, e);
+        }
+    }
+}
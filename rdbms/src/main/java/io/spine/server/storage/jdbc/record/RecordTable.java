@@ -26,7 +26,9 @@
 
 package io.spine.server.storage.jdbc.record;
 
-import com.google.common.collect.Iterators;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
@@ -35,14 +37,30 @@ import io.spine.query.RecordQuery;
 import io.spine.server.storage.RecordWithColumns;
 import io.spine.server.storage.jdbc.DataSourceWrapper;
 import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.GroupCommitStats;
+import io.spine.server.storage.jdbc.operation.GroupCommitWriter;
 import io.spine.server.storage.jdbc.operation.OperationFactory;
+import io.spine.server.storage.jdbc.operation.ReadCoalescer;
+import io.spine.server.storage.jdbc.operation.ReadManyByQuery;
+import io.spine.server.storage.jdbc.query.BytesReadMode;
+import io.spine.server.storage.jdbc.query.QueryFactories;
+import io.spine.server.storage.jdbc.record.cache.RecordCache;
+import io.spine.server.storage.jdbc.record.cache.RecordCacheConfig;
+import io.spine.server.storage.jdbc.record.cache.RecordCacheStats;
 import io.spine.server.storage.jdbc.record.column.IdColumn;
+import io.spine.server.storage.jdbc.record.stats.QueryStatistics;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.Map;
+import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 
 /**
  * An SQL table storing a single {@link Message} type.
@@ -56,14 +74,46 @@ public class RecordTable<I, R extends Message> implements WithLogging {
 
     private final JdbcTableSpec<I, R> spec;
     private final OperationFactory operations;
+    private final QueryFactories queryFactories;
     private final Descriptor descriptor;
     private final DataSourceWrapper dataSource;
+    private final int chunkSize;
+    private final BytesReadMode bytesReadMode;
+    private final int fetchSize;
+    private final int pageSize;
+    private final boolean streamingReads;
+    private final @Nullable RecordCache<I, R> cache;
+    private final @Nullable Duration readCoalescingWindow;
+    private final int readBatchSize;
+    private volatile @Nullable ReadCoalescer<I, R> coalescer;
+    private final @Nullable Duration groupCommitWait;
+    private final int writeBatchSize;
+    private volatile @Nullable GroupCommitWriter<I, R> groupWriter;
+    private final @Nullable QueryStatistics queryStatistics;
 
     protected RecordTable(JdbcTableSpec<I, R> tableSpec, JdbcStorageFactory factory) {
         spec = tableSpec;
         operations = factory.operations();
+        queryFactories = operations.queryFactories();
         dataSource = factory.dataSource();
+        chunkSize = factory.chunkSize();
+        bytesReadMode = operations.bytesReadMode();
+        fetchSize = factory.fetchSize();
+        pageSize = factory.pageSize();
+        streamingReads = factory.streamsReads();
         this.descriptor = tableSpec.recordDescriptor();
+        this.cache = tableSpec.cacheConfig()
+                              .map(RecordCache::<I, R>create)
+                              .orElse(null);
+        this.readCoalescingWindow = factory.readCoalescingWindow()
+                                           .orElse(null);
+        this.readBatchSize = factory.readBatchSize();
+        this.groupCommitWait = factory.groupCommitWait()
+                                      .orElse(null);
+        this.writeBatchSize = factory.writeBatchSize();
+        this.queryStatistics = factory.collectsQueryStatistics()
+                               ? new QueryStatistics()
+                               : null;
     }
 
     /**
@@ -114,6 +164,62 @@ public class RecordTable<I, R extends Message> implements WithLogging {
         return spec;
     }
 
+    /**
+     * Returns the maximum number of records or IDs passed to a single SQL statement
+     * by the multi-record operations over this table.
+     *
+     * @see JdbcStorageFactory.Builder#setChunkSize(int)
+     */
+    public final int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the way of reading the serialized records stored in this table.
+     *
+     * @see OperationFactory#bytesReadMode()
+     */
+    public final BytesReadMode bytesReadMode() {
+        return bytesReadMode;
+    }
+
+    /**
+     * Returns the query factories shared by the queries to this table.
+     *
+     * @see OperationFactory#queryFactories()
+     */
+    public final QueryFactories queryFactories() {
+        return queryFactories;
+    }
+
+    /**
+     * Returns the number of rows fetched from the database at once by the multi-record reads.
+     *
+     * @see JdbcStorageFactory.Builder#setFetchSize(int)
+     */
+    public final int fetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Returns the maximum number of records or IDs read by a single SQL statement,
+     * when all the records or IDs of this table are read.
+     *
+     * @see JdbcStorageFactory.Builder#setPageSize(int)
+     */
+    public final int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Tells whether the multi-record reads return the records lazily.
+     *
+     * @see JdbcStorageFactory.Builder#enableStreamingReads()
+     */
+    public final boolean streamsReads() {
+        return streamingReads;
+    }
+
     /**
      * Creates a table in the underlying storage.
      */
@@ -135,9 +241,30 @@ public class RecordTable<I, R extends Message> implements WithLogging {
      * and returns an iterator over the results.
      */
     public Iterator<I> index(RecordQuery<I, R> query) {
-        var records = read(query);
-        var ids = Iterators.transform(records, spec::idFromRecord);
-        return ids;
+        var result = operations.readIdsByQuery(this)
+                               .execute(query);
+        return result;
+    }
+
+    /**
+     * Counts the records which match the passed query.
+     *
+     * <p>The records are counted by the database, with no records being read.
+     * If the query has a limit, the result does not exceed it.
+     */
+    public long count(RecordQuery<I, R> query) {
+        var result = operations.countByQuery(this)
+                               .execute(query);
+        return result;
+    }
+
+    /**
+     * Tells whether any record matches the passed query.
+     */
+    public boolean exists(RecordQuery<I, R> query) {
+        var result = operations.existsByQuery(this)
+                               .execute(query);
+        return result;
     }
 
     /**
@@ -157,25 +284,229 @@ public class RecordTable<I, R extends Message> implements WithLogging {
      * to the underlying RDBMS engine,
      * including usage of RDBMS-specific SQL expressions.
      *
+     * <p>If the {@linkplain JdbcStorageFactory.Builder#enableGroupCommit(Duration, int)
+     * group commit} is enabled, the record is written within the same transaction
+     * as the records written concurrently by other threads.
+     *
      * @param record
      *         record to write
      */
     public void write(RecordWithColumns<I, R> record) {
-        var operation = operations.writeOne(this);
         var wrapped = new JdbcRecord<>(spec, record);
-        operation.execute(wrapped);
+        if (cache == null) {
+            doWrite(wrapped);
+            return;
+        }
+        var id = record.id();
+        cache.beginWrite(id);
+        @Nullable R written = null;
+        try {
+            doWrite(wrapped);
+            written = record.record();
+        } finally {
+            cache.endWrite(id, written);
+        }
+    }
+
+    private void doWrite(JdbcRecord<I, R> record) {
+        if (groupCommitWait != null) {
+            groupWriter().execute(record);
+        } else {
+            operations.writeOne(this)
+                      .execute(record);
+        }
     }
 
     /**
      * Reads records matching the passed query,
      * and returns an iterator over the results.
+     *
+     * <p>If the records of this table are {@linkplain #cacheStats() cached}, and the query
+     * selects the records by their IDs only, the records are looked up in the cache first.
+     *
+     * <p>If the {@linkplain JdbcStorageFactory.Builder#enableReadCoalescing(Duration, int)
+     * read coalescing} is enabled, a read of a single record by its ID is coalesced
+     * with the reads requested concurrently by other threads.
      */
     public Iterator<R> read(RecordQuery<I, R> query) {
-        var result = operations.readManyByQuery(this)
-                               .execute(query);
+        if (ReadManyByQuery.readsByIdsOnly(query)) {
+            var ids = query.subject()
+                           .id()
+                           .values();
+            if (cache != null) {
+                return readCached(cache, ids);
+            }
+            if (coalescesReads(ids)) {
+                return readByIds(ids);
+            }
+        }
+        var operation = operations.readManyByQuery(this);
+        if (queryStatistics == null || ReadManyByQuery.readsByIdsOnly(query)) {
+            return operation.execute(query);
+        }
+        return queryStatistics.track(query, () -> operation.execute(query));
+    }
+
+    /**
+     * Returns the statistics of the queries to this table, or empty {@code Optional}
+     * if the statistics are not collected.
+     *
+     * @see JdbcStorageFactory.Builder#enableQueryStatistics()
+     */
+    public final Optional<QueryStatistics> queryStatistics() {
+        return Optional.ofNullable(queryStatistics);
+    }
+
+    /**
+     * Obtains the plan of the passed query from the database.
+     *
+     * @see io.spine.server.storage.jdbc.query.SelectMessagesByQuery#explain()
+     */
+    public ImmutableList<String> explain(RecordQuery<I, R> query) {
+        return operations.readManyByQuery(this)
+                         .explain(query);
+    }
+
+    /**
+     * Creates the passed index of this table, unless it already exists.
+     */
+    public void createIndex(TableIndex index) {
+        operations.createTable(this)
+                  .createIndex(index);
+    }
+
+    /**
+     * Reads the records by their IDs, looking them up in the cache first.
+     *
+     * <p>The records are returned in the order of the passed IDs.
+     */
+    private Iterator<R> readCached(RecordCache<I, R> cache, Collection<I> ids) {
+        var cached = cache.getAllPresent(ids);
+        var missing = ids.stream()
+                         .filter(id -> !cached.containsKey(id))
+                         .distinct()
+                         .collect(toImmutableList());
+        Map<I, R> loaded = missing.isEmpty()
+                           ? ImmutableMap.of()
+                           : load(cache, missing);
+        var result = ImmutableList.<R>builder();
+        for (var id : ids) {
+            var record = cached.containsKey(id) ? cached.get(id) : loaded.get(id);
+            if (record != null) {
+                result.add(record);
+            }
+        }
+        return result.build()
+                     .iterator();
+    }
+
+    /**
+     * Reads the records missing in the cache from the database, and caches them.
+     */
+    private Map<I, R> load(RecordCache<I, R> cache, ImmutableList<I> ids) {
+        Map<I, Long> tokens = new HashMap<>(ids.size());
+        for (var id : ids) {
+            tokens.put(id, cache.beginLoad(id));
+        }
+        Map<I, R> result = new HashMap<>(ids.size());
+        try {
+            var loaded = readByIds(ids);
+            while (loaded.hasNext()) {
+                var record = loaded.next();
+                var id = spec.idFromRecord(record);
+                var token = tokens.get(id);
+                if (token != null) {
+                    cache.putLoaded(id, record, token);
+                }
+                result.put(id, record);
+            }
+        } finally {
+            ids.forEach(cache::endLoad);
+        }
+        return result;
+    }
+
+    private boolean coalescesReads(Collection<I> ids) {
+        return readCoalescingWindow != null && ids.size() == 1;
+    }
+
+    private Iterator<R> readByIds(Collection<I> ids) {
+        if (coalescesReads(ids)) {
+            var id = Iterables.getOnlyElement(ids);
+            return coalescer().execute(id)
+                              .stream()
+                              .iterator();
+        }
+        return operations.readManyByIds(this)
+                         .execute(ids);
+    }
+
+    /**
+     * Returns the operation coalescing the reads of single records from this table.
+     *
+     * <p>The operation is created upon the first call, and is then shared by all the reads.
+     */
+    private ReadCoalescer<I, R> coalescer() {
+        var result = coalescer;
+        if (result == null) {
+            synchronized (this) {
+                result = coalescer;
+                if (result == null) {
+                    result = operations.readCoalescer(this,
+                                                      checkNotNull(readCoalescingWindow),
+                                                      readBatchSize);
+                    coalescer = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the operation grouping the writes of single records to this table.
+     *
+     * <p>The operation is created upon the first call, and is then shared by all the writes.
+     */
+    private GroupCommitWriter<I, R> groupWriter() {
+        var result = groupWriter;
+        if (result == null) {
+            synchronized (this) {
+                result = groupWriter;
+                if (result == null) {
+                    result = operations.groupCommitWriter(this,
+                                                          checkNotNull(groupCommitWait),
+                                                          writeBatchSize);
+                    groupWriter = result;
+                }
+            }
+        }
         return result;
     }
 
+    /**
+     * Returns the statistics of the group commits of the writes to this table,
+     * or empty {@code Optional} if the writes are not grouped.
+     *
+     * @see JdbcStorageFactory.Builder#enableGroupCommit(Duration, int)
+     */
+    public final Optional<GroupCommitStats> groupCommitStats() {
+        if (groupCommitWait == null) {
+            return Optional.empty();
+        }
+        return Optional.of(groupWriter().stats());
+    }
+
+    /**
+     * Returns the statistics of the cache of the records read by their IDs,
+     * or empty {@code Optional} if the records of this table are not cached.
+     *
+     * @see JdbcStorageFactory.Builder#setCache(Class, RecordCacheConfig)
+     */
+    public final Optional<RecordCacheStats> cacheStats() {
+        return Optional.ofNullable(cache)
+                       .map(RecordCache::stats);
+    }
+
     /**
      * Deletes the record with the specified identifier
      * from the underlying storage.
@@ -186,6 +517,9 @@ public class RecordTable<I, R extends Message> implements WithLogging {
     public boolean delete(I id) {
         var result = operations.deleteOne(this)
                                .execute(id);
+        if (cache != null) {
+            cache.invalidate(id);
+        }
         return result;
     }
 
@@ -195,18 +529,40 @@ public class RecordTable<I, R extends Message> implements WithLogging {
     public void deleteMany(Iterable<I> ids) {
         operations.deleteManyByIds(this)
                   .execute(ids);
+        if (cache != null) {
+            cache.invalidateAll(ids);
+        }
     }
 
     /**
      * Writes multiple records to the underlying storage.
+     *
+     * <p>The records are pulled from the passed {@code Iterable} lazily, chunk by chunk,
+     * so that only a {@linkplain #chunkSize() chunk} of records is held in memory at a time.
+     *
+     * <p>If the records of this table are {@linkplain #cacheStats() cached}, the written
+     * records are dropped from the cache once the bulk is written. To do so, the IDs
+     * of all the written records are held in memory until then.
      */
     public void writeAll(Iterable<? extends RecordWithColumns<I, R>> records) {
-        Iterable<JdbcRecord<I, R>> transformed =
-                StreamSupport.stream(records.spliterator(), false)
-                        .map(r -> new JdbcRecord<>(spec, r))
-                        .collect(Collectors.toList());
-        operations.writeBulk(this)
-                  .execute(transformed);
+        if (cache == null) {
+            Iterable<JdbcRecord<I, R>> transformed =
+                    Iterables.transform(records, r -> new JdbcRecord<>(spec, r));
+            operations.writeBulk(this)
+                      .execute(transformed);
+            return;
+        }
+        var written = new ArrayList<I>();
+        Iterable<JdbcRecord<I, R>> transformed = Iterables.transform(records, r -> {
+            written.add(r.id());
+            return new JdbcRecord<>(spec, r);
+        });
+        try {
+            operations.writeBulk(this)
+                      .execute(transformed);
+        } finally {
+            cache.invalidateAll(written);
+        }
     }
 
     /**
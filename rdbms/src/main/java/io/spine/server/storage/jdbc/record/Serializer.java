@@ -26,18 +26,17 @@
 
 package io.spine.server.storage.jdbc.record;
 
-import com.google.protobuf.Any;
-import com.google.protobuf.ByteString;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
-import io.spine.protobuf.AnyPacker;
-import io.spine.type.TypeUrl;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * A utility class for serializing/deserializing Protobuf records.
+ *
+ * <p>Delegates to the {@link MessageCodec} of the message type. The callers which process
+ * many messages of the same type should obtain the codec once, and use it directly.
  */
 @Internal
 public final class Serializer {
@@ -55,9 +54,8 @@ public final class Serializer {
      */
     public static byte[] serialize(Message message) {
         checkNotNull(message);
-        var any = AnyPacker.pack(message);
-        var bytes = any.getValue()
-                       .toByteArray();
+        var bytes = MessageCodec.of(message.getDescriptorForType())
+                                .encode(message);
         return bytes;
     }
 
@@ -73,13 +71,8 @@ public final class Serializer {
     public static Message deserialize(byte[] bytes, Descriptor messageDescriptor) {
         checkNotNull(bytes);
         checkNotNull(messageDescriptor);
-        var builder = Any.newBuilder();
-        var typeUrlValue = TypeUrl.from(messageDescriptor)
-                                  .value();
-        builder.setTypeUrl(typeUrlValue);
-        var byteString = ByteString.copyFrom(bytes);
-        builder.setValue(byteString);
-        var result = AnyPacker.unpack(builder.build());
+        var result = MessageCodec.of(messageDescriptor)
+                                 .decode(bytes);
         return result;
     }
 }
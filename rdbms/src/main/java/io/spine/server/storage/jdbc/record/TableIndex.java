@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import io.spine.client.ArchivedColumn;
+import io.spine.client.DeletedColumn;
+import io.spine.query.Column;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
+
+/**
+ * A secondary index of a table, over one or several of its columns.
+ *
+ * <p>The order of the columns matters. A composite index is used by the queries which filter
+ * by its first columns, or sort by its columns in the same order.
+ *
+ * <p>The indexes are {@linkplain io.spine.server.storage.jdbc.JdbcStorageFactory.Builder#addIndex
+ * declared per type of the stored records}, and are created along with their table.
+ */
+public final class TableIndex {
+
+    /**
+     * The maximum length of the index name, which fits all the supported engines.
+     */
+    private static final int MAX_NAME_LENGTH = 63;
+
+    private static final String PREFIX = "idx_";
+    private static final Joiner NAME_JOINER = Joiner.on('_');
+
+    private final ImmutableList<String> columns;
+
+    private TableIndex(ImmutableList<String> columns) {
+        checkArgument(columns.stream().distinct().count() == columns.size(),
+                      "The columns of an index must be distinct. Got: `%s`.", columns);
+        this.columns = columns;
+    }
+
+    /**
+     * Creates an index over the columns with the passed names.
+     *
+     * @param column
+     *         the name of the first column of the index
+     * @param otherColumns
+     *         the names of the other columns of the index, in order
+     * @return a new index
+     */
+    public static TableIndex on(String column, String... otherColumns) {
+        var columns = Stream.concat(Stream.of(column), Arrays.stream(otherColumns))
+                            .map(name -> checkNotEmptyOrBlank(name))
+                            .collect(toImmutableList());
+        return new TableIndex(columns);
+    }
+
+    /**
+     * Creates an index over the columns with the passed names, in order.
+     *
+     * @param columns
+     *         the names of the columns of the index
+     * @return a new index
+     */
+    public static TableIndex onColumns(List<String> columns) {
+        checkNotNull(columns);
+        checkArgument(!columns.isEmpty(), "An index must have at least one column.");
+        var names = columns.stream()
+                           .map(name -> checkNotEmptyOrBlank(name))
+                           .collect(toImmutableList());
+        return new TableIndex(names);
+    }
+
+    /**
+     * Creates an index over the passed columns of the stored records.
+     *
+     * @param column
+     *         the first column of the index
+     * @param otherColumns
+     *         the other columns of the index, in order
+     * @return a new index
+     */
+    public static TableIndex on(Column<?, ?> column, Column<?, ?>... otherColumns) {
+        checkNotNull(column);
+        var columns = Stream.concat(Stream.of(column), Arrays.stream(otherColumns))
+                            .map(TableIndex::nameOf)
+                            .collect(toImmutableList());
+        return new TableIndex(columns);
+    }
+
+    /**
+     * Returns the index over the {@code archived} and {@code deleted} columns of the entities.
+     */
+    static TableIndex lifecycle() {
+        return on(ArchivedColumn.instance(), DeletedColumn.instance());
+    }
+
+    private static String nameOf(Column<?, ?> column) {
+        return checkNotNull(column).name()
+                                   .value();
+    }
+
+    /**
+     * Returns the names of the indexed columns, in order.
+     */
+    public ImmutableList<String> columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the name of this index in the passed table.
+     *
+     * <p>The name is composed of the table name and the names of the columns. If it is too long
+     * for some of the engines, it is shortened and suffixed with a hash of the full name,
+     * so that it stays unique in the database.
+     *
+     * @param tableName
+     *         the name of the indexed table
+     */
+    public String nameIn(String tableName) {
+        checkNotEmptyOrBlank(tableName);
+        var name = PREFIX + NAME_JOINER.join(tableName, NAME_JOINER.join(columns));
+        if (name.length() <= MAX_NAME_LENGTH) {
+            return name;
+        }
+        var hash = '_' + Integer.toHexString(name.hashCode());
+        return name.substring(0, MAX_NAME_LENGTH - hash.length()) + hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TableIndex)) {
+            return false;
+        }
+        var other = (TableIndex) o;
+        return columns.equals(other.columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return columns.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("columns", columns)
+                          .toString();
+    }
+}
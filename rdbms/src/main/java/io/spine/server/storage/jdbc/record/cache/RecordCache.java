@@ -0,0 +1,286 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.record.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The cache of the records of a table, read by their identifiers.
+ *
+ * <p>Holds the parsed records, which are immutable, and thus are returned
+ * to the callers as they are.
+ *
+ * <p>The cache never holds a record older than the one stored in the database,
+ * even if the record is read, written, and deleted by several threads at once.
+ * To ensure that, the cache tracks the loads and the writes in progress:
+ *
+ * <ul>
+ *     <li>A record read from the database is {@linkplain #putLoaded(Object, Message, long)
+ *         added} only if the record with the same ID has not been written, or
+ *         {@linkplain #invalidate(Object) invalidated} since the load
+ *         {@linkplain #beginLoad(Object) began}.
+ *     <li>A written record is {@linkplain #endWrite(Object, Message) added} only if
+ *         no other write of the record with the same ID, or an invalidation of it,
+ *         overlapped with this write. Otherwise, the order in which the writes are
+ *         committed is unknown, and the record is dropped from the cache instead.
+ * </ul>
+ *
+ * <p>The bookkeeping is kept only for the records, which are being loaded or written,
+ * and is guarded by a single lock, which is never held during a database round trip.
+ *
+ * @param <I>
+ *         the type of the record identifiers
+ * @param <R>
+ *         the type of the records
+ */
+@Internal
+public final class RecordCache<I, R extends Message> {
+
+    /**
+     * The token of a load, whose result must not be cached.
+     */
+    private static final long NOT_CACHED = -1L;
+
+    private final Cache<I, R> cache;
+
+    private final Map<I, InFlight> inFlight = new HashMap<>();
+
+    private RecordCache(Cache<I, R> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a new empty cache with the passed settings.
+     */
+    public static <I, R extends Message> RecordCache<I, R> create(RecordCacheConfig config) {
+        checkNotNull(config);
+        var builder = Caffeine.newBuilder()
+                              .maximumSize(config.maximumSize())
+                              .recordStats();
+        config.expireAfterWrite()
+              .ifPresent(builder::expireAfterWrite);
+        config.expireAfterAccess()
+              .ifPresent(builder::expireAfterAccess);
+        Cache<I, R> cache = builder.build();
+        return new RecordCache<>(cache);
+    }
+
+    /**
+     * Returns the cached records by the passed identifiers.
+     *
+     * <p>The identifiers of the records missing in the cache are absent in the result.
+     */
+    public ImmutableMap<I, R> getAllPresent(Iterable<I> ids) {
+        checkNotNull(ids);
+        return ImmutableMap.copyOf(cache.getAllPresent(ids));
+    }
+
+    /**
+     * Registers the start of the load of the record from the database.
+     *
+     * <p>Must be called before the record is read, and followed by
+     * {@link #endLoad(Object) endLoad(id)} once the load is over.
+     *
+     * @return the token to pass to {@link #putLoaded(Object, Message, long) putLoaded(..)}
+     */
+    public synchronized long beginLoad(I id) {
+        checkNotNull(id);
+        var state = inFlight.computeIfAbsent(id, k -> new InFlight());
+        state.loads++;
+        return state.writes > 0 ? NOT_CACHED : state.generation;
+    }
+
+    /**
+     * Adds the record read from the database, unless it was written or invalidated
+     * since the load began, or the cache already has a record with the same ID.
+     *
+     * @param id
+     *         the ID of the record
+     * @param record
+     *         the loaded record
+     * @param token
+     *         the token returned by {@link #beginLoad(Object) beginLoad(id)}
+     */
+    public synchronized void putLoaded(I id, R record, long token) {
+        checkNotNull(id);
+        checkNotNull(record);
+        var state = inFlight.get(id);
+        if (state == null || token == NOT_CACHED
+                || state.writes > 0 || state.generation != token) {
+            return;
+        }
+        cache.asMap()
+             .putIfAbsent(id, record);
+    }
+
+    /**
+     * Registers the end of the load of the record, whether it succeeded or not.
+     */
+    public synchronized void endLoad(I id) {
+        checkNotNull(id);
+        var state = inFlight.get(id);
+        if (state != null) {
+            state.loads--;
+            release(id, state);
+        }
+    }
+
+    /**
+     * Registers the start of the write of the record to the database.
+     *
+     * <p>Drops the cached record. Must be called before the record is written,
+     * and followed by {@link #endWrite(Object, Message) endWrite(..)} once the write is over.
+     */
+    public synchronized void beginWrite(I id) {
+        checkNotNull(id);
+        var state = inFlight.computeIfAbsent(id, k -> new InFlight());
+        if (state.writes > 0) {
+            state.contended = true;
+        }
+        state.writes++;
+        state.generation++;
+        cache.invalidate(id);
+    }
+
+    /**
+     * Registers the end of the write of the record.
+     *
+     * <p>Adds the written record, unless another write or an invalidation of the record
+     * overlapped with this write.
+     *
+     * @param id
+     *         the ID of the record
+     * @param written
+     *         the written record, or {@code null} if the write failed
+     */
+    public synchronized void endWrite(I id, @Nullable R written) {
+        checkNotNull(id);
+        var state = inFlight.get(id);
+        checkState(state != null && state.writes > 0,
+                   "No write of the record with ID `%s` is in progress.", id);
+        state.writes--;
+        if (state.writes > 0) {
+            return;
+        }
+        if (written != null && !state.contended) {
+            cache.put(id, written);
+        } else {
+            cache.invalidate(id);
+        }
+        state.contended = false;
+        release(id, state);
+    }
+
+    /**
+     * Removes the record with the passed ID from the cache.
+     *
+     * <p>Must be called after the record is changed in the database by other means than
+     * the {@linkplain #beginWrite(Object) tracked writes}, such as deleted.
+     * The loads of the record in progress are then not cached, and the writes in progress
+     * are not cached either, as their order relative to the change is unknown.
+     */
+    public synchronized void invalidate(I id) {
+        checkNotNull(id);
+        cache.invalidate(id);
+        var state = inFlight.get(id);
+        if (state != null) {
+            state.generation++;
+            if (state.writes > 0) {
+                state.contended = true;
+            }
+        }
+    }
+
+    /**
+     * Removes the records with the passed IDs from the cache.
+     *
+     * @see #invalidate(Object)
+     */
+    public synchronized void invalidateAll(Iterable<I> ids) {
+        checkNotNull(ids);
+        for (var id : ids) {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Returns the statistics of this cache.
+     */
+    public RecordCacheStats stats() {
+        var stats = cache.stats();
+        return new RecordCacheStats(stats.hitCount(),
+                                    stats.missCount(),
+                                    stats.evictionCount(),
+                                    cache.estimatedSize());
+    }
+
+    private void release(I id, InFlight state) {
+        if (state.loads == 0 && state.writes == 0) {
+            inFlight.remove(id);
+        }
+    }
+
+    /**
+     * The loads and the writes of a record, which are in progress.
+     */
+    private static final class InFlight {
+
+        /**
+         * The number of the loads in progress.
+         */
+        private int loads;
+
+        /**
+         * The number of the writes in progress.
+         */
+        private int writes;
+
+        /**
+         * The number of the writes and invalidations since the first load
+         * or write in progress began.
+         */
+        private long generation;
+
+        /**
+         * Tells whether the writes in progress overlapped with each other,
+         * or with an invalidation.
+         */
+        private boolean contended;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.record.cache;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The settings of the {@linkplain RecordCache cache} of the records of a certain type.
+ *
+ * <p>The records are evicted from the cache once there are more of them than
+ * the {@linkplain Builder#setMaximumSize(long) maximum size}, and, if set, once they
+ * stay in the cache longer than {@linkplain Builder#setExpireAfterWrite(Duration) allowed}.
+ */
+public final class RecordCacheConfig {
+
+    /**
+     * The maximum number of the cached records, used unless set otherwise.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final long maximumSize;
+    private final @Nullable Duration expireAfterWrite;
+    private final @Nullable Duration expireAfterAccess;
+
+    private RecordCacheConfig(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.expireAfterAccess = builder.expireAfterAccess;
+    }
+
+    /**
+     * Returns the settings with the {@linkplain #DEFAULT_MAXIMUM_SIZE default maximum size},
+     * and no time-based eviction.
+     */
+    public static RecordCacheConfig defaults() {
+        return newBuilder().build();
+    }
+
+    /**
+     * Creates a new builder of the settings.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the maximum number of the cached records.
+     */
+    public long maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the time after which a cached record is evicted, counting from its caching.
+     */
+    public Optional<Duration> expireAfterWrite() {
+        return Optional.ofNullable(expireAfterWrite);
+    }
+
+    /**
+     * Returns the time after which a cached record is evicted, counting from its last read.
+     */
+    public Optional<Duration> expireAfterAccess() {
+        return Optional.ofNullable(expireAfterAccess);
+    }
+
+    /**
+     * The builder of the {@code RecordCacheConfig} instances.
+     */
+    public static final class Builder {
+
+        private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private @Nullable Duration expireAfterWrite;
+        private @Nullable Duration expireAfterAccess;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of the cached records.
+         *
+         * <p>If not set, {@link #DEFAULT_MAXIMUM_SIZE} is used.
+         *
+         * @param maximumSize
+         *         the positive number of records
+         */
+        @CanIgnoreReturnValue
+        public Builder setMaximumSize(long maximumSize) {
+            checkArgument(maximumSize > 0,
+                          "The maximum size of the cache must be positive, but was %s.",
+                          maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a record is evicted, counting from its caching.
+         *
+         * <p>This bounds the time, for which the cache may return a record
+         * modified bypassing the table, e.g. by another process.
+         *
+         * <p>If not set, the records are not evicted by time since their caching.
+         *
+         * @param duration
+         *         the positive duration
+         */
+        @CanIgnoreReturnValue
+        public Builder setExpireAfterWrite(Duration duration) {
+            this.expireAfterWrite = checkPositive(duration);
+            return this;
+        }
+
+        /**
+         * Sets the time after which a record is evicted, counting from its last read.
+         *
+         * <p>If not set, the records are not evicted by time since their last read.
+         *
+         * @param duration
+         *         the positive duration
+         */
+        @CanIgnoreReturnValue
+        public Builder setExpireAfterAccess(Duration duration) {
+            this.expireAfterAccess = checkPositive(duration);
+            return this;
+        }
+
+        private static Duration checkPositive(Duration duration) {
+            checkNotNull(duration);
+            checkArgument(!duration.isNegative() && !duration.isZero(),
+                          "The duration must be positive, but was %s.", duration);
+            return duration;
+        }
+
+        /**
+         * Creates a new instance of the settings.
+         */
+        public RecordCacheConfig build() {
+            return new RecordCacheConfig(this);
+        }
+    }
+}
@@ -31,9 +31,11 @@ import io.spine.server.storage.jdbc.TableColumn;
 import io.spine.server.storage.jdbc.Type;
 import io.spine.server.storage.jdbc.record.RecordTable;
 import io.spine.server.storage.jdbc.record.Serializer;
+import io.spine.server.storage.jdbc.record.compression.Compression;
 import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.server.storage.jdbc.Type.BYTE_ARRAY;
 import static io.spine.server.storage.jdbc.record.Serializer.serialize;
 
@@ -43,13 +45,29 @@ import static io.spine.server.storage.jdbc.record.Serializer.serialize;
  * <p>This column is present in any {@link RecordTable
  * RecordTable} and serves for convenient record
  * {@link Serializer deserialization}.
+ *
+ * <p>The serialized records may be {@linkplain Compression compressed}.
  */
 public final class BytesColumn extends TableColumn {
 
     private static final String NAME = "bytes";
 
+    private final Compression compression;
+
+    /**
+     * Creates a new column, which stores the serialized records uncompressed.
+     */
     public BytesColumn(JdbcColumnMapping mapping) {
+        this(mapping, Compression.none());
+    }
+
+    /**
+     * Creates a new column, which stores the serialized records
+     * with the specified compression settings.
+     */
+    public BytesColumn(JdbcColumnMapping mapping, Compression compression) {
         super(NAME, byte[].class, mapping);
+        this.compression = checkNotNull(compression);
     }
 
     /**
@@ -77,6 +95,7 @@ public final class BytesColumn extends TableColumn {
 
     @Override
     public @Nullable Object valueIn(RecordWithColumns<?, ?> record) {
-        return serialize(record.record());
+        var serialized = serialize(record.record());
+        return compression.encode(serialized);
     }
 }
@@ -26,23 +26,41 @@
 
 package io.spine.server.storage.jdbc.record.column;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
+import io.spine.protobuf.Messages;
 import io.spine.server.storage.RecordSpec;
 import io.spine.server.storage.jdbc.TableColumn;
 import io.spine.server.storage.jdbc.Type;
+import io.spine.server.storage.jdbc.record.MessageCodec;
 import io.spine.server.storage.jdbc.record.RecordTable;
 import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.UUID;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newLinkedList;
+import static io.spine.server.storage.jdbc.Type.BYTE_ARRAY_255;
 import static io.spine.server.storage.jdbc.Type.INT;
 import static io.spine.server.storage.jdbc.Type.LONG;
 import static io.spine.server.storage.jdbc.Type.STRING_512;
+import static io.spine.server.storage.jdbc.record.column.IdEncoding.BINARY;
+import static io.spine.server.storage.jdbc.record.column.IdEncoding.JSON;
+import static io.spine.type.Json.fromJson;
 import static io.spine.type.Json.toCompactJson;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.util.Objects.requireNonNull;
 
 /**
  * A wrapper for the column which stores a primary key in a DB {@linkplain RecordTable table}.
@@ -55,6 +73,16 @@ public abstract class IdColumn<I> {
 
     public static final String ID_COLUMN_NAME = "ID";
 
+    /**
+     * The maximum number of the normalized message identifiers cached per column.
+     */
+    private static final int CODEC_CACHE_SIZE = 10_000;
+
+    /**
+     * The maximum size of the identifier in the {@linkplain IdEncoding#BINARY binary} encoding.
+     */
+    private static final int MAX_BINARY_SIZE = 255;
+
     /**
      * The underlying {@link TableColumn storage field}.
      */
@@ -67,22 +95,49 @@ public abstract class IdColumn<I> {
     /**
      * Creates a new ID column for the passed record specification.
      *
+     * <p>The message identifiers are stored {@linkplain IdEncoding#JSON as JSON}.
+     *
+     * @param spec
+     *         specification of the record to store
+     * @param mapping
+     *         column type mapping
+     * @param <I>
+     *         the type of identifiers stored in the created column
+     */
+    public static <I> IdColumn<I> of(RecordSpec<I, ?> spec, JdbcColumnMapping mapping) {
+        return of(spec, mapping, JSON);
+    }
+
+    /**
+     * Creates a new ID column for the passed record specification, which stores
+     * the message identifiers in the specified encoding.
+     *
      * @param spec
      *         specification of the record to store
      * @param mapping
      *         column type mapping
+     * @param encoding
+     *         the encoding of the message identifiers
      * @param <I>
      *         the type of identifiers stored in the created column
+     * @throws IllegalArgumentException
+     *         if the identifiers of the passed type cannot be stored in the specified encoding
      */
     @SuppressWarnings({
             "unchecked", // ID runtime type is checked with if statements.
             "IfStatementWithTooManyBranches", // OK for a factory method.
             "ChainOfInstanceofChecks"         // which depends on the built object target type.
     })
-    public static <I> IdColumn<I> of(RecordSpec<I, ?> spec, JdbcColumnMapping mapping) {
+    public static <I> IdColumn<I>
+    of(RecordSpec<I, ?> spec, JdbcColumnMapping mapping, IdEncoding encoding) {
         checkNotNull(spec);
         checkNotNull(mapping);
+        checkNotNull(encoding);
         var idType = spec.idType();
+        var isMessage = Message.class.isAssignableFrom(idType);
+        checkArgument(isMessage || encoding == JSON,
+                      "The `%s` encoding applies to the message IDs only, but `%s` was used.",
+                      encoding, idType.getName());
         var column = new TableColumn(ID_COLUMN_NAME, idType, mapping);
         if (idType == Long.class) {
             return (IdColumn<I>) new LongIdColumn(column);
@@ -90,14 +145,45 @@ public abstract class IdColumn<I> {
             return (IdColumn<I>) new IntIdColumn(column);
         } else if (idType == String.class) {
             return (IdColumn<I>) new StringIdColumn(column);
-        } else if (Message.class.isAssignableFrom(idType)) {
+        } else if (isMessage) {
             var messageClass = (Class<? extends Message>) idType;
-            return (IdColumn<I>) new MessageIdColumn<>(column, messageClass);
+            return (IdColumn<I>) messageColumn(column, messageClass, encoding);
         } else {
             throw newIllegalArgumentException("Unexpected entity ID class %s", idType.getName());
         }
     }
 
+    private static <M extends Message> IdColumn<M>
+    messageColumn(TableColumn column, Class<M> cls, IdEncoding encoding) {
+        switch (encoding) {
+            case BINARY:
+                return new BinaryIdColumn<>(column, cls);
+            case UUID:
+                return new UuidIdColumn<>(column, cls);
+            default:
+                return new JsonIdColumn<>(column, cls);
+        }
+    }
+
+    /**
+     * Returns the value, by which the passed {@linkplain #normalize(Object) normalized}
+     * identifier may be compared to the others, and looked up in the hash-based collections.
+     *
+     * <p>The byte arrays are wrapped into {@link ByteBuffer}s, so that they are compared
+     * by their contents. Other values are returned as is.
+     *
+     * @param normalized
+     *         the normalized identifier
+     * @return the comparable value of the identifier
+     */
+    public static Object keyOf(Object normalized) {
+        checkNotNull(normalized);
+        if (normalized instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) normalized);
+        }
+        return normalized;
+    }
+
     /**
      * Returns the {@link Type} of the column with which this helper instance works.
      */
@@ -109,6 +195,14 @@ public abstract class IdColumn<I> {
      */
     public abstract Class<I> javaType();
 
+    /**
+     * Retrieves the {@linkplain Class Java class} of the ID after
+     * {@linkplain #normalize(Object) normalization}.
+     *
+     * <p>This is the type of values read from the column as they are stored.
+     */
+    public abstract Class<?> normalizedType();
+
     /**
      * Normalizes the identifier before using it as a parameter value.
      *
@@ -125,6 +219,26 @@ public abstract class IdColumn<I> {
      */
     public abstract Object normalize(I id);
 
+    /**
+     * Restores the identifier from its {@linkplain #normalize(Object) normalized} form,
+     * as read from the column.
+     *
+     * @param normalized
+     *         the value of the {@linkplain #normalizedType() normalized type}
+     * @return the identifier
+     */
+    public abstract I denormalize(Object normalized);
+
+    /**
+     * Returns the way the message identifiers are stored in this column.
+     *
+     * <p>For the identifiers of other types, which are stored as is,
+     * returns {@link IdEncoding#JSON JSON}.
+     */
+    public IdEncoding encoding() {
+        return JSON;
+    }
+
     /**
      * {@linkplain #normalize(Object) Normalizes} the specified IDs.
      *
@@ -174,10 +288,20 @@ public abstract class IdColumn<I> {
             return Long.class;
         }
 
+        @Override
+        public Class<Long> normalizedType() {
+            return Long.class;
+        }
+
         @Override
         public Long normalize(Long id) {
             return id;
         }
+
+        @Override
+        public Long denormalize(Object normalized) {
+            return (Long) normalized;
+        }
     }
 
     /**
@@ -199,10 +323,20 @@ public abstract class IdColumn<I> {
             return Integer.class;
         }
 
+        @Override
+        public Class<Integer> normalizedType() {
+            return Integer.class;
+        }
+
         @Override
         public Integer normalize(Integer id) {
             return id;
         }
+
+        @Override
+        public Integer denormalize(Object normalized) {
+            return (Integer) normalized;
+        }
     }
 
     /**
@@ -219,6 +353,11 @@ public abstract class IdColumn<I> {
             return id;
         }
 
+        @Override
+        public String denormalize(Object normalized) {
+            return (String) normalized;
+        }
+
         @Override
         public Type sqlType() {
             return STRING_512;
@@ -228,42 +367,238 @@ public abstract class IdColumn<I> {
         public Class<String> javaType() {
             return String.class;
         }
+
+        @Override
+        public Class<String> normalizedType() {
+            return String.class;
+        }
     }
 
     /**
      * An ID column, which stores Proto messages of type {@code M}.
      *
+     * <p>The normalized forms of the recently used identifiers are cached, so that
+     * the same identifier is not encoded over and over again, e.g. when a record is written,
+     * and then read by its ID.
+     *
      * @param <M>
      *         type of the stored values
      */
-    private static class MessageIdColumn<M extends Message> extends IdColumn<M> {
+    private abstract static class MessageIdColumn<M extends Message> extends IdColumn<M> {
 
         private final Class<M> cls;
+        private final Cache<M, Object> normalized;
 
         private MessageIdColumn(TableColumn column, Class<M> cls) {
             super(column);
             this.cls = cls;
+            this.normalized = Caffeine.newBuilder()
+                                      .maximumSize(CODEC_CACHE_SIZE)
+                                      .build();
         }
 
         /**
          * {@inheritDoc}
          *
-         * <p>Converts the given {@link Message} ID into its
+         * <p>Returns the cached normalized form of the identifier, if there is one.
+         * Otherwise, {@linkplain #encode(Message) encodes} the identifier, and caches it.
+         */
+        @Override
+        public final Object normalize(M id) {
+            checkNotNull(id);
+            return requireNonNull(normalized.get(id, this::encode));
+        }
+
+        /**
+         * Converts the passed identifier into the value stored in the column.
+         */
+        abstract Object encode(M id);
+
+        @Override
+        public final Class<M> javaType() {
+            return cls;
+        }
+    }
+
+    /**
+     * An ID column, which stores Proto messages of type {@code M}
+     * as their compact JSON representation.
+     *
+     * @param <M>
+     *         type of the stored values
+     */
+    private static class JsonIdColumn<M extends Message> extends MessageIdColumn<M> {
+
+        private JsonIdColumn(TableColumn column, Class<M> cls) {
+            super(column, cls);
+        }
+
+        /**
+         * Converts the given {@link Message} ID into its
          * {@linkplain io.spine.type.Json#toCompactJson JSON representation}.
          */
         @Override
-        public String normalize(M id) {
+        String encode(M id) {
             return toCompactJson(id);
         }
 
+        @Override
+        public M denormalize(Object normalized) {
+            return fromJson(javaType(), (String) normalized);
+        }
+
         @Override
         public Type sqlType() {
             return STRING_512;
         }
 
         @Override
-        public Class<M> javaType() {
-            return cls;
+        public Class<String> normalizedType() {
+            return String.class;
+        }
+    }
+
+    /**
+     * An ID column, which stores Proto messages of type {@code M}
+     * as their deterministic binary serialization.
+     *
+     * @param <M>
+     *         type of the stored values
+     */
+    private static class BinaryIdColumn<M extends Message> extends MessageIdColumn<M> {
+
+        private final MessageCodec codec;
+
+        private BinaryIdColumn(TableColumn column, Class<M> cls) {
+            super(column, cls);
+            this.codec = MessageCodec.of(descriptorOf(cls));
+        }
+
+        /**
+         * Serializes the given {@link Message} ID, ordering the entries of its map fields
+         * by their keys.
+         *
+         * <p>Thus, the equal identifiers are always stored as the same bytes.
+         *
+         * @throws IllegalArgumentException
+         *         if the serialized ID is longer than 255 bytes
+         */
+        @Override
+        byte[] encode(M id) {
+            var size = id.getSerializedSize();
+            checkArgument(size <= MAX_BINARY_SIZE,
+                          "The serialized ID `%s` is %s bytes long, which exceeds %s bytes.",
+                          toCompactJson(id), size, MAX_BINARY_SIZE);
+            var bytes = new byte[size];
+            var output = CodedOutputStream.newInstance(bytes);
+            output.useDeterministicSerialization();
+            try {
+                id.writeTo(output);
+            } catch (IOException e) {
+                throw newIllegalStateException(e, "Unable to serialize the ID `%s`.",
+                                               toCompactJson(id));
+            }
+            output.checkNoSpaceLeft();
+            return bytes;
+        }
+
+        @SuppressWarnings("unchecked" /* The codec is created for the ID type. */)
+        @Override
+        public M denormalize(Object normalized) {
+            return (M) codec.decode((byte[]) normalized);
+        }
+
+        @Override
+        public IdEncoding encoding() {
+            return BINARY;
         }
+
+        @Override
+        public Type sqlType() {
+            return BYTE_ARRAY_255;
+        }
+
+        @Override
+        public Class<byte[]> normalizedType() {
+            return byte[].class;
+        }
+    }
+
+    /**
+     * An ID column, which stores Proto messages of type {@code M}
+     * as native UUIDs.
+     *
+     * <p>The stored messages must have a single {@code string} field,
+     * which holds the UUID value.
+     *
+     * @param <M>
+     *         type of the stored values
+     */
+    private static class UuidIdColumn<M extends Message> extends MessageIdColumn<M> {
+
+        private final MessageCodec codec;
+        private final FieldDescriptor field;
+
+        private UuidIdColumn(TableColumn column, Class<M> cls) {
+            super(column, cls);
+            var descriptor = descriptorOf(cls);
+            var fields = descriptor.getFields();
+            checkArgument(fields.size() == 1
+                                  && !fields.get(0).isRepeated()
+                                  && fields.get(0).getJavaType() == JavaType.STRING,
+                          "The `UUID` encoding requires the ID type `%s` " +
+                                  "to have a single `string` field.",
+                          descriptor.getFullName());
+            this.codec = MessageCodec.of(descriptor);
+            this.field = fields.get(0);
+        }
+
+        /**
+         * Parses the UUID held by the given {@link Message} ID.
+         *
+         * <p>Only the canonical lower-case representation of a UUID is accepted, as
+         * the identifiers are restored in it. Otherwise, the restored identifier would
+         * not be equal to the stored one.
+         *
+         * @throws IllegalArgumentException
+         *         if the ID holds no valid UUID, or its representation is not canonical
+         */
+        @Override
+        UUID encode(M id) {
+            var value = (String) id.getField(field);
+            var result = UUID.fromString(value);
+            checkArgument(result.toString().equals(value),
+                          "The `UUID` encoding requires the canonical lower-case UUID, " +
+                                  "but got `%s`.", value);
+            return result;
+        }
+
+        @SuppressWarnings("unchecked" /* The codec is created for the ID type. */)
+        @Override
+        public M denormalize(Object normalized) {
+            return (M) codec.newBuilder()
+                            .setField(field, normalized.toString())
+                            .build();
+        }
+
+        @Override
+        public IdEncoding encoding() {
+            return IdEncoding.UUID;
+        }
+
+        @Override
+        public Type sqlType() {
+            return Type.UUID;
+        }
+
+        @Override
+        public Class<UUID> normalizedType() {
+            return UUID.class;
+        }
+    }
+
+    private static Descriptor descriptorOf(Class<? extends Message> cls) {
+        return Messages.getDefaultInstance(cls)
+                       .getDescriptorForType();
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.column;
+
+/**
+ * The way the Protobuf message identifiers are stored in the {@link IdColumn ID column}.
+ *
+ * <p>The encoding is chosen per table. The identifiers of other types, such as {@code String}
+ * or {@code Long}, are always stored as is.
+ */
+public enum IdEncoding {
+
+    /**
+     * The identifiers are stored as their compact JSON representation,
+     * in a {@link io.spine.server.storage.jdbc.Type#STRING_512 STRING_512} column.
+     *
+     * <p>The default encoding. The stored values are human-readable.
+     */
+    JSON,
+
+    /**
+     * The identifiers are stored as their deterministic Protobuf binary serialization,
+     * in a {@link io.spine.server.storage.jdbc.Type#BYTE_ARRAY_255 BYTE_ARRAY_255} column.
+     *
+     * <p>The stored values are shorter, and are faster to produce and to parse than JSON.
+     * The serialized identifier must not exceed 255 bytes.
+     */
+    BINARY,
+
+    /**
+     * The identifiers are stored as native UUIDs,
+     * in a {@link io.spine.server.storage.jdbc.Type#UUID UUID} column.
+     *
+     * <p>Applies to the identifiers with a single {@code string} field, which holds
+     * the canonical lower-case textual representation of a UUID, e.g. the {@code uuid} field
+     * of the {@code UuidValue} messages. Other values of the field are rejected.
+     *
+     * <p>Supported by PostgreSQL and H2. Creating a table with this encoding in MySQL fails.
+     */
+    UUID
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.compression;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The compression settings of a table, which transform the serialized records
+ * into the values of the bytes column, and back.
+ *
+ * <p>A compressed value starts with a two-byte header: the {@linkplain #MARKER marker},
+ * and the {@linkplain Compressor#id() identifier} of the algorithm. An uncompressed value
+ * is the serialized record as is, with no header.
+ *
+ * <p>The marker is chosen so that it may never start a serialized Protobuf message.
+ * Its three lowest bits denote the wire type {@code 7}, which does not exist. Therefore,
+ * the values written with no compression, e.g. before the compression was turned on,
+ * are told apart from the compressed ones, and both are read transparently.
+ *
+ * <p>If the compression does not make a value shorter, such as for tiny records,
+ * the value is stored uncompressed.
+ */
+@Internal
+public final class Compression {
+
+    /**
+     * The first byte of each compressed value.
+     */
+    @VisibleForTesting
+    static final byte MARKER = (byte) 0xFF;
+
+    /**
+     * The maximum identifier of the compression algorithms reserved for this library.
+     */
+    static final int MAX_RESERVED_ID = 15;
+
+    private static final int HEADER_LENGTH = 2;
+
+    private static final Compression NONE = new Compression(null);
+
+    private static final Compressor DEFLATE = new DeflateCompressor();
+
+    private final @Nullable Compressor compressor;
+
+    private Compression(@Nullable Compressor compressor) {
+        this.compressor = compressor;
+    }
+
+    /**
+     * Returns the settings under which the values are stored uncompressed.
+     *
+     * <p>The values compressed by the algorithms provided by this library are still read.
+     */
+    public static Compression none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the settings under which the values are compressed by the passed algorithm.
+     *
+     * @throws IllegalArgumentException
+     *         if the passed algorithm is not provided by this library, and its identifier
+     *         is {@linkplain Compressor#id() reserved} for the algorithms of this library
+     */
+    public static Compression with(Compressor compressor) {
+        checkNotNull(compressor);
+        checkId(compressor);
+        return new Compression(compressor);
+    }
+
+    /**
+     * Ensures that a custom algorithm does not use an identifier reserved for this library.
+     *
+     * <p>Otherwise, the values compressed by the custom algorithm would be indistinguishable
+     * from the ones compressed by the library algorithm with the same identifier.
+     */
+    private static void checkId(Compressor compressor) {
+        if (compressor instanceof DeflateCompressor) {
+            return;
+        }
+        var id = compressor.id();
+        var className = compressor.getClass()
+                                  .getName();
+        checkArgument(id < 0 || id > MAX_RESERVED_ID,
+                      "The compressor `%s` uses the identifier `%s`, which is reserved " +
+                              "for the algorithms of this library. " +
+                              "Please use an identifier outside of the range from 0 to %s.",
+                      className, id, MAX_RESERVED_ID);
+    }
+
+    /**
+     * Tells whether the values are compressed under these settings.
+     */
+    public boolean isEnabled() {
+        return compressor != null;
+    }
+
+    /**
+     * Transforms the serialized record into the value to store.
+     *
+     * @param serialized
+     *         the serialized record
+     * @return the compressed value with the header, or the passed bytes,
+     *         if there is no compression, or it does not pay off
+     */
+    public byte[] encode(byte[] serialized) {
+        checkNotNull(serialized);
+        if (compressor == null || serialized.length <= HEADER_LENGTH) {
+            return serialized;
+        }
+        var compressed = compressor.compress(serialized);
+        if (compressed.length + HEADER_LENGTH >= serialized.length) {
+            return serialized;
+        }
+        var result = new byte[compressed.length + HEADER_LENGTH];
+        result[0] = MARKER;
+        result[1] = compressor.id();
+        System.arraycopy(compressed, 0, result, HEADER_LENGTH, compressed.length);
+        return result;
+    }
+
+    /**
+     * Restores the serialized record from the stored value.
+     *
+     * <p>The uncompressed values are returned as is.
+     *
+     * @param stored
+     *         the value of the bytes column
+     * @return the serialized record
+     * @throws IllegalStateException
+     *         if the value is compressed by an algorithm, which is unknown to these settings
+     */
+    public byte[] decode(byte[] stored) {
+        checkNotNull(stored);
+        if (!isCompressed(stored)) {
+            return stored;
+        }
+        var algorithm = compressorBy(stored[1]);
+        var compressed = Arrays.copyOfRange(stored, HEADER_LENGTH, stored.length);
+        return algorithm.decompress(compressed);
+    }
+
+    private static boolean isCompressed(byte[] value) {
+        return isCompressed(value, value.length);
+    }
+
+    /**
+     * Tells whether the value stored in the beginning of the passed buffer is compressed.
+     *
+     * @param buffer
+     *         the buffer containing the value of the bytes column
+     * @param length
+     *         the length of the value
+     */
+    public static boolean isCompressed(byte[] buffer, int length) {
+        checkNotNull(buffer);
+        return length >= HEADER_LENGTH && buffer[0] == MARKER;
+    }
+
+    private Compressor compressorBy(byte id) {
+        if (compressor != null && compressor.id() == id) {
+            return compressor;
+        }
+        checkState(id == DEFLATE.id(),
+                   "The stored value is compressed by an unknown algorithm with ID `%s`. " +
+                           "Please configure the corresponding `Compressor` for the table.", id);
+        return DEFLATE;
+    }
+}
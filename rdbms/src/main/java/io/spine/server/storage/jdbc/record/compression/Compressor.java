@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.compression;
+
+import io.spine.annotation.SPI;
+
+/**
+ * An algorithm of compressing the serialized records.
+ *
+ * <p>The library provides the {@linkplain DeflateCompressor Deflate-based} implementation.
+ * Other algorithms, such as LZ4 or Zstandard, may be plugged in by implementing
+ * this interface on top of the corresponding third-party library.
+ *
+ * <p>Each compressed value is prefixed with the {@linkplain #id() identifier} of the algorithm,
+ * so that the values compressed by different algorithms, and the uncompressed values may
+ * coexist in the same table.
+ *
+ * @see Compression
+ */
+@SPI
+public interface Compressor {
+
+    /**
+     * Returns the identifier of the algorithm, which is stored along with each compressed value.
+     *
+     * <p>The identifiers from {@code 0} to {@code 15} are reserved
+     * for the algorithms provided by this library. Custom algorithms must use
+     * other identifiers, otherwise they are {@linkplain Compression#with(Compressor) rejected}.
+     *
+     * <p>The identifier of an algorithm must never change, as long as there are values
+     * compressed by it in the database.
+     */
+    byte id();
+
+    /**
+     * Compresses the passed bytes.
+     */
+    byte[] compress(byte[] bytes);
+
+    /**
+     * Restores the original bytes from the {@linkplain #compress(byte[]) compressed} ones.
+     */
+    byte[] decompress(byte[] compressed);
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.compression;
+
+import io.spine.server.storage.jdbc.DatabaseException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Compresses the records with the Deflate algorithm provided by the JDK.
+ *
+ * <p>Requires no third-party libraries. Suits well the records with lots of repetitive
+ * string values, such as the states of the projections.
+ */
+public final class DeflateCompressor implements Compressor {
+
+    /**
+     * The identifier of this algorithm.
+     */
+    static final byte ID = 1;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final int level;
+
+    /**
+     * Creates a new compressor with the {@linkplain Deflater#DEFAULT_COMPRESSION default}
+     * compression level.
+     */
+    public DeflateCompressor() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a new compressor with the specified compression level.
+     *
+     * @param level
+     *         the compression level from {@code 0} to {@code 9},
+     *         or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public DeflateCompressor(int level) {
+        checkArgument(level == Deflater.DEFAULT_COMPRESSION
+                              || (level >= Deflater.NO_COMPRESSION
+                                      && level <= Deflater.BEST_COMPRESSION),
+                      "Invalid Deflate compression level: %s.", level);
+        this.level = level;
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] compress(byte[] bytes) {
+        checkNotNull(bytes);
+        var deflater = new Deflater(level);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            var output = new ByteArrayOutputStream(bytes.length / 2 + 16);
+            var buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                var length = deflater.deflate(buffer);
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressed) {
+        checkNotNull(compressed);
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            var output = new ByteArrayOutputStream(compressed.length * 3);
+            var buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                var length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DatabaseException(new DataFormatException(
+                            "The Deflate-compressed record is truncated."));
+                }
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new DatabaseException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.stats;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import io.spine.server.storage.jdbc.record.TableIndex;
+
+/**
+ * An index suggested by the {@link IndexAdvisor} for a table.
+ */
+public final class IndexAdvice {
+
+    private final String tableName;
+    private final TableIndex index;
+    private final QueryShapeStats reason;
+    private final ImmutableList<String> plan;
+    private final boolean created;
+
+    IndexAdvice(String tableName,
+                TableIndex index,
+                QueryShapeStats reason,
+                ImmutableList<String> plan,
+                boolean created) {
+        this.tableName = tableName;
+        this.index = index;
+        this.reason = reason;
+        this.plan = plan;
+        this.created = created;
+    }
+
+    /**
+     * Returns the name of the table to index.
+     */
+    public String tableName() {
+        return tableName;
+    }
+
+    /**
+     * Returns the suggested index.
+     */
+    public TableIndex index() {
+        return index;
+    }
+
+    /**
+     * Returns the statistics of the queries, which the index would speed up.
+     */
+    public QueryShapeStats reason() {
+        return reason;
+    }
+
+    /**
+     * Returns the plan of a sample query of the {@linkplain #reason() reason} shape,
+     * as reported by the database before the index is created, row by row.
+     *
+     * <p>Returns an empty list if the plan was not {@linkplain IndexAdvisor.Builder#explain()
+     * requested}.
+     */
+    public ImmutableList<String> plan() {
+        return plan;
+    }
+
+    /**
+     * Tells whether the index was created by the advisor.
+     *
+     * @see IndexAdvisor.Builder#createIndexes()
+     */
+    public boolean created() {
+        return created;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("tableName", tableName)
+                          .add("index", index)
+                          .add("reason", reason)
+                          .add("created", created)
+                          .toString();
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.stats;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Message;
+import io.spine.logging.WithLogging;
+import io.spine.query.ColumnName;
+import io.spine.query.RecordQuery;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.server.storage.jdbc.record.TableIndex;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Suggests the indexes for a table, based upon its {@linkplain QueryStatistics query statistics}.
+ *
+ * <p>An index is suggested for each of the query shapes, which is both frequent and slow,
+ * i.e. has been executed at least the {@linkplain Builder#setMinCount(long) set number}
+ * of times, and which 95th percentile latency is at least the {@linkplain
+ * Builder#setMinLatency(Duration) set duration}. The columns of the index are the
+ * {@linkplain QueryShape#indexColumns() ones} suiting the queries of the shape. The index is
+ * not suggested if the table already has an index, which starts with the same columns.
+ *
+ * <p>Optionally, the advisor asks the database for the plan of a sample query of each shape
+ * by executing {@code EXPLAIN}, and creates the suggested indexes.
+ */
+public final class IndexAdvisor implements WithLogging {
+
+    /**
+     * The default minimal number of the queries of a shape to suggest an index for.
+     */
+    public static final long DEFAULT_MIN_COUNT = 100;
+
+    /**
+     * The default minimal 95th percentile latency of the queries of a shape
+     * to suggest an index for.
+     */
+    public static final Duration DEFAULT_MIN_LATENCY = Duration.ofMillis(50);
+
+    private final long minCount;
+    private final Duration minLatency;
+    private final boolean explain;
+    private final boolean createIndexes;
+
+    private IndexAdvisor(Builder builder) {
+        this.minCount = builder.minCount;
+        this.minLatency = builder.minLatency;
+        this.explain = builder.explain;
+        this.createIndexes = builder.createIndexes;
+    }
+
+    /**
+     * Suggests the indexes for the passed table.
+     *
+     * <p>Returns an empty list if the statistics of the queries to the table
+     * are not collected.
+     *
+     * @param table
+     *         the table to suggest the indexes for
+     * @param <I>
+     *         the type of the identifiers of the stored records
+     * @param <R>
+     *         the type of the stored records
+     * @return the suggested indexes, for the most frequent query shapes first
+     */
+    public <I, R extends Message> ImmutableList<IndexAdvice> advise(RecordTable<I, R> table) {
+        checkNotNull(table);
+        var statistics = table.queryStatistics();
+        if (statistics.isEmpty()) {
+            return ImmutableList.of();
+        }
+        var stats = statistics.get();
+        var result = ImmutableList.<IndexAdvice>builder();
+        List<TableIndex> indexes = new ArrayList<>(table.spec().indexes());
+        for (var shapeStats : stats.shapes()) {
+            if (!isFrequentAndSlow(shapeStats)) {
+                continue;
+            }
+            var columns = shapeStats.shape()
+                                    .indexColumns();
+            if (columns.isEmpty() || !allPresent(table, columns) || isCovered(indexes, columns)) {
+                continue;
+            }
+            var index = TableIndex.onColumns(columns);
+            indexes.add(index);
+            var plan = explain
+                       ? planOf(table, stats, shapeStats.shape())
+                       : ImmutableList.<String>of();
+            if (createIndexes) {
+                table.createIndex(index);
+            }
+            result.add(new IndexAdvice(table.name(), index, shapeStats, plan, createIndexes));
+        }
+        return result.build();
+    }
+
+    private boolean isFrequentAndSlow(QueryShapeStats stats) {
+        return stats.count() >= minCount && stats.p95().compareTo(minLatency) >= 0;
+    }
+
+    private static boolean allPresent(RecordTable<?, ?> table, List<String> columns) {
+        return columns.stream()
+                      .allMatch(c -> table.spec()
+                                          .findColumn(ColumnName.of(c))
+                                          .isPresent());
+    }
+
+    private static boolean isCovered(List<TableIndex> indexes, List<String> columns) {
+        return indexes.stream()
+                      .map(TableIndex::columns)
+                      .anyMatch(existing -> existing.size() >= columns.size()
+                              && existing.subList(0, columns.size()).equals(columns));
+    }
+
+    @SuppressWarnings("unchecked" /* The sample queries are recorded for the same table. */)
+    private <I, R extends Message> ImmutableList<String>
+    planOf(RecordTable<I, R> table, QueryStatistics stats, QueryShape shape) {
+        var sample = stats.sampleOf(shape);
+        if (sample.isEmpty()) {
+            return ImmutableList.of();
+        }
+        var query = (RecordQuery<I, R>) sample.get();
+        try {
+            return table.explain(query);
+        } catch (RuntimeException e) {
+            logger().atWarning()
+                    .withCause(e)
+                    .log(() -> format("Unable to obtain the plan of the `%s` query " +
+                                              "to the table `%s`.", shape, table.name()));
+            return ImmutableList.of();
+        }
+    }
+
+    /**
+     * Creates a new builder of the advisors.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * A builder of {@code IndexAdvisor}s.
+     */
+    public static final class Builder {
+
+        private long minCount = DEFAULT_MIN_COUNT;
+        private Duration minLatency = DEFAULT_MIN_LATENCY;
+        private boolean explain = false;
+        private boolean createIndexes = false;
+
+        /**
+         * Prevents direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the minimal number of the queries of a shape to suggest an index for.
+         *
+         * <p>If not set, {@link #DEFAULT_MIN_COUNT} is used.
+         */
+        @CanIgnoreReturnValue
+        public Builder setMinCount(long minCount) {
+            checkArgument(minCount > 0, "The minimal count must be positive.");
+            this.minCount = minCount;
+            return this;
+        }
+
+        /**
+         * Sets the minimal 95th percentile latency of the queries of a shape
+         * to suggest an index for.
+         *
+         * <p>If not set, {@link #DEFAULT_MIN_LATENCY} is used.
+         */
+        @CanIgnoreReturnValue
+        public Builder setMinLatency(Duration minLatency) {
+            checkNotNull(minLatency);
+            checkArgument(!minLatency.isNegative(), "The minimal latency must not be negative.");
+            this.minLatency = minLatency;
+            return this;
+        }
+
+        /**
+         * Makes the advisor obtain the plan of a sample query for each suggested index,
+         * by executing {@code EXPLAIN}.
+         *
+         * <p>The {@code EXPLAIN} prefix is supported by H2, MySQL, and PostgreSQL.
+         * For other engines, the plan is not obtained.
+         */
+        @CanIgnoreReturnValue
+        public Builder explain() {
+            this.explain = true;
+            return this;
+        }
+
+        /**
+         * Makes the advisor create the suggested indexes.
+         *
+         * <p>The indexes are created in the same way as the
+         * {@linkplain io.spine.server.storage.jdbc.JdbcStorageFactory.Builder#addIndex
+         * declared} ones. Consider declaring them as well, so that they are created
+         * in the other environments.
+         */
+        @CanIgnoreReturnValue
+        public Builder createIndexes() {
+            this.createIndexes = true;
+            return this;
+        }
+
+        /**
+         * Creates a new advisor.
+         */
+        public IndexAdvisor build() {
+            return new IndexAdvisor(this);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.stats;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A histogram of the latencies of the queries, which is safe to record into concurrently.
+ *
+ * <p>The latencies are counted in the buckets, eight per each power of two nanoseconds.
+ * So, a percentile is reported with an error of at most 12.5%, while the histogram
+ * takes a fixed amount of memory.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a single latency.
+     */
+    void record(long nanos) {
+        var value = Math.max(nanos, 0L);
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of the recorded latencies.
+     */
+    long count() {
+        return count.get();
+    }
+
+    /**
+     * Returns the largest recorded latency.
+     */
+    Duration max() {
+        return Duration.ofNanos(max.get());
+    }
+
+    /**
+     * Returns the latency, which the passed share of the recorded latencies does not exceed.
+     *
+     * @param share
+     *         the share of the latencies, from {@code 0.0} to {@code 1.0},
+     *         e.g. {@code 0.95} for the 95th percentile
+     */
+    Duration percentile(double share) {
+        checkArgument(share >= 0.0 && share <= 1.0,
+                      "The share must be within [0.0, 1.0]. Got: %s.", share);
+        var total = count.get();
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+        var target = Math.max(1L, (long) Math.ceil(share * total));
+        var seen = 0L;
+        for (var index = 0; index < BUCKETS; index++) {
+            seen += counts.get(index);
+            if (seen >= target) {
+                return Duration.ofNanos(Math.min(upperBound(index), max.get()));
+            }
+        }
+        return max();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        var subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        var exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        var subBucket = index % SUB_BUCKETS;
+        var step = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * step - 1;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.stats;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import io.spine.query.ComparisonOperator;
+import io.spine.query.LogicalOperator;
+import io.spine.query.QueryPredicate;
+import io.spine.query.RecordQuery;
+import io.spine.query.SubjectParameter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * The shape of a {@link RecordQuery}, i.e. the query with the values of its parameters
+ * left out.
+ *
+ * <p>The shape tells which columns the query filters by, with which operators,
+ * which columns it sorts by, and whether it limits the number of the records. The queries
+ * which differ only in the values they match have the same shape.
+ *
+ * <p>The order of the parameters and the nested predicates of a query does not matter.
+ */
+public final class QueryShape {
+
+    private static final Joiner TERM_JOINER = Joiner.on(", ");
+
+    private final boolean byIds;
+    private final String filter;
+    private final ImmutableList<String> sorting;
+    private final boolean limited;
+
+    private final ImmutableSortedSet<String> equalityColumns;
+    private final ImmutableSortedSet<String> rangeColumns;
+    private final boolean disjunctive;
+    private final ImmutableList<String> sortColumns;
+
+    private QueryShape(RecordQuery<?, ?> query) {
+        var subject = query.subject();
+        var predicate = subject.predicate();
+        this.byIds = !subject.id()
+                             .values()
+                             .isEmpty();
+        this.filter = describe(predicate);
+        this.sortColumns = query.sorting()
+                                .stream()
+                                .map(s -> s.column().name().value())
+                                .collect(toImmutableList());
+        this.sorting = query.sorting()
+                            .stream()
+                            .map(s -> nameOf(s.column().name().value(), s.direction()))
+                            .collect(toImmutableList());
+        this.limited = query.limit() != null;
+
+        var equality = ImmutableSortedSet.<String>naturalOrder();
+        var range = ImmutableSortedSet.<String>naturalOrder();
+        this.disjunctive = !collectConjuncts(predicate, equality, range);
+        this.equalityColumns = equality.build();
+        this.rangeColumns = range.build();
+    }
+
+    /**
+     * Obtains the shape of the passed query.
+     */
+    public static QueryShape of(RecordQuery<?, ?> query) {
+        checkNotNull(query);
+        return new QueryShape(query);
+    }
+
+    private static String nameOf(String column, Object direction) {
+        return column + ' ' + direction;
+    }
+
+    /**
+     * Describes the passed predicate, sorting its terms, so that the description does not
+     * depend on the order of the terms.
+     */
+    private static String describe(QueryPredicate<?> predicate) {
+        var terms = new ArrayList<String>();
+        for (var param : predicate.allParams()) {
+            terms.add(nameOf(columnOf(param), param.operator()));
+        }
+        for (var child : predicate.children()) {
+            terms.add(describe(child));
+        }
+        if (terms.isEmpty()) {
+            return "";
+        }
+        Collections.sort(terms);
+        return predicate.operator() + "(" + TERM_JOINER.join(terms) + ')';
+    }
+
+    /**
+     * Collects the columns of the parameters, which all the matching records satisfy.
+     *
+     * @return {@code false} if the predicate has alternatives, which columns
+     *         cannot be collected, {@code true} otherwise
+     */
+    private static boolean collectConjuncts(QueryPredicate<?> predicate,
+                                            ImmutableSortedSet.Builder<String> equality,
+                                            ImmutableSortedSet.Builder<String> range) {
+        var params = predicate.allParams();
+        var children = predicate.children();
+        if (predicate.operator() == LogicalOperator.OR && params.size() + children.size() > 1) {
+            return false;
+        }
+        for (var param : params) {
+            if (param.operator() == ComparisonOperator.EQUALS) {
+                equality.add(columnOf(param));
+            } else {
+                range.add(columnOf(param));
+            }
+        }
+        var result = true;
+        for (var child : children) {
+            result &= collectConjuncts(child, equality, range);
+        }
+        return result;
+    }
+
+    private static String columnOf(SubjectParameter<?, ?, ?> param) {
+        return param.column()
+                    .name()
+                    .value();
+    }
+
+    /**
+     * Tells whether the query selects the records by their IDs.
+     */
+    public boolean byIds() {
+        return byIds;
+    }
+
+    /**
+     * Returns the description of the column filters of the query, or an empty string
+     * if the query does not filter by the columns.
+     *
+     * <p>For instance, {@code AND(label EQUALS, when_received GREATER_THAN)}.
+     */
+    public String filter() {
+        return filter;
+    }
+
+    /**
+     * Returns the columns the query sorts by, along with the directions, in order.
+     */
+    public ImmutableList<String> sorting() {
+        return sorting;
+    }
+
+    /**
+     * Tells whether the query limits the number of the read records.
+     */
+    public boolean limited() {
+        return limited;
+    }
+
+    /**
+     * Returns the columns of the index, which suits the queries of this shape best,
+     * or an empty list if no index would help.
+     *
+     * <p>The columns compared for equality come first, followed by one of the columns
+     * compared by a range, preferably the one the query sorts by. If the query compares
+     * no columns by a range, the columns it sorts by follow instead.
+     *
+     * <p>The queries by IDs are served by the primary key. The filters with alternatives
+     * are not suggested the indexes for.
+     */
+    public ImmutableList<String> indexColumns() {
+        if (byIds || disjunctive) {
+            return ImmutableList.of();
+        }
+        var columns = new LinkedHashSet<>(equalityColumns);
+        if (!rangeColumns.isEmpty()) {
+            var rangeColumn = rangeColumns.first();
+            if (!sortColumns.isEmpty() && rangeColumns.contains(sortColumns.get(0))) {
+                rangeColumn = sortColumns.get(0);
+            }
+            columns.add(rangeColumn);
+        } else {
+            columns.addAll(sortColumns);
+        }
+        return ImmutableList.copyOf(columns);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryShape)) {
+            return false;
+        }
+        var other = (QueryShape) o;
+        return byIds == other.byIds
+                && limited == other.limited
+                && filter.equals(other.filter)
+                && sorting.equals(other.sorting);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(byIds, filter, sorting, limited);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("byIds", byIds)
+                          .add("filter", filter)
+                          .add("sorting", sorting)
+                          .add("limited", limited)
+                          .toString();
+    }
+}
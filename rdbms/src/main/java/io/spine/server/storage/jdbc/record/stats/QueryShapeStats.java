@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.stats;
+
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+
+/**
+ * The statistics of the queries of a certain {@linkplain QueryShape shape},
+ * collected since the statistics were enabled or {@linkplain QueryStatistics#reset() reset}.
+ *
+ * <p>The latency of a query is the time it takes to execute the query, and to read
+ * its results into memory. For the {@linkplain
+ * io.spine.server.storage.jdbc.JdbcStorageFactory.Builder#enableStreamingReads() streaming}
+ * reads, only the time till the first results are available is counted.
+ */
+public final class QueryShapeStats {
+
+    private final QueryShape shape;
+    private final long count;
+    private final Duration median;
+    private final Duration p95;
+    private final Duration p99;
+    private final Duration max;
+
+    QueryShapeStats(QueryShape shape, LatencyHistogram latencies) {
+        this.shape = shape;
+        this.count = latencies.count();
+        this.median = latencies.percentile(0.5);
+        this.p95 = latencies.percentile(0.95);
+        this.p99 = latencies.percentile(0.99);
+        this.max = latencies.max();
+    }
+
+    /**
+     * Returns the shape of the queries.
+     */
+    public QueryShape shape() {
+        return shape;
+    }
+
+    /**
+     * Returns the number of the executed queries.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the median latency of the queries.
+     */
+    public Duration median() {
+        return median;
+    }
+
+    /**
+     * Returns the 95th percentile of the latency of the queries.
+     */
+    public Duration p95() {
+        return p95;
+    }
+
+    /**
+     * Returns the 99th percentile of the latency of the queries.
+     */
+    public Duration p99() {
+        return p99;
+    }
+
+    /**
+     * Returns the largest latency of the queries.
+     */
+    public Duration max() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("shape", shape)
+                          .add("count", count)
+                          .add("median", median)
+                          .add("p95", p95)
+                          .add("p99", p99)
+                          .add("max", max)
+                          .toString();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.stats;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.annotation.Internal;
+import io.spine.query.RecordQuery;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * The statistics of the queries to a table, per {@linkplain QueryShape shape} of the queries.
+ *
+ * <p>The number of the tracked shapes is {@linkplain #MAX_SHAPES limited}. Once the limit is
+ * reached, the queries of the new shapes are only {@linkplain #untrackedCount() counted}.
+ *
+ * <p>The latency of a query is the time spent by the database to execute it
+ * and to deliver all the matching records, as {@linkplain #track(RecordQuery, Supplier) observed}
+ * by the reader of the records. The time the reader spends between the reads of the records
+ * is not included.
+ */
+public final class QueryStatistics {
+
+    /**
+     * The maximum number of the tracked query shapes.
+     */
+    public static final int MAX_SHAPES = 1_000;
+
+    private final ConcurrentMap<QueryShape, ShapeRecord> shapes = new ConcurrentHashMap<>();
+    private final AtomicLong untracked = new AtomicLong();
+
+    /**
+     * Executes the passed query, and tracks the time its records take to be read.
+     *
+     * <p>The records are typically fetched from the database lazily, while being iterated.
+     * So the latency is recorded once the returned iterator is exhausted, and includes
+     * the execution of the query along with the time spent in the {@code hasNext()} and
+     * {@code next()} calls of the iterator. A query, which records are not read
+     * till the end, is not recorded.
+     *
+     * @param query
+     *         the query to execute
+     * @param execution
+     *         executes the query, returning the iterator over its records
+     * @param <R>
+     *         the type of the records
+     * @return the iterator over the records of the query
+     */
+    @Internal
+    public <R> Iterator<R> track(RecordQuery<?, ?> query, Supplier<Iterator<R>> execution) {
+        checkNotNull(query);
+        checkNotNull(execution);
+        var start = System.nanoTime();
+        var records = execution.get();
+        var elapsed = System.nanoTime() - start;
+        return new TrackedIterator<>(records, query, elapsed);
+    }
+
+    /**
+     * Records the execution of the passed query.
+     *
+     * @param query
+     *         the executed query
+     * @param nanos
+     *         the time the query took, in nanoseconds
+     */
+    @Internal
+    public void record(RecordQuery<?, ?> query, long nanos) {
+        checkNotNull(query);
+        var shape = QueryShape.of(query);
+        var record = shapes.get(shape);
+        if (record == null) {
+            if (shapes.size() >= MAX_SHAPES) {
+                untracked.incrementAndGet();
+                return;
+            }
+            record = shapes.computeIfAbsent(shape, s -> new ShapeRecord(query));
+        }
+        record.latencies.record(nanos);
+    }
+
+    /**
+     * Returns the statistics of each of the tracked query shapes,
+     * the most frequent shapes first.
+     */
+    public ImmutableList<QueryShapeStats> shapes() {
+        return shapes.entrySet()
+                     .stream()
+                     .map(e -> new QueryShapeStats(e.getKey(), e.getValue().latencies))
+                     .sorted(Comparator.comparingLong(QueryShapeStats::count)
+                                       .reversed())
+                     .collect(toImmutableList());
+    }
+
+    /**
+     * Returns the number of the queries, which shapes were not tracked,
+     * as too many shapes were tracked already.
+     */
+    public long untrackedCount() {
+        return untracked.get();
+    }
+
+    /**
+     * Clears the collected statistics.
+     */
+    public void reset() {
+        shapes.clear();
+        untracked.set(0);
+    }
+
+    /**
+     * Returns the first recorded query of the passed shape, if the shape is tracked.
+     */
+    Optional<RecordQuery<?, ?>> sampleOf(QueryShape shape) {
+        return Optional.ofNullable(shapes.get(shape))
+                       .map(record -> record.sample);
+    }
+
+    /**
+     * The latencies of the queries of a single shape, along with a sample query.
+     */
+    private static final class ShapeRecord {
+
+        private final RecordQuery<?, ?> sample;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        private ShapeRecord(RecordQuery<?, ?> sample) {
+            this.sample = sample;
+        }
+    }
+
+    /**
+     * An iterator over the records of a query, which records the latency of the query
+     * once exhausted.
+     */
+    private final class TrackedIterator<R> implements Iterator<R> {
+
+        private final Iterator<R> records;
+        private final RecordQuery<?, ?> query;
+        private long elapsed;
+        private boolean recorded;
+
+        private TrackedIterator(Iterator<R> records, RecordQuery<?, ?> query, long elapsed) {
+            this.records = records;
+            this.query = query;
+            this.elapsed = elapsed;
+        }
+
+        @Override
+        public boolean hasNext() {
+            var start = System.nanoTime();
+            var result = records.hasNext();
+            elapsed += System.nanoTime() - start;
+            if (!result && !recorded) {
+                recorded = true;
+                record(query, elapsed);
+            }
+            return result;
+        }
+
+        @Override
+        public R next() {
+            var start = System.nanoTime();
+            try {
+                return records.next();
+            } finally {
+                elapsed += System.nanoTime() - start;
+            }
+        }
+    }
+}
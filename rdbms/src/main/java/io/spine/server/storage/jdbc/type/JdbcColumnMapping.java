@@ -27,22 +27,34 @@
 package io.spine.server.storage.jdbc.type;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Message;
+import com.google.protobuf.ProtocolMessageEnum;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
 import io.spine.annotation.Experimental;
 import io.spine.annotation.SPI;
 import io.spine.core.Version;
+import io.spine.protobuf.Messages;
 import io.spine.server.storage.AbstractColumnMapping;
 import io.spine.server.storage.ColumnTypeMapping;
 import io.spine.server.storage.jdbc.Type;
 import io.spine.type.Json;
+import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.spine.server.storage.ColumnTypeMapping.identity;
 import static io.spine.server.storage.jdbc.Type.BOOLEAN;
 import static io.spine.server.storage.jdbc.Type.BYTE_ARRAY;
@@ -51,6 +63,7 @@ import static io.spine.server.storage.jdbc.Type.FLOAT;
 import static io.spine.server.storage.jdbc.Type.INT;
 import static io.spine.server.storage.jdbc.Type.LONG;
 import static io.spine.server.storage.jdbc.Type.STRING;
+import static io.spine.server.storage.jdbc.type.JdbcColumnTypeMapping.restorable;
 
 /**
  * Scheme of relations between Java types of the values stored in record columns,
@@ -85,6 +98,147 @@ public class JdbcColumnMapping extends AbstractColumnMapping<Object> {
         return type;
     }
 
+    /**
+     * Tells whether the values of the passed column type may be restored
+     * into the passed message field from their stored form.
+     *
+     * <p>The values are restorable if the column type corresponds to the type of the field,
+     * and the column values are stored with a default rule, which is
+     * {@linkplain JdbcColumnTypeMapping#isRestorable() declared restorable}. The values
+     * of {@link Version} columns, and of the types with {@linkplain #customRules() custom rules}
+     * are never restorable. Neither are the values stored by a default rule, which SPI users
+     * override, such as {@link #ofString()}, unless they override this method
+     * and {@link #restore(Object, FieldDescriptor) restore(..)} as well.
+     *
+     * @param columnType
+     *         the Java type of the column values
+     * @param field
+     *         the message field to restore
+     */
+    public boolean isRestorable(Class<?> columnType, FieldDescriptor field) {
+        checkNotNull(columnType);
+        checkNotNull(field);
+        if (field.isRepeated() || customTypes().contains(columnType)) {
+            return false;
+        }
+        var typeMapping = (JdbcColumnTypeMapping<?, ?>) of(columnType);
+        if (!typeMapping.isRestorable()) {
+            return false;
+        }
+        var storedType = storedTypeOf(columnType, field);
+        return storedType != null && storedType == typeOf(columnType);
+    }
+
+    /**
+     * Restores the value of the message field from the value stored in a column.
+     *
+     * @param storedValue
+     *         the value read from the column, of the Java type
+     *         corresponding to the {@linkplain #typeOf(Class) RDBMS type} of the column
+     * @param field
+     *         the {@linkplain #isRestorable(Class, FieldDescriptor) restorable} field
+     * @return the value of the field, suitable for {@link Message.Builder#setField}
+     */
+    public Object restore(Object storedValue, FieldDescriptor field) {
+        checkNotNull(storedValue);
+        checkNotNull(field);
+        switch (field.getJavaType()) {
+            case BYTE_STRING:
+                return ByteString.copyFrom((byte[]) storedValue);
+            case ENUM:
+                return enumValue((Integer) storedValue, field.getEnumType());
+            case MESSAGE:
+                if (storedValue instanceof Long) {
+                    return Timestamps.fromNanos((Long) storedValue);
+                }
+                var messageClass = TypeUrl.from(field.getMessageType())
+                                          .toJavaClass();
+                return Json.fromJson((String) storedValue, messageClass);
+            default:
+                return storedValue;
+        }
+    }
+
+    /**
+     * Finds the enum value by the ordinal of the Java enum constant, under which
+     * it is {@linkplain #ofEnum() stored}.
+     *
+     * <p>The Java enum constants are generated for the values of the enum in the order
+     * of their declaration, except for the aliases, which refer to the constants
+     * of the values they alias. So the aliases are skipped when counting the ordinals.
+     */
+    private static EnumValueDescriptor enumValue(int ordinal, EnumDescriptor type) {
+        var constants = type.getValues()
+                            .stream()
+                            .filter(value -> type.findValueByNumber(value.getNumber()) == value)
+                            .collect(toImmutableList());
+        checkState(ordinal >= 0 && ordinal < constants.size(),
+                   "The enum `%s` has no value with the ordinal `%s`.",
+                   type.getFullName(), ordinal);
+        return constants.get(ordinal);
+    }
+
+    /**
+     * Returns the RDBMS type, in which the default rules store the values
+     * of the passed column type, if they may be restored into the passed field.
+     */
+    private static @Nullable Type storedTypeOf(Class<?> columnType, FieldDescriptor field) {
+        switch (field.getJavaType()) {
+            case STRING:
+                return columnType == String.class ? STRING : null;
+            case INT:
+                return columnType == Integer.class ? INT : null;
+            case LONG:
+                return columnType == Long.class ? LONG : null;
+            case FLOAT:
+                return columnType == Float.class ? FLOAT : null;
+            case DOUBLE:
+                return columnType == Double.class ? DOUBLE : null;
+            case BOOLEAN:
+                return columnType == Boolean.class ? BOOLEAN : null;
+            case BYTE_STRING:
+                return columnType == ByteString.class ? BYTE_ARRAY : null;
+            case ENUM:
+                return isEnumOf(columnType, field.getEnumType()) ? INT : null;
+            case MESSAGE:
+                if (!isMessageOf(columnType, field.getMessageType())
+                        || columnType == Version.class) {
+                    return null;
+                }
+                return columnType == Timestamp.class ? LONG : STRING;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isEnumOf(Class<?> columnType, EnumDescriptor descriptor) {
+        if (!columnType.isEnum() || !ProtocolMessageEnum.class.isAssignableFrom(columnType)) {
+            return false;
+        }
+        var constants = columnType.getEnumConstants();
+        return constants.length > 0
+                && ((ProtocolMessageEnum) constants[0]).getDescriptorForType()
+                                                       .equals(descriptor);
+    }
+
+    @SuppressWarnings("unchecked" /* Checked by `isAssignableFrom(..)`. */)
+    private static boolean isMessageOf(Class<?> columnType, Descriptor descriptor) {
+        if (!Message.class.isAssignableFrom(columnType)) {
+            return false;
+        }
+        var messageType = (Class<? extends Message>) columnType;
+        return Messages.getDefaultInstance(messageType)
+                       .getDescriptorForType()
+                       .equals(descriptor);
+    }
+
+    private ImmutableSet<Class<?>> customTypes() {
+        if (customTypes == null) {
+            customTypes = customRules().keySet();
+        }
+        return customTypes;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -129,47 +283,47 @@ public class JdbcColumnMapping extends AbstractColumnMapping<Object> {
 
     @Override
     protected ColumnTypeMapping<String, String> ofString() {
-        return new JdbcColumnTypeMapping<>(identity(), STRING);
+        return restorable(identity(), STRING);
     }
 
     @Override
     protected ColumnTypeMapping<Integer, Integer> ofInteger() {
-        return new JdbcColumnTypeMapping<>(identity(), INT);
+        return restorable(identity(), INT);
     }
 
     @Override
     protected ColumnTypeMapping<Long, Long> ofLong() {
-        return new JdbcColumnTypeMapping<>(identity(), LONG);
+        return restorable(identity(), LONG);
     }
 
     @Override
     protected ColumnTypeMapping<Float, Float> ofFloat() {
-        return new JdbcColumnTypeMapping<>(identity(), FLOAT);
+        return restorable(identity(), FLOAT);
     }
 
     @Override
     protected ColumnTypeMapping<Double, Double> ofDouble() {
-        return new JdbcColumnTypeMapping<>(identity(), DOUBLE);
+        return restorable(identity(), DOUBLE);
     }
 
     @Override
     protected ColumnTypeMapping<Boolean, Boolean> ofBoolean() {
-        return new JdbcColumnTypeMapping<>(identity(), BOOLEAN);
+        return restorable(identity(), BOOLEAN);
     }
 
     @Override
     protected ColumnTypeMapping<ByteString, byte[]> ofByteString() {
-        return new JdbcColumnTypeMapping<>(ByteString::toByteArray, BYTE_ARRAY);
+        return restorable(ByteString::toByteArray, BYTE_ARRAY);
     }
 
     @Override
     protected ColumnTypeMapping<Enum<?>, Integer> ofEnum() {
-        return new JdbcColumnTypeMapping<>(Enum::ordinal, INT);
+        return restorable(Enum::ordinal, INT);
     }
 
     @Override
     protected ColumnTypeMapping<Message, String> ofMessage() {
-        return new JdbcColumnTypeMapping<>(Json::toCompactJson, STRING);
+        return restorable(Json::toCompactJson, STRING);
     }
 
     @Override
@@ -181,7 +335,7 @@ public class JdbcColumnMapping extends AbstractColumnMapping<Object> {
      * Returns the default mapping from {@link Timestamp} to {@link Long}.
      */
     protected static JdbcColumnTypeMapping<Timestamp, Long> ofTimestamp() {
-        return new JdbcColumnTypeMapping<>(Timestamps::toNanos, LONG);
+        return restorable(Timestamps::toNanos, LONG);
     }
 
     /**
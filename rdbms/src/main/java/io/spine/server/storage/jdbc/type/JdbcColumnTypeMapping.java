@@ -42,11 +42,44 @@ public final class JdbcColumnTypeMapping<T, R> implements ColumnTypeMapping<T, R
 
     private final ColumnTypeMapping<T, R> mapping;
     private final Type type;
+    private final boolean restorable;
 
+    /**
+     * Creates a new mapping, whose stored values may not be restored
+     * into the original ones.
+     *
+     * @param mapping
+     *         the conversion of the column values
+     * @param type
+     *         the RDBMS type of the column
+     */
     @SuppressWarnings("WeakerAccess" /* Part of the public API. */)
     public JdbcColumnTypeMapping(ColumnTypeMapping<T, R> mapping, Type type) {
+        this(mapping, type, false);
+    }
+
+    private JdbcColumnTypeMapping(ColumnTypeMapping<T, R> mapping, Type type, boolean restorable) {
         this.mapping = mapping;
         this.type = type;
+        this.restorable = restorable;
+    }
+
+    /**
+     * Creates a new mapping, whose stored values may be restored into the original ones
+     * by {@link JdbcColumnMapping#restore(Object, com.google.protobuf.Descriptors.FieldDescriptor)
+     * JdbcColumnMapping.restore(..)}.
+     *
+     * <p>Only the default rules of {@link JdbcColumnMapping} are declared restorable,
+     * as {@code restore(..)} performs the reverse of their conversions.
+     *
+     * @param mapping
+     *         the lossless conversion of the column values
+     * @param type
+     *         the RDBMS type of the column
+     */
+    static <T, R> JdbcColumnTypeMapping<T, R>
+    restorable(ColumnTypeMapping<T, R> mapping, Type type) {
+        return new JdbcColumnTypeMapping<>(mapping, type, true);
     }
 
     @Override
@@ -66,4 +99,11 @@ public final class JdbcColumnTypeMapping<T, R> implements ColumnTypeMapping<T, R
     public Type storeAs() {
         return type;
     }
+
+    /**
+     * Tells whether the stored values are declared restorable into the original ones.
+     */
+    public boolean isRestorable() {
+        return restorable;
+    }
 }
@@ -30,6 +30,9 @@ import com.google.common.testing.NullPointerTester;
 import com.google.common.testing.NullPointerTester.Visibility;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
 
 @DisplayName("`HikariConfiguration` should")
 class HikariConfigurationTest extends UtilityClassTest<HikariConfiguration> {
@@ -50,4 +53,60 @@ class HikariConfigurationTest extends UtilityClassTest<HikariConfiguration> {
                 .build();
         tester.setDefault(DataSourceConfig.class, dataSource);
     }
+
+    @Test
+    @DisplayName("apply the performance profile of the engine detected by the JDBC URL")
+    void applyProfile() {
+        var config = mySqlConfig().build();
+
+        var properties = HikariConfiguration.from(config)
+                                            .getDataSourceProperties();
+
+        assertThat(properties)
+                .containsEntry("rewriteBatchedStatements", "true");
+        assertThat(properties)
+                .containsEntry("cachePrepStmts", "true");
+    }
+
+    @Test
+    @DisplayName("override the profile by the properties set explicitly")
+    void overrideProfile() {
+        var config = mySqlConfig()
+                .addDataSourceProperty("prepStmtCacheSize", "500")
+                .addDataSourceProperty("connectTimeout", "1000")
+                .build();
+
+        var properties = HikariConfiguration.from(config)
+                                            .getDataSourceProperties();
+
+        assertThat(properties)
+                .containsEntry("prepStmtCacheSize", "500");
+        assertThat(properties)
+                .containsEntry("connectTimeout", "1000");
+    }
+
+    @Test
+    @DisplayName("not apply the performance profile if it is turned off")
+    void skipProfile() {
+        var config = mySqlConfig()
+                .setPerformanceProfile(false)
+                .addDataSourceProperty("connectTimeout", "1000")
+                .build();
+
+        var properties = HikariConfiguration.from(config)
+                                            .getDataSourceProperties();
+
+        assertThat(properties)
+                .doesNotContainKey("rewriteBatchedStatements");
+        assertThat(properties)
+                .containsEntry("connectTimeout", "1000");
+    }
+
+    private static DataSourceConfig.Builder mySqlConfig() {
+        return DataSourceConfig
+                .newBuilder()
+                .setJdbcUrl("jdbc:mysql://localhost:3306/db")
+                .setUsername("")
+                .setPassword("");
+    }
 }
@@ -26,13 +26,17 @@
 
 package io.spine.server.storage.jdbc;
 
+import com.google.common.collect.ImmutableList;
 import io.spine.server.ContextSpec;
 import io.spine.server.delivery.InboxMessage;
 import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
 import io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.InboxMessageColumnMapping;
 import io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.StgProjectAggregate;
 import io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.TestColumnMapping;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
 import io.spine.server.storage.jdbc.record.JdbcRecordStorage;
+import io.spine.server.storage.jdbc.record.RecordTable;
 import io.spine.server.storage.jdbc.record.TableNames;
 import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
 import io.spine.test.storage.StgProject;
@@ -40,6 +44,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.server.storage.given.GivenStorageProject.messageSpec;
@@ -56,6 +63,7 @@ import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.singl
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("`JdbcStorageFactory` should")
@@ -127,6 +135,45 @@ class JdbcStorageFactoryTest {
         assertEquals(MYSQL_9_7, factory.typeMapping());
     }
 
+    @Test
+    @DisplayName("not accept a non-positive chunk size")
+    void rejectNonPositiveChunkSize() {
+        var builder = JdbcStorageFactory.newBuilder();
+        assertThrows(IllegalArgumentException.class, () -> builder.setChunkSize(0));
+    }
+
+    @Test
+    @DisplayName("write, read and delete records in chunks of the configured size")
+    void useChunkSize() {
+        var factory = JdbcStorageFactory
+                .newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .setChunkSize(2)
+                .build();
+        var spec = inboxMessageSpec();
+        var table = RecordTable.by(factory.tableSpecFor(spec), factory);
+        table.create();
+        assertThat(table.chunkSize())
+                .isEqualTo(2);
+
+        var messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                             .limit(5)
+                             .collect(toImmutableList());
+        var records = messages.stream()
+                              .map(message -> RecordWithColumns.create(message, spec))
+                              .collect(toImmutableList());
+        table.writeAll(records);
+        var ids = messages.stream()
+                          .map(InboxMessage::getId)
+                          .collect(toImmutableList());
+        assertThat(ImmutableList.copyOf(table.index()))
+                .containsExactlyElementsIn(ids);
+
+        table.deleteMany(ids);
+        assertThat(table.index().hasNext())
+                .isFalse();
+    }
+
     @Nested
     @DisplayName("override")
     class OverridingDefaultsPerType {
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.engine;
+
+import io.spine.server.storage.jdbc.DataSourceConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichHoldsMetadata;
+
+@DisplayName("`PredefinedEngine` should")
+final class PredefinedEngineTest {
+
+    @ParameterizedTest(name = "`{0}` as `{1}`")
+    @DisplayName("detect the engine by the database product name")
+    @CsvSource({
+            "MySQL, MySQL",
+            "PostgreSQL, Postgres",
+            "H2, H2",
+            "HSQL Database Engine, HyperSql",
+            "Apache Derby, Generic"
+    })
+    void detectByProductName(String productName, PredefinedEngine expected) {
+        var dataSource = whichHoldsMetadata(productName, 1, 0);
+        var actual = PredefinedEngine.from(dataSource.metaData());
+        assertThat(actual)
+                .isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "`{0}` as `{1}`")
+    @DisplayName("detect the engine by the JDBC URL")
+    @CsvSource({
+            "jdbc:mysql://localhost:3306/db, MySQL",
+            "jdbc:postgresql://localhost/db, Postgres",
+            "jdbc:h2:mem:db, H2",
+            "jdbc:hsqldb:mem:db, HyperSql",
+            "jdbc:derby:memory:db, Generic"
+    })
+    void detectByJdbcUrl(String jdbcUrl, PredefinedEngine expected) {
+        var config = DataSourceConfig.newBuilder()
+                .setJdbcUrl(jdbcUrl)
+                .setUsername("")
+                .setPassword("")
+                .build();
+        assertThat(PredefinedEngine.from(config))
+                .isEqualTo(expected);
+    }
+}
@@ -114,6 +114,7 @@ abstract class TimestampTable<I> extends RecordTable<I, Timestamp> {
         var queryBuilder = SelectRecordId
                 .<I, Timestamp>newBuilder()
                 .setDataSource(dataSource())
+                .setQueryFactories(queryFactories())
                 .setTableSpec(spec())
                 .setId(id);
         var query = queryBuilder.build();
@@ -128,6 +129,7 @@ abstract class TimestampTable<I> extends RecordTable<I, Timestamp> {
         var builder = SelectTimestampById
                 .<I>newBuilder()
                 .setDataSource(dataSource())
+                .setQueryFactories(queryFactories())
                 .setTableSpec(spec())
                 .setId(id);
         var query = builder.build();
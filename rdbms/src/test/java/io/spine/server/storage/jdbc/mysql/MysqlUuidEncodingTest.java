@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.mysql;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.StringValue;
+import io.spine.query.RecordColumn;
+import io.spine.server.storage.RecordSpec;
+import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.testing.SlowTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.server.storage.jdbc.record.column.IdEncoding.UUID;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that the {@code UUID} encoding of the identifiers is rejected by MySQL,
+ * which has no native {@code UUID} type.
+ */
+@DisplayName("A MySQL table with the UUID-encoded IDs should")
+@SlowTest
+@EnableConditionally
+final class MysqlUuidEncodingTest {
+
+    @Test
+    @DisplayName("not be created")
+    void rejectCreation() {
+        var factory = MysqlTests.newFactory();
+        var recordSpec = new RecordSpec<>(StringValue.class, StringValue.class, value -> value,
+                                          ImmutableSet.<RecordColumn<StringValue, ?>>of());
+        var spec = JdbcTableSpec.<StringValue, StringValue>newBuilder()
+                .setTableName("uuid_values")
+                .setRecordSpec(recordSpec)
+                .setColumnMapping(factory.columnMapping())
+                .setIdEncoding(UUID)
+                .build();
+        var table = RecordTable.by(spec, factory);
+
+        assertThrows(IllegalStateException.class, table::create);
+    }
+}
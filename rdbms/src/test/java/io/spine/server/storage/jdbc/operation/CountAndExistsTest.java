@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+
+@DisplayName("`CountByQuery` and `ExistsByQuery` operations should")
+final class CountAndExistsTest {
+
+    private RecordTable<InboxMessageId, InboxMessage> table;
+    private ImmutableList<InboxMessage> messages;
+
+    @BeforeEach
+    void createTable() {
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                         .limit(5)
+                         .collect(toImmutableList());
+        table.writeAll(messages.stream()
+                               .map(m -> RecordWithColumns.create(m, inboxMessageSpec()))
+                               .collect(toImmutableList()));
+    }
+
+    @Test
+    @DisplayName("count all the records")
+    void countAll() {
+        assertThat(table.count(queryAll()))
+                .isEqualTo((long) messages.size());
+    }
+
+    @Test
+    @DisplayName("count the matching records")
+    void countMatching() {
+        var ids = ImmutableList.of(messages.get(0).getId(),
+                                   messages.get(1).getId(),
+                                   unknownId());
+
+        assertThat(table.count(queryByIds(ids)))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("tell that a matching record exists")
+    void exists() {
+        var ids = ImmutableList.of(unknownId(), messages.get(3).getId());
+
+        assertThat(table.exists(queryByIds(ids)))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("tell that no matching record exists")
+    void notExists() {
+        var ids = ImmutableList.of(unknownId());
+
+        assertThat(table.exists(queryByIds(ids)))
+                .isFalse();
+        assertThat(table.count(queryByIds(ids)))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("tell that an empty table has no records")
+    void empty() {
+        table.deleteMany(messages.stream()
+                                 .map(InboxMessage::getId)
+                                 .collect(toImmutableList()));
+
+        assertThat(table.exists(queryAll()))
+                .isFalse();
+        assertThat(table.count(queryAll()))
+                .isEqualTo(0L);
+    }
+
+    private static RecordQuery<InboxMessageId, InboxMessage> queryAll() {
+        return RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                          .build();
+    }
+
+    private static RecordQuery<InboxMessageId, InboxMessage>
+    queryByIds(ImmutableList<InboxMessageId> ids) {
+        return RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                          .id().in(ids)
+                          .build();
+    }
+
+    private static InboxMessageId unknownId() {
+        return randomHandleCommandMessage().getId();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.imStorageFactoryBuilder;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+
+@DisplayName("`FetchExistingIds` should")
+final class FetchExistingIdsTest {
+
+    @Test
+    @DisplayName("return the normalized IDs of the stored records only")
+    void returnStoredIds() {
+        var factory = imStorageFactoryBuilder().build();
+        var spec = inboxMessageSpec();
+        var table = RecordTable.by(factory.tableSpecFor(spec), factory);
+        table.create();
+
+        var stored = randomHandleCommandMessage();
+        var missing = randomHandleCommandMessage();
+        table.write(RecordWithColumns.create(stored, spec));
+
+        var operation = factory.operations()
+                               .fetchExistingIds(table);
+        var actual = operation.execute(ImmutableList.of(stored.getId(), missing.getId()));
+
+        var expected = table.idColumn()
+                            .normalize(stored.getId());
+        assertThat(actual)
+                .containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("return no IDs if none are passed")
+    void returnNothingForNoIds() {
+        var factory = imStorageFactoryBuilder().build();
+        var table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+
+        var actual = factory.operations()
+                            .fetchExistingIds(table)
+                            .execute(ImmutableList.of());
+        assertThat(actual)
+                .isEmpty();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`GroupCommitWriter` should")
+final class GroupCommitWriterTest {
+
+    private static final int RECORDS = 8;
+    private static final int MAX_BATCH_SIZE = RECORDS / 2;
+    private static final Duration MAX_WAIT = Duration.ofMillis(50);
+
+    private RecordTable<InboxMessageId, InboxMessage> table;
+    private ImmutableList<InboxMessage> messages;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createTable() {
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .enableGroupCommit(MAX_WAIT, MAX_BATCH_SIZE)
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                         .limit(RECORDS)
+                         .collect(toImmutableList());
+        executor = Executors.newFixedThreadPool(RECORDS);
+    }
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("write all the records requested concurrently")
+    void writeConcurrently() throws Exception {
+        var start = new CountDownLatch(1);
+        var writes = new ArrayList<Future<?>>();
+        for (var message : messages) {
+            writes.add(executor.submit(() -> {
+                start.await();
+                table.write(RecordWithColumns.create(message, inboxMessageSpec()));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (var write : writes) {
+            write.get();
+        }
+
+        assertThat(ImmutableList.copyOf(table.read(allRecords())))
+                .containsExactlyElementsIn(messages);
+        var stats = table.groupCommitStats()
+                         .orElseThrow();
+        assertThat(stats.writeCount())
+                .isEqualTo((long) RECORDS);
+        assertThat(stats.largestBatchSize())
+                .isAtMost(MAX_BATCH_SIZE);
+        assertThat(stats.batchCount())
+                .isAtLeast((long) RECORDS / MAX_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("write a record, when there are no concurrent writes")
+    void writeAlone() {
+        var message = messages.get(0);
+
+        table.write(RecordWithColumns.create(message, inboxMessageSpec()));
+
+        assertThat(ImmutableList.copyOf(table.read(allRecords())))
+                .containsExactly(message);
+        var stats = table.groupCommitStats()
+                         .orElseThrow();
+        assertThat(stats.batchCount())
+                .isEqualTo(1L);
+        assertThat(stats.averageBatchSize())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("fail only the write of a faulty record, which shares a batch with others")
+    void failFaultyWriteOnly() throws Exception {
+        var valid = messages.subList(0, MAX_BATCH_SIZE - 1);
+        var faulty = faultyMessage();
+        var start = new CountDownLatch(1);
+        var writes = new ArrayList<Future<?>>();
+        for (var message : valid) {
+            writes.add(submitWrite(message, start));
+        }
+        var faultyWrite = submitWrite(faulty, start);
+        start.countDown();
+
+        for (var write : writes) {
+            write.get();
+        }
+        assertThrows(ExecutionException.class, faultyWrite::get);
+        assertThat(ImmutableList.copyOf(table.read(allRecords())))
+                .containsExactlyElementsIn(valid);
+    }
+
+    @Test
+    @DisplayName("fail only the write of a faulty record, written in a chunk after the first one")
+    void failFaultyWriteOfLaterChunk() throws Exception {
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .enableGroupCommit(Duration.ofSeconds(10), RECORDS)
+                .setChunkSize(2)
+                .setAppendOnly(InboxMessage.class)
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        var valid = messages.subList(0, RECORDS - 1);
+        var start = new CountDownLatch(1);
+        var started = new CountDownLatch(valid.size());
+        var writes = new ArrayList<Future<?>>();
+        for (var message : valid) {
+            writes.add(executor.submit(() -> {
+                start.await();
+                started.countDown();
+                table.write(RecordWithColumns.create(message, inboxMessageSpec()));
+                return null;
+            }));
+        }
+        start.countDown();
+        started.await();
+        var faultyWrite = submitWrite(faultyMessage(), new CountDownLatch(0));
+
+        for (var write : writes) {
+            write.get();
+        }
+        assertThrows(ExecutionException.class, faultyWrite::get);
+        assertThat(ImmutableList.copyOf(table.read(allRecords())))
+                .containsExactlyElementsIn(valid);
+    }
+
+    private Future<?> submitWrite(InboxMessage message, CountDownLatch start) {
+        return executor.submit(() -> {
+            start.await();
+            table.write(RecordWithColumns.create(message, inboxMessageSpec()));
+            return null;
+        });
+    }
+
+    /**
+     * Creates a message, whose ID does not fit into the ID column.
+     */
+    private InboxMessage faultyMessage() {
+        var message = messages.get(RECORDS - 1);
+        var id = message.getId()
+                        .toBuilder()
+                        .setUuid("too-long-".repeat(100))
+                        .build();
+        return message.toBuilder()
+                      .setId(id)
+                      .build();
+    }
+
+    @Test
+    @DisplayName("not allow a non-positive maximum wait or batch size")
+    void rejectInvalidSettings() {
+        var builder = JdbcStorageFactory.newBuilder();
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder.enableGroupCommit(Duration.ZERO, MAX_BATCH_SIZE));
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder.enableGroupCommit(MAX_WAIT, 0));
+    }
+
+    private static RecordQuery<InboxMessageId, InboxMessage> allRecords() {
+        return RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                          .build();
+    }
+}
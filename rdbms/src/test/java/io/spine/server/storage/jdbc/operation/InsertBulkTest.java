@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.testing.logging.mute.MuteLogging;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`InsertBulk` should")
+final class InsertBulkTest {
+
+    private RecordTable<InboxMessageId, InboxMessage> table;
+
+    @BeforeEach
+    void createTable() {
+        var factory = JdbcStorageFactory
+                .newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .setAppendOnly(InboxMessage.class)
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+    }
+
+    @Test
+    @DisplayName("insert all the passed records")
+    void insert() {
+        var messages = ImmutableList.of(randomHandleCommandMessage(),
+                                        randomHandleCommandMessage());
+        table.writeAll(records(messages));
+
+        assertThat(ImmutableList.copyOf(table.index()))
+                .containsExactlyElementsIn(ids(messages));
+    }
+
+    @Test
+    @MuteLogging
+    @DisplayName("write no records, if some of them are already stored")
+    void failAtomically() {
+        var stored = randomHandleCommandMessage();
+        table.writeAll(records(ImmutableList.of(stored)));
+
+        var messages = ImmutableList.of(randomHandleCommandMessage(), stored);
+        assertThrows(RuntimeException.class, () -> table.writeAll(records(messages)));
+
+        assertThat(ImmutableList.copyOf(table.index()))
+                .containsExactly(stored.getId());
+    }
+
+    private static ImmutableList<RecordWithColumns<InboxMessageId, InboxMessage>>
+    records(ImmutableList<InboxMessage> messages) {
+        return messages.stream()
+                       .map(message -> RecordWithColumns.create(message, inboxMessageSpec()))
+                       .collect(toImmutableList());
+    }
+
+    private static ImmutableList<InboxMessageId> ids(ImmutableList<InboxMessage> messages) {
+        return messages.stream()
+                       .map(InboxMessage::getId)
+                       .collect(toImmutableList());
+    }
+}
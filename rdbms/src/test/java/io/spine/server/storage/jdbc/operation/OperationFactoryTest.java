@@ -37,6 +37,14 @@ import io.spine.server.storage.jdbc.engine.PredefinedEngine;
 import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
 import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.OverridingAllOpFactory;
 import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.TestOperationFactory;
+import io.spine.server.storage.jdbc.operation.merge.MergeWriteBulk;
+import io.spine.server.storage.jdbc.operation.merge.MergeWriteOne;
+import io.spine.server.storage.jdbc.operation.mysql.MysqlWriteBulk;
+import io.spine.server.storage.jdbc.operation.mysql.MysqlWriteOne;
+import io.spine.server.storage.jdbc.operation.postgres.PostgresWriteBulk;
+import io.spine.server.storage.jdbc.operation.postgres.PostgresWriteOne;
+import io.spine.server.storage.jdbc.query.BytesReadMode;
+import io.spine.server.storage.jdbc.record.RecordTable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -116,6 +124,94 @@ final class OperationFactoryTest {
         }
     }
 
+    @Test
+    @DisplayName("use engine-specific write operations for MySQL, PostgreSQL, H2 and HSQLDB")
+    void selectEngineSpecificWrites() {
+        var dataSource = inMemoryDataSource();
+        var typeMapping = PredefinedMapping.select(dataSource);
+        var storageFactory = imStorageFactoryBuilder().build();
+        var table = RecordTable.by(storageFactory.tableSpecFor(inboxMessageSpec()),
+                                   storageFactory);
+
+        var mysql = new OperationFactory(dataSource, typeMapping, PredefinedEngine.MySQL);
+        assertThat(mysql.writeOne(table))
+                .isInstanceOf(MysqlWriteOne.class);
+        assertThat(mysql.writeBulk(table))
+                .isInstanceOf(MysqlWriteBulk.class);
+
+        var postgres = new OperationFactory(dataSource, typeMapping, PredefinedEngine.Postgres);
+        assertThat(postgres.writeOne(table))
+                .isInstanceOf(PostgresWriteOne.class);
+        assertThat(postgres.writeBulk(table))
+                .isInstanceOf(PostgresWriteBulk.class);
+
+        for (var engine : new PredefinedEngine[]{PredefinedEngine.H2,
+                                                 PredefinedEngine.HyperSql}) {
+            var merging = new OperationFactory(dataSource, typeMapping, engine);
+            assertThat(merging.writeOne(table))
+                    .isInstanceOf(MergeWriteOne.class);
+            assertThat(merging.writeBulk(table))
+                    .isInstanceOf(MergeWriteBulk.class);
+        }
+
+        var generic = new OperationFactory(dataSource, typeMapping, PredefinedEngine.Generic);
+        assertThat(generic.writeOne(table))
+                .isExactlyInstanceOf(WriteOne.class);
+        assertThat(generic.writeBulk(table))
+                .isExactlyInstanceOf(WriteBulk.class);
+    }
+
+    @Test
+    @DisplayName("use update-first writes for the tables configured so, regardless of the engine")
+    void selectUpdateFirstWrites() {
+        var dataSource = inMemoryDataSource();
+        var typeMapping = PredefinedMapping.select(dataSource);
+        var storageFactory = imStorageFactoryBuilder()
+                .setWriteStrategy(InboxMessage.class, WriteStrategy.UPDATE_FIRST)
+                .build();
+        var table = RecordTable.by(storageFactory.tableSpecFor(inboxMessageSpec()),
+                                   storageFactory);
+        for (var engine : PredefinedEngine.values()) {
+            var operations = new OperationFactory(dataSource, typeMapping, engine);
+            assertThat(operations.writeOne(table))
+                    .isInstanceOf(UpdateFirstWriteOne.class);
+        }
+    }
+
+    @Test
+    @DisplayName("use insert-only writes for append-only tables, regardless of the engine")
+    void selectInsertOnlyWrites() {
+        var dataSource = inMemoryDataSource();
+        var typeMapping = PredefinedMapping.select(dataSource);
+        var storageFactory = imStorageFactoryBuilder()
+                .setAppendOnly(InboxMessage.class)
+                .build();
+        var table = RecordTable.by(storageFactory.tableSpecFor(inboxMessageSpec()),
+                                   storageFactory);
+        for (var engine : PredefinedEngine.values()) {
+            var operations = new OperationFactory(dataSource, typeMapping, engine);
+            assertThat(operations.writeOne(table))
+                    .isInstanceOf(InsertOne.class);
+            assertThat(operations.writeBulk(table))
+                    .isInstanceOf(InsertBulk.class);
+        }
+    }
+
+    @Test
+    @DisplayName("read the records from binary streams for MySQL and H2 engines only")
+    void selectBytesReadMode() {
+        var dataSource = inMemoryDataSource();
+        var typeMapping = PredefinedMapping.select(dataSource);
+        for (var engine : PredefinedEngine.values()) {
+            var operations = new OperationFactory(dataSource, typeMapping, engine);
+            var expected = engine == PredefinedEngine.MySQL || engine == PredefinedEngine.H2
+                           ? BytesReadMode.BINARY_STREAM
+                           : BytesReadMode.BYTE_ARRAY;
+            assertThat(operations.bytesReadMode())
+                    .isEqualTo(expected);
+        }
+    }
+
     private static DataSourceWrapper inMemoryDataSource() {
         return whichIsStoredInMemory(OperationFactoryTestEnv.class.getName());
     }
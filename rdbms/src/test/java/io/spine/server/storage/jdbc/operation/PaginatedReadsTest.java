@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+
+@DisplayName("When reading a whole table, operations should")
+final class PaginatedReadsTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private RecordTable<InboxMessageId, InboxMessage> table;
+    private ImmutableList<InboxMessage> messages;
+
+    @BeforeEach
+    void createTable() {
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .setPageSize(PAGE_SIZE)
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                         .limit(2 * PAGE_SIZE + 1)
+                         .collect(toImmutableList());
+        table.writeAll(messages.stream()
+                               .map(m -> RecordWithColumns.create(m, inboxMessageSpec()))
+                               .collect(toImmutableList()));
+    }
+
+    @Test
+    @DisplayName("read the index page by page")
+    void readIndex() {
+        var index = ImmutableList.copyOf(table.index());
+
+        assertThat(index)
+                .containsExactlyElementsIn(ids());
+    }
+
+    @Test
+    @DisplayName("read all the records page by page")
+    void readAll() {
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .build();
+
+        var records = ImmutableList.copyOf(table.read(query));
+
+        assertThat(records)
+                .containsExactlyElementsIn(messages);
+    }
+
+    @Test
+    @DisplayName("read the IDs of all the records page by page")
+    void readAllIds() {
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .build();
+
+        assertThat(ImmutableList.copyOf(table.index(query)))
+                .containsExactlyElementsIn(ids());
+    }
+
+    @Test
+    @DisplayName("read the IDs of the matching records")
+    void readMatchingIds() {
+        var expected = ids().subList(1, 3);
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .id().in(expected)
+                               .build();
+
+        assertThat(ImmutableList.copyOf(table.index(query)))
+                .containsExactlyElementsIn(expected);
+    }
+
+    @Test
+    @DisplayName("read an empty table")
+    void readEmpty() {
+        table.deleteMany(ids());
+
+        assertThat(table.index().hasNext())
+                .isFalse();
+    }
+
+    private ImmutableList<InboxMessageId> ids() {
+        return messages.stream()
+                       .map(InboxMessage::getId)
+                       .collect(toImmutableList());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.DeliveryStrategy;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.InboxMessageMixin;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`ReadCoalescer` should")
+final class ReadCoalescerTest {
+
+    private static final int RECORDS = 8;
+    private static final Duration WINDOW = Duration.ofMillis(50);
+
+    private RecordTable<InboxMessageId, InboxMessage> table;
+    private ImmutableList<InboxMessage> messages;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createTable() {
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .enableReadCoalescing(WINDOW, RECORDS / 2)
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                         .limit(RECORDS)
+                         .collect(toImmutableList());
+        table.writeAll(messages.stream()
+                               .map(m -> RecordWithColumns.create(m, inboxMessageSpec()))
+                               .collect(toImmutableList()));
+        executor = Executors.newFixedThreadPool(RECORDS);
+    }
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("serve each of the concurrent reads with its own record")
+    void readConcurrently() throws Exception {
+        var start = new CountDownLatch(1);
+        var reads = ImmutableMap.<InboxMessage, Future<ImmutableList<InboxMessage>>>builder();
+        for (var message : messages) {
+            Callable<ImmutableList<InboxMessage>> read = () -> {
+                start.await();
+                return ImmutableList.copyOf(table.read(queryFor(message.getId())));
+            };
+            reads.put(message, executor.submit(read));
+        }
+        start.countDown();
+
+        for (var entry : reads.build().entrySet()) {
+            assertThat(entry.getValue().get())
+                    .containsExactly(entry.getKey());
+        }
+    }
+
+    @Test
+    @DisplayName("read nothing for a missing record")
+    void readMissing() {
+        var missing = InboxMessageMixin.generateIdWith(DeliveryStrategy.newIndex(0, 1));
+
+        assertThat(table.read(queryFor(missing))
+                        .hasNext())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("read a record, when there are no concurrent reads")
+    void readAlone() {
+        var coalescer = new ReadCoalescer<>(table, table.queryFactories()
+                                                        .dataSource(), WINDOW, 2);
+        var message = messages.get(0);
+
+        Optional<InboxMessage> read = coalescer.execute(message.getId());
+
+        assertThat(read)
+                .hasValue(message);
+    }
+
+    @Test
+    @DisplayName("not allow a non-positive window or batch size")
+    void rejectInvalidSettings() {
+        var dataSource = table.queryFactories()
+                              .dataSource();
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ReadCoalescer<>(table, dataSource, Duration.ZERO, 2));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ReadCoalescer<>(table, dataSource, WINDOW, 0));
+    }
+
+    private static RecordQuery<InboxMessageId, InboxMessage> queryFor(InboxMessageId id) {
+        return RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                          .id().in(ImmutableList.of(id))
+                          .build();
+    }
+}
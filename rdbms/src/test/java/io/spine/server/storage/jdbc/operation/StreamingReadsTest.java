@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
+import io.spine.server.storage.jdbc.query.DbIterator;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+
+@DisplayName("With streaming reads enabled, operations should")
+final class StreamingReadsTest {
+
+    private static final int FETCH_SIZE = 2;
+    private static final int CHUNK_SIZE = 2;
+
+    private JdbcStorageFactory factory;
+    private RecordTable<InboxMessageId, InboxMessage> table;
+    private ImmutableList<InboxMessage> messages;
+
+    @BeforeEach
+    void createTable() {
+        factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .enableStreamingReads()
+                .setFetchSize(FETCH_SIZE)
+                .setChunkSize(CHUNK_SIZE)
+                .setPageSize(0)
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                         .limit(5)
+                         .collect(toImmutableList());
+        table.writeAll(messages.stream()
+                               .map(m -> RecordWithColumns.create(m, inboxMessageSpec()))
+                               .collect(toImmutableList()));
+    }
+
+    @Test
+    @DisplayName("return the index of the table lazily")
+    void streamIndex() {
+        var index = table.index();
+
+        assertThat(index).isInstanceOf(DbIterator.class);
+        assertThat(ImmutableList.copyOf(index))
+                .containsExactlyElementsIn(ids());
+    }
+
+    @Test
+    @DisplayName("read the records by IDs chunk by chunk")
+    void streamRecordsByIds() {
+        var records = factory.operations()
+                             .readManyByIds(table)
+                             .execute(ids());
+
+        assertThat(ImmutableList.copyOf(records))
+                .containsExactlyElementsIn(messages);
+    }
+
+    @Test
+    @DisplayName("release the connection once the iterator is closed")
+    void releaseOnClose() {
+        for (var attempt = 0; attempt < 100; attempt++) {
+            var index = (DbIterator<InboxMessageId>) table.index();
+            index.next();
+            index.close();
+        }
+        assertThat(ImmutableList.copyOf(table.index()))
+                .hasSize(messages.size());
+    }
+
+    private ImmutableList<InboxMessageId> ids() {
+        return messages.stream()
+                       .map(InboxMessage::getId)
+                       .collect(toImmutableList());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.DatabaseException;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.UpdateFirstWriteOne.isUniqueViolation;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+
+@DisplayName("`UpdateFirstWriteOne` should")
+final class UpdateFirstWriteOneTest {
+
+    private JdbcStorageFactory factory;
+    private RecordTable<InboxMessageId, InboxMessage> table;
+
+    @BeforeEach
+    void createTable() {
+        factory = JdbcStorageFactory
+                .newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .setWriteStrategy(WriteStrategy.UPDATE_FIRST)
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+    }
+
+    @Test
+    @DisplayName("insert the record which is not stored yet")
+    void insert() {
+        var message = randomHandleCommandMessage();
+        write(message);
+
+        assertThat(read(message))
+                .containsExactly(message);
+    }
+
+    @Test
+    @DisplayName("update the record which is already stored")
+    void update() {
+        var message = randomHandleCommandMessage();
+        write(message);
+        var updated = message.toBuilder()
+                             .setVersion(message.getVersion() + 1)
+                             .build();
+        write(updated);
+
+        assertThat(read(message))
+                .containsExactly(updated);
+    }
+
+    @Test
+    @DisplayName("recognize the unique constraint violations reported by the supported engines")
+    void recognizeUniqueViolations() {
+        assertThat(isUniqueViolation(violation("23505", 0)))
+                .isTrue();
+        assertThat(isUniqueViolation(violation("23000", 1062)))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("not treat other integrity constraint violations as the unique ones")
+    void ignoreOtherViolations() {
+        // A `NOT NULL` violation on PostgreSQL.
+        assertThat(isUniqueViolation(violation("23502", 0)))
+                .isFalse();
+        // A foreign key violation on MySQL.
+        assertThat(isUniqueViolation(violation("23000", 1452)))
+                .isFalse();
+    }
+
+    private static DatabaseException violation(String sqlState, int errorCode) {
+        return new DatabaseException(new SQLException("Violation.", sqlState, errorCode));
+    }
+
+    private void write(InboxMessage message) {
+        table.write(RecordWithColumns.create(message, inboxMessageSpec()));
+    }
+
+    private ImmutableList<InboxMessage> read(InboxMessage message) {
+        var iterator = factory.operations()
+                              .readManyByIds(table)
+                              .execute(ImmutableList.of(message.getId()));
+        return ImmutableList.copyOf(iterator);
+    }
+}
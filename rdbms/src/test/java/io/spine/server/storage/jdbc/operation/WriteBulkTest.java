@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.operation;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.engine.PredefinedEngine;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichHoldsMetadata;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`WriteBulk` should")
+final class WriteBulkTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @ParameterizedTest(name = "for `{0}` engine")
+    @EnumSource(value = PredefinedEngine.class, names = {"Generic", "H2"})
+    @DisplayName("pull the records from a single-use `Iterable` chunk by chunk")
+    void streamRecords(PredefinedEngine engine) {
+        var table = newTable(newFactory(engine));
+        var messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                             .limit(5)
+                             .collect(toImmutableList());
+        var records = messages.stream()
+                              .map(WriteBulkTest::recordOf)
+                              .collect(toImmutableList());
+
+        table.writeAll(new SingleUse<>(records.iterator()));
+
+        var ids = messages.stream()
+                          .map(InboxMessage::getId)
+                          .collect(toImmutableList());
+        assertThat(ImmutableList.copyOf(table.index()))
+                .containsExactlyElementsIn(ids);
+    }
+
+    @ParameterizedTest(name = "for `{0}` engine")
+    @EnumSource(value = PredefinedEngine.class, names = {"Generic", "H2"})
+    @DisplayName("store the last of the records with the same ID")
+    void storeLastRecord(PredefinedEngine engine) {
+        var factory = newFactory(engine);
+        var table = newTable(factory);
+        var message = randomHandleCommandMessage();
+        var records = ImmutableList.of(
+                recordOf(message),
+                recordOf(randomHandleCommandMessage()),
+                recordOf(withVersion(message, 1)),
+                recordOf(withVersion(message, 2)),
+                recordOf(withVersion(message, 3))
+        );
+
+        table.writeAll(records);
+
+        var stored = ImmutableList.copyOf(
+                factory.operations()
+                       .readManyByIds(table)
+                       .execute(ImmutableList.of(message.getId())));
+        assertThat(stored)
+                .containsExactly(withVersion(message, 3));
+    }
+
+    @ParameterizedTest(name = "for `{0}` engine")
+    @EnumSource(value = PredefinedEngine.class, names = {"Generic", "H2"})
+    @DisplayName("overwrite the stored records, keeping the last value repeated within a chunk")
+    void overwriteStoredRecords(PredefinedEngine engine) {
+        var factory = newFactory(engine);
+        var table = newTable(factory);
+        var first = randomHandleCommandMessage();
+        var second = randomHandleCommandMessage();
+        var third = randomHandleCommandMessage();
+        table.writeAll(ImmutableList.of(recordOf(first), recordOf(second)));
+
+        table.writeAll(ImmutableList.of(
+                recordOf(withVersion(first, 1)),
+                recordOf(withVersion(first, 2)),
+                recordOf(withVersion(second, 1)),
+                recordOf(third)
+        ));
+
+        var ids = ImmutableList.of(first.getId(), second.getId(), third.getId());
+        var stored = ImmutableList.copyOf(
+                factory.operations()
+                       .readManyByIds(table)
+                       .execute(ids));
+        assertThat(stored)
+                .containsExactly(withVersion(first, 2), withVersion(second, 1), third);
+    }
+
+    @ParameterizedTest(name = "for `{0}` engine")
+    @EnumSource(value = PredefinedEngine.class, names = {"Generic", "H2"})
+    @DisplayName("write either all the records or none of them")
+    void writeAtomically(PredefinedEngine engine) {
+        var table = newTable(newFactory(engine));
+        var records = ImmutableList.of(
+                recordOf(randomHandleCommandMessage()),
+                recordOf(randomHandleCommandMessage()),
+                recordOf(randomHandleCommandMessage()),
+                recordOf(withTooLongId(randomHandleCommandMessage()))
+        );
+
+        assertThrows(RuntimeException.class, () -> table.writeAll(records));
+
+        assertThat(ImmutableList.copyOf(table.index()))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("not borrow a connection when there are no records to write")
+    void skipEmptyInput() {
+        var factory = newFactory(PredefinedEngine.Generic);
+        var table = newTable(factory);
+        // Any attempt to obtain a connection from this data source fails.
+        var dataSource = whichHoldsMetadata("H2", 2, 4);
+        var operation = new WriteBulk<>(table, dataSource, factory.operations());
+
+        operation.execute(ImmutableList.of());
+    }
+
+    private static JdbcStorageFactory newFactory(PredefinedEngine engine) {
+        return JdbcStorageFactory
+                .newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .setChunkSize(CHUNK_SIZE)
+                .useOperationFactory((dataSource, mapping) ->
+                                             new OperationFactory(dataSource, mapping, engine))
+                .build();
+    }
+
+    private static RecordTable<InboxMessageId, InboxMessage>
+    newTable(JdbcStorageFactory factory) {
+        var table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        return table;
+    }
+
+    private static RecordWithColumns<InboxMessageId, InboxMessage> recordOf(InboxMessage message) {
+        return RecordWithColumns.create(message, inboxMessageSpec());
+    }
+
+    private static InboxMessage withVersion(InboxMessage message, int version) {
+        return message.toBuilder()
+                      .setVersion(version)
+                      .build();
+    }
+
+    /**
+     * Returns a copy of the passed message with the ID, which does not fit into the ID column.
+     */
+    private static InboxMessage withTooLongId(InboxMessage message) {
+        var id = message.getId()
+                        .toBuilder()
+                        .setUuid("too-long-".repeat(100))
+                        .build();
+        return message.toBuilder()
+                      .setId(id)
+                      .build();
+    }
+
+    /**
+     * An {@code Iterable}, which may be iterated only once.
+     */
+    private static final class SingleUse<T> implements Iterable<T> {
+
+        private final Iterator<T> iterator;
+        private final AtomicBoolean used = new AtomicBoolean();
+
+        private SingleUse(Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            assertFalse(used.getAndSet(true), "The records must be iterated only once.");
+            return iterator;
+        }
+    }
+}
@@ -40,11 +40,17 @@ import io.spine.server.delivery.InboxSignalId;
 import io.spine.server.storage.jdbc.DataSourceWrapper;
 import io.spine.server.storage.jdbc.JdbcStorageFactory;
 import io.spine.server.storage.jdbc.TypeMapping;
+import io.spine.server.storage.jdbc.operation.CountByQuery;
 import io.spine.server.storage.jdbc.operation.CreateTable;
 import io.spine.server.storage.jdbc.operation.DeleteManyByIds;
 import io.spine.server.storage.jdbc.operation.DeleteOne;
+import io.spine.server.storage.jdbc.operation.ExistsByQuery;
+import io.spine.server.storage.jdbc.operation.FetchExistingIds;
 import io.spine.server.storage.jdbc.operation.FetchIndex;
+import io.spine.server.storage.jdbc.operation.GroupCommitWriter;
 import io.spine.server.storage.jdbc.operation.OperationFactory;
+import io.spine.server.storage.jdbc.operation.ReadCoalescer;
+import io.spine.server.storage.jdbc.operation.ReadIdsByQuery;
 import io.spine.server.storage.jdbc.operation.ReadManyByIds;
 import io.spine.server.storage.jdbc.operation.ReadManyByQuery;
 import io.spine.server.storage.jdbc.operation.WriteBulk;
@@ -54,6 +60,8 @@ import io.spine.server.storage.jdbc.record.RecordTable;
 import io.spine.test.storage.StgProject;
 import io.spine.type.TypeUrl;
 
+import java.time.Duration;
+
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.base.Time.currentTime;
 import static io.spine.server.delivery.InboxLabel.CATCH_UP;
@@ -203,12 +211,46 @@ public final class OperationFactoryTestEnv {
             return new ReadManyByIds<>(table, dataSource()) {};
         }
 
+        @Override
+        public <I, R extends Message> ReadCoalescer<I, R>
+        readCoalescer(RecordTable<I, R> table, Duration window, int maxBatchSize) {
+            return new ReadCoalescer<>(table, dataSource(), window, maxBatchSize) {};
+        }
+
+        @Override
+        public <I, R extends Message> GroupCommitWriter<I, R>
+        groupCommitWriter(RecordTable<I, R> table, Duration maxWait, int maxBatchSize) {
+            return new GroupCommitWriter<>(table, dataSource(), this, maxWait, maxBatchSize) {};
+        }
+
+        @Override
+        public <I, R extends Message>
+        FetchExistingIds<I, R> fetchExistingIds(RecordTable<I, R> table) {
+            return new FetchExistingIds<>(table, dataSource()) {};
+        }
+
         @Override
         public <I, R extends Message>
         ReadManyByQuery<I, R> readManyByQuery(RecordTable<I, R> table) {
             return new ReadManyByQuery<>(table, dataSource()) {};
         }
 
+        @Override
+        public <I, R extends Message>
+        ReadIdsByQuery<I, R> readIdsByQuery(RecordTable<I, R> table) {
+            return new ReadIdsByQuery<>(table, dataSource()) {};
+        }
+
+        @Override
+        public <I, R extends Message> CountByQuery<I, R> countByQuery(RecordTable<I, R> table) {
+            return new CountByQuery<>(table, dataSource()) {};
+        }
+
+        @Override
+        public <I, R extends Message> ExistsByQuery<I, R> existsByQuery(RecordTable<I, R> table) {
+            return new ExistsByQuery<>(table, dataSource()) {};
+        }
+
         @Override
         public <I, R extends Message> DeleteOne<I, R> deleteOne(RecordTable<I, R> table) {
             return new DeleteOne<>(table, dataSource()) {};
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.postgres;
+
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.server.storage.jdbc.record.TableIndex;
+import io.spine.testing.SlowTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+
+/**
+ * Verifies the creation of the indexes against a real PostgreSQL server.
+ */
+@DisplayName("Table creation in PostgreSQL should")
+@SlowTest
+@Testcontainers(disabledWithoutDocker = true)
+final class PostgresCreateTableTest {
+
+    private static final String TABLE_NAME = "indexed_messages";
+
+    @Test
+    @DisplayName("re-create an index left invalid by a failed build")
+    void recreateInvalidIndex() throws SQLException {
+        var factory = PostgresTests.newFactory();
+        var index = TableIndex.on("status");
+        var table = RecordTable.by(tableSpec(factory, index), factory);
+        table.create();
+        var name = index.nameIn(TABLE_NAME);
+        setValid(factory.dataSource(), name, false);
+
+        table.create();
+
+        assertThat(isValid(factory.dataSource(), name))
+                .isTrue();
+    }
+
+    private static JdbcTableSpec<InboxMessageId, InboxMessage>
+    tableSpec(JdbcStorageFactory factory, TableIndex index) {
+        return JdbcTableSpec.<InboxMessageId, InboxMessage>newBuilder()
+                .setTableName(TABLE_NAME)
+                .setRecordSpec(inboxMessageSpec())
+                .setColumnMapping(factory.columnMapping())
+                .addIndex(index)
+                .build();
+    }
+
+    /**
+     * Marks the index as valid or invalid, as PostgreSQL does when a concurrent build fails.
+     */
+    private static void setValid(DataSourceWrapper dataSource, String index, boolean valid)
+            throws SQLException {
+        var sql = "UPDATE pg_catalog.pg_index SET indisvalid = ?" +
+                " WHERE indexrelid = ?::regclass";
+        try (var connection = dataSource.getConnection(true);
+             var statement = connection.prepareStatement(sql)) {
+            statement.setBoolean(1, valid);
+            statement.setString(2, '"' + index + '"');
+            statement.executeUpdate();
+        }
+    }
+
+    private static boolean isValid(DataSourceWrapper dataSource, String index)
+            throws SQLException {
+        var sql = "SELECT indisvalid FROM pg_catalog.pg_index WHERE indexrelid = ?::regclass";
+        try (var connection = dataSource.getConnection(true);
+             var statement = connection.prepareStatement(sql)) {
+            statement.setString(1, '"' + index + '"');
+            try (var result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
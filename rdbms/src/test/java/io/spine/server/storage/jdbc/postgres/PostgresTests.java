@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.postgres;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static io.spine.server.storage.jdbc.PredefinedMapping.POSTGRESQL_10_1;
+
+/**
+ * Defines the common routines to use in tests against PostgreSQL instance.
+ */
+final class PostgresTests {
+
+    /**
+     * The Docker image of the PostgreSQL server used in the tests.
+     */
+    private static final String IMAGE = "postgres:16-alpine";
+
+    /**
+     * A single PostgreSQL container shared by the storage tests in this package.
+     *
+     * <p>The container is started lazily, and its schema is
+     * {@linkplain #dropAllTables(PostgreSQLContainer) wiped} before each test.
+     */
+    private static @Nullable PostgreSQLContainer<?> serverContainer;
+
+    /**
+     * The factory handed to the previous test.
+     *
+     * <p>Its connection pool is closed when the next test asks for a factory.
+     */
+    private static @Nullable JdbcStorageFactory previousFactory;
+
+    /**
+     * Prevents instantiation of this utility.
+     */
+    private PostgresTests() {
+        // Do nothing.
+    }
+
+    /**
+     * Prepares a storage factory connected to the shared PostgreSQL container for the next test.
+     *
+     * <p>Closes the connection pool used by the previous test, wipes the database schema so that
+     * the test starts with a clean slate, and returns a freshly built factory.
+     */
+    static synchronized JdbcStorageFactory newFactory() {
+        closePreviousFactory();
+        var container = sharedContainer();
+        dropAllTables(container);
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(wrap(container))
+                .setTypeMapping(POSTGRESQL_10_1)
+                .build();
+        previousFactory = factory;
+        return factory;
+    }
+
+    /**
+     * Returns the PostgreSQL container shared by all the tests, starting it on the first call.
+     */
+    private static PostgreSQLContainer<?> sharedContainer() {
+        if (serverContainer == null) {
+            PostgreSQLContainer<?> container = new PostgreSQLContainer<>(IMAGE);
+            container.withReuse(true);
+            container.start();
+            serverContainer = container;
+        }
+        return serverContainer;
+    }
+
+    /**
+     * Closes the connection pool used by the previous test, if any.
+     */
+    private static void closePreviousFactory() {
+        if (previousFactory != null && previousFactory.isOpen()) {
+            previousFactory.close();
+        }
+        previousFactory = null;
+    }
+
+    /**
+     * Removes all the tables from the container's database, giving each test a clean schema.
+     */
+    private static void dropAllTables(PostgreSQLContainer<?> container) {
+        try (var connection = DriverManager.getConnection(container.getJdbcUrl(),
+                                                          container.getUsername(),
+                                                          container.getPassword());
+             var statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA public CASCADE");
+            statement.execute("CREATE SCHEMA public");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to reset the PostgreSQL test schema.", e);
+        }
+    }
+
+    /**
+     * Creates a new {@code DataSourceWrapper} around the passed instance of PostgreSQL container.
+     *
+     * <p>The connections are pooled via HikariCP, with its default settings.
+     */
+    private static DataSourceWrapper wrap(PostgreSQLContainer<?> container) {
+        var config = new HikariConfig();
+        config.setJdbcUrl(container.getJdbcUrl());
+        config.setUsername(container.getUsername());
+        config.setPassword(container.getPassword());
+
+        var hikariSource = new HikariDataSource(config);
+        var dataSource = DataSourceWrapper.wrap(hikariSource);
+        return dataSource;
+    }
+}
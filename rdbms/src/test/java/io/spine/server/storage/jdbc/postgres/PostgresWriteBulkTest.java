@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.postgres;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.testing.SlowTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+
+/**
+ * Verifies the multi-row {@code INSERT ... ON CONFLICT DO UPDATE} statements
+ * against a real PostgreSQL server.
+ */
+@DisplayName("Bulk write to PostgreSQL should")
+@SlowTest
+@Testcontainers(disabledWithoutDocker = true)
+final class PostgresWriteBulkTest {
+
+    @Test
+    @DisplayName("overwrite the stored records, keeping the last value repeated within a batch")
+    void overwriteStoredRecords() {
+        var factory = PostgresTests.newFactory();
+        var table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        var first = randomHandleCommandMessage();
+        var second = randomHandleCommandMessage();
+        var third = randomHandleCommandMessage();
+        table.writeAll(ImmutableList.of(recordOf(first), recordOf(second)));
+
+        table.writeAll(ImmutableList.of(
+                recordOf(withVersion(first, 1)),
+                recordOf(withVersion(first, 2)),
+                recordOf(withVersion(second, 1)),
+                recordOf(third)
+        ));
+
+        var ids = ImmutableList.of(first.getId(), second.getId(), third.getId());
+        var stored = ImmutableList.copyOf(
+                factory.operations()
+                       .readManyByIds(table)
+                       .execute(ids));
+        assertThat(stored)
+                .containsExactly(withVersion(first, 2), withVersion(second, 1), third);
+    }
+
+    private static RecordWithColumns<InboxMessageId, InboxMessage> recordOf(InboxMessage message) {
+        return RecordWithColumns.create(message, inboxMessageSpec());
+    }
+
+    private static InboxMessage withVersion(InboxMessage message, int version) {
+        return message.toBuilder()
+                      .setVersion(version)
+                      .build();
+    }
+}
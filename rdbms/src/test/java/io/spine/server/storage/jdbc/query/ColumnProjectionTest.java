@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Timestamp;
+import io.spine.core.Version;
+import io.spine.query.RecordColumn;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxId;
+import io.spine.server.delivery.InboxLabel;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordSpec;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
+import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`ColumnProjection` should")
+final class ColumnProjectionTest {
+
+    private static final FieldMask COLUMN_MASK = FieldMask.newBuilder()
+            .addPaths("label")
+            .addPaths("inbox_id")
+            .addPaths("when_received")
+            .build();
+
+    private JdbcStorageFactory factory;
+    private RecordSpec<InboxMessageId, InboxMessage> recordSpec;
+    private RecordTable<InboxMessageId, InboxMessage> table;
+    private ImmutableList<InboxMessage> messages;
+
+    @BeforeEach
+    void createTable() {
+        factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .build();
+        recordSpec = recordSpec();
+        var tableSpec = tableSpec("label", "inbox_id", "when_received", "version");
+        table = RecordTable.by(tableSpec, factory);
+        table.create();
+        messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                         .limit(3)
+                         .collect(toImmutableList());
+        table.writeAll(messages.stream()
+                               .map(m -> RecordWithColumns.create(m, recordSpec))
+                               .collect(toImmutableList()));
+    }
+
+    /**
+     * Creates a specification with the columns named after the fields they store,
+     * except for the {@code version} column.
+     */
+    private static RecordSpec<InboxMessageId, InboxMessage> recordSpec() {
+        var columns = ImmutableSet.<RecordColumn<InboxMessage, ?>>of(
+                new RecordColumn<>("label", InboxLabel.class, InboxMessage::getLabel),
+                new RecordColumn<>("inbox_id", InboxId.class, InboxMessage::getInboxId),
+                new RecordColumn<>("when_received", Timestamp.class,
+                                   InboxMessage::getWhenReceived),
+                new RecordColumn<>("version", Version.class,
+                                   m -> Version.newBuilder()
+                                               .setNumber(m.getVersion())
+                                               .build())
+        );
+        return new RecordSpec<>(InboxMessageId.class, InboxMessage.class,
+                                InboxMessage::getId, columns);
+    }
+
+    private JdbcTableSpec<InboxMessageId, InboxMessage> tableSpec(String... mirroredColumns) {
+        var builder = JdbcTableSpec.<InboxMessageId, InboxMessage>newBuilder()
+                .setTableName("inbox_projection")
+                .setRecordSpec(recordSpec)
+                .setColumnMapping(factory.columnMapping());
+        for (var column : mirroredColumns) {
+            builder.addMirroredColumn(column);
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("be created if all the masked fields are stored in the columns")
+    void createForColumns() {
+        assertThat(ColumnProjection.of(table.spec(), COLUMN_MASK).isPresent())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("not be created if a masked field is not stored in a column")
+    void notCreateForNonColumns() {
+        var mask = COLUMN_MASK.toBuilder()
+                              .addPaths("signal_id")
+                              .build();
+        assertThat(ColumnProjection.of(table.spec(), mask).isPresent())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("not be created if a column is not declared to mirror the masked field")
+    void notCreateForUndeclaredColumns() {
+        var spec = tableSpec("label", "inbox_id");
+        assertThat(ColumnProjection.of(spec, COLUMN_MASK).isPresent())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("not allow to mirror the fields in the columns the table does not have")
+    void rejectUnknownMirroredColumns() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> tableSpec("label", "signal_id"));
+    }
+
+    @Test
+    @DisplayName("not be created if a masked field cannot be restored from its column")
+    void notCreateForLossyColumns() {
+        var mask = FieldMask.newBuilder()
+                .addPaths("version")
+                .build();
+        assertThat(ColumnProjection.of(table.spec(), mask).isPresent())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("restore the masked records, read page by page")
+    void restoreAll() {
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .withMask(COLUMN_MASK)
+                               .build();
+
+        assertThat(ImmutableList.copyOf(table.read(query)))
+                .containsExactlyElementsIn(masked(messages));
+    }
+
+    @Test
+    @DisplayName("restore the masked records, matching the query")
+    void restoreMatching() {
+        var expected = messages.subList(0, 2);
+        var ids = expected.stream()
+                          .map(InboxMessage::getId)
+                          .collect(toImmutableList());
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .id().in(ids)
+                               .withMask(COLUMN_MASK)
+                               .build();
+
+        assertThat(ImmutableList.copyOf(table.read(query)))
+                .containsExactlyElementsIn(masked(expected));
+    }
+
+    private static ImmutableList<InboxMessage> masked(ImmutableList<InboxMessage> messages) {
+        return messages.stream()
+                       .map(m -> InboxMessage.newBuilder()
+                                             .setLabel(m.getLabel())
+                                             .setInboxId(m.getInboxId())
+                                             .setWhenReceived(m.getWhenReceived())
+                                             .build())
+                       .collect(toImmutableList());
+    }
+}
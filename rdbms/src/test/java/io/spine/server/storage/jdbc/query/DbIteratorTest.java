@@ -31,6 +31,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.NoSuchElementException;
 
@@ -39,6 +40,7 @@ import static io.spine.server.storage.jdbc.query.given.DbIteratorTestEnv.emptyIt
 import static io.spine.server.storage.jdbc.query.given.DbIteratorTestEnv.faultyResultIterator;
 import static io.spine.server.storage.jdbc.query.given.DbIteratorTestEnv.nonEmptyIterator;
 import static io.spine.server.storage.jdbc.query.given.DbIteratorTestEnv.sneakyResultIterator;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("`DbIterator` should")
@@ -100,6 +102,38 @@ class DbIteratorTest {
         }
     }
 
+    @Test
+    @DisplayName("close `ResultSet` once it becomes unreachable, if told to do so")
+    void closeWhenUnreachable() throws SQLException, InterruptedException {
+        var resultSet = abandonedIterator();
+
+        var deadline = System.nanoTime() + SECONDS.toNanos(10);
+        while (!resultSet.isClosed() && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(resultSet.isClosed())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("allow closing twice, if told to close once unreachable")
+    void closeTwice() throws SQLException {
+        var iterator = nonEmptyIterator().closingWhenUnreachable();
+        iterator.close();
+        iterator.close();
+
+        assertClosed(iterator);
+    }
+
+    /**
+     * Creates an iterator, which is not referenced by the caller, and returns its result set.
+     */
+    private static ResultSet abandonedIterator() {
+        var iterator = nonEmptyIterator().closingWhenUnreachable();
+        return iterator.resultSet();
+    }
+
     @Test
     @DisplayName("not support removal")
     @SuppressWarnings("deprecation") // Use deprecated method to make sure it's not supported.
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.record.JdbcRecord;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`ExecutionContext` should")
+class ExecutionContextTest {
+
+    private JdbcStorageFactory factory;
+    private RecordTable<InboxMessageId, InboxMessage> table;
+
+    @BeforeEach
+    void createTable() {
+        factory = JdbcStorageFactory
+                .newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+    }
+
+    @Test
+    @DisplayName("apply the queries executed within it upon a commit")
+    void commit() {
+        var message = randomHandleCommandMessage();
+        try (var context = ExecutionContext.open(factory.dataSource())) {
+            insert(message, context);
+            context.commit();
+        }
+        assertThat(ImmutableList.copyOf(table.index()))
+                .containsExactly(message.getId());
+    }
+
+    @Test
+    @DisplayName("roll back the queries executed within it, if closed without a commit")
+    void rollback() {
+        try (var context = ExecutionContext.open(factory.dataSource())) {
+            insert(randomHandleCommandMessage(), context);
+            insert(randomHandleCommandMessage(), context);
+        }
+        assertThat(table.index()
+                        .hasNext())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("share a single connection between the queries")
+    void shareConnection() {
+        var message = randomHandleCommandMessage();
+        try (var context = ExecutionContext.open(factory.dataSource())) {
+            insert(message, context);
+            var existing = SelectExistingIds.<InboxMessageId, InboxMessage>newBuilder()
+                    .setTableSpec(table.spec())
+                    .setExecutionContext(context)
+                    .setQueryFactories(table.queryFactories())
+                    .setIds(ImmutableList.of(message.getId()))
+                    .build()
+                    .execute();
+            assertThat(existing)
+                    .hasSize(1);
+            insert(randomHandleCommandMessage(), context);
+            context.commit();
+        }
+        assertThat(ImmutableList.copyOf(table.index()))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("not allow to commit once closed")
+    void notCommitClosed() {
+        var context = ExecutionContext.open(factory.dataSource());
+        context.close();
+        assertThrows(IllegalStateException.class, context::commit);
+    }
+
+    private void insert(InboxMessage message, ExecutionContext context) {
+        var record = new JdbcRecord<>(table.spec(),
+                                      RecordWithColumns.create(message, inboxMessageSpec()));
+        InsertOneQuery.<InboxMessageId, InboxMessage>newBuilder()
+                .setTableSpec(table.spec())
+                .setExecutionContext(context)
+                .setQueryFactories(table.queryFactories())
+                .setRecord(record)
+                .build()
+                .execute();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.query;
+
+import com.google.common.collect.ImmutableSet;
+import io.spine.query.ColumnName;
+import io.spine.query.RecordColumn;
+import io.spine.server.delivery.InboxLabel;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordSpec;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+
+@DisplayName("`Parameter` should")
+class ParameterTest {
+
+    private static final ColumnName LABEL = ColumnName.of("label");
+    private static final ColumnName RECEIVER = ColumnName.of("receiver");
+
+    private final JdbcTableSpec<InboxMessageId, InboxMessage> spec = tableSpec();
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    @DisplayName("bind `null`s with the SQL type of their column")
+    void bindTypedNulls() throws SQLException {
+        Parameter.ofColumn(spec, LABEL, null)
+                 .bindTo(statement(), 1);
+        Parameter.ofColumn(spec, RECEIVER, null)
+                 .bindTo(statement(), 2);
+
+        assertThat(calls)
+                .containsExactly("setNull(1, " + Types.INTEGER + ')',
+                                 "setNull(2, " + Types.VARCHAR + ')')
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("bind the values as objects")
+    void bindValues() throws SQLException {
+        Parameter.ofColumn(spec, RECEIVER, "receiver")
+                 .bindTo(statement(), 1);
+        Parameter.of(42)
+                 .bindTo(statement(), 2);
+
+        assertThat(calls)
+                .containsExactly("setObject(1, receiver)", "setObject(2, 42)")
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("bind `null`s of the unknown columns with no type")
+    void bindUntypedNulls() throws SQLException {
+        Parameter.ofColumn(spec, ColumnName.of("no_such_column"), null)
+                 .bindTo(statement(), 1);
+
+        assertThat(calls)
+                .containsExactly("setNull(1, " + Types.NULL + ')');
+    }
+
+    /**
+     * Creates a statement, which records the calls binding its parameters.
+     */
+    private PreparedStatement statement() {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName() + '(' + args[0] + ", " + args[1] + ')');
+                    return null;
+                });
+    }
+
+    private static JdbcTableSpec<InboxMessageId, InboxMessage> tableSpec() {
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .build();
+        var columns = ImmutableSet.<RecordColumn<InboxMessage, ?>>of(
+                new RecordColumn<>("label", InboxLabel.class, InboxMessage::getLabel),
+                new RecordColumn<>("receiver", String.class,
+                                   m -> m.getLabel().name())
+        );
+        var recordSpec = new RecordSpec<>(InboxMessageId.class, InboxMessage.class,
+                                          InboxMessage::getId, columns);
+        return new JdbcTableSpec<>("parameters", recordSpec, factory.columnMapping());
+    }
+}
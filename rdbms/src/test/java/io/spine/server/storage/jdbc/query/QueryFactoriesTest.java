@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.query;
+
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.query.given.Given.AStorageQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.query.QueryFactories.StatementKind.INSERT;
+import static io.spine.server.storage.jdbc.query.QueryFactories.StatementKind.SELECT_BY_IDS;
+import static io.spine.server.storage.jdbc.query.given.Given.storageQueryBuilder;
+import static io.spine.server.storage.jdbc.query.given.Given.tableSpec;
+
+@DisplayName("`QueryFactories` should")
+class QueryFactoriesTest {
+
+    private static final String TABLE = "table";
+
+    private final DataSourceWrapper dataSource = whichIsStoredInMemory(newUuid());
+    private final QueryFactories factories = new QueryFactories(dataSource);
+
+    @Test
+    @DisplayName("create a single query factory per fetch size")
+    void shareFactories() {
+        assertThat(factories.defaultFactory(0))
+                .isSameInstanceAs(factories.defaultFactory(0));
+        assertThat(factories.streamingFactory(10))
+                .isSameInstanceAs(factories.streamingFactory(10));
+        assertThat(factories.mySqlFactory())
+                .isSameInstanceAs(factories.mySqlFactory());
+        assertThat(factories.defaultFactory(10))
+                .isNotSameInstanceAs(factories.defaultFactory(0));
+    }
+
+    @Test
+    @DisplayName("share the query factories among the queries")
+    void shareAmongQueries() {
+        var first = newQuery();
+        var second = newQuery();
+
+        assertThat(first.factory())
+                .isSameInstanceAs(second.factory());
+        assertThat(first.mySqlFactory())
+                .isSameInstanceAs(second.mySqlFactory());
+    }
+
+    @Test
+    @DisplayName("be shared by the queries built without the factories set")
+    void shareWithoutFactories() {
+        var query = storageQueryBuilder().setTableSpec(tableSpec())
+                                         .setDataSource(dataSource)
+                                         .build();
+
+        assertThat(query.queryFactories())
+                .isSameInstanceAs(QueryFactories.of(dataSource));
+        assertThat(QueryFactories.of(whichIsStoredInMemory(newUuid())))
+                .isNotSameInstanceAs(QueryFactories.of(dataSource));
+    }
+
+    @Test
+    @DisplayName("render each statement once")
+    void cacheStatements() {
+        var renders = new AtomicInteger();
+        for (var i = 0; i < 3; i++) {
+            var sql = factories.statement(TABLE, SELECT_BY_IDS, 4, () -> {
+                renders.incrementAndGet();
+                return "SELECT 4";
+            });
+            assertThat(sql).isEqualTo("SELECT 4");
+        }
+        assertThat(renders.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("cache the statements per table, kind and shape")
+    void cacheByKey() {
+        factories.statement(TABLE, SELECT_BY_IDS, 4, () -> "SELECT 4");
+
+        assertThat(factories.statement(TABLE, SELECT_BY_IDS, 8, () -> "SELECT 8"))
+                .isEqualTo("SELECT 8");
+        assertThat(factories.statement(TABLE, INSERT, 4, () -> "INSERT"))
+                .isEqualTo("INSERT");
+        assertThat(factories.statement("other", SELECT_BY_IDS, 4, () -> "OTHER"))
+                .isEqualTo("OTHER");
+    }
+
+    @Test
+    @DisplayName("pad the `IN` lists to the powers of two within the limit")
+    void bucketSizes() {
+        assertThat(Chunks.bucket(1, 100)).isEqualTo(1);
+        assertThat(Chunks.bucket(3, 100)).isEqualTo(4);
+        assertThat(Chunks.bucket(64, 100)).isEqualTo(64);
+        assertThat(Chunks.bucket(65, 100)).isEqualTo(100);
+        assertThat(Chunks.padded(List.of(1, 2, 3), 4))
+                .containsExactly(1, 2, 3, 3)
+                .inOrder();
+    }
+
+    private AStorageQuery newQuery() {
+        return storageQueryBuilder().setTableSpec(tableSpec())
+                                    .setDataSource(dataSource)
+                                    .setQueryFactories(factories)
+                                    .build();
+    }
+}
@@ -26,12 +26,14 @@
 
 package io.spine.server.storage.jdbc.query.reader;
 
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.StringValue;
 import com.google.protobuf.Timestamp;
 import io.spine.server.storage.jdbc.JdbcStorageFactory;
 import io.spine.server.storage.jdbc.given.table.TimestampByLong;
 import io.spine.server.storage.jdbc.given.table.TimestampByMessage;
 import io.spine.server.storage.jdbc.given.table.TimestampByString;
+import io.spine.server.storage.jdbc.record.compression.Compression;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +44,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
 import static io.spine.server.storage.jdbc.PredefinedMapping.H2_2_4;
+import static io.spine.server.storage.jdbc.query.BytesReadMode.BINARY_STREAM;
 import static io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory.idReader;
 import static io.spine.server.storage.jdbc.query.reader.ColumnReaderFactory.messageReader;
 import static io.spine.server.storage.jdbc.record.column.BytesColumn.bytesColumnName;
@@ -145,6 +148,30 @@ class ColumnReaderTest {
                 .isEqualTo(timestamp);
     }
 
+    @Test
+    @DisplayName("read serialized messages from binary streams, reusing the buffer")
+    void readSerializedMessageFromStream() throws SQLException {
+        var table = new TimestampByMessage(factory);
+        table.create();
+        var reader = messageReader(bytesColumnName(), Timestamp.getDescriptor(),
+                                   Compression.none(), BINARY_STREAM);
+
+        var first = timestamp();
+        var second = first.toBuilder()
+                          .setSeconds(42)
+                          .build();
+        for (var timestamp : ImmutableList.of(first, second)) {
+            table.write(timestamp);
+            var resultSet = table.resultSet(table.idOf(timestamp));
+            assertThat(resultSet.next())
+                    .isTrue();
+
+            var acquiredValue = reader.readValue(resultSet);
+            assertThat(acquiredValue)
+                    .isEqualTo(timestamp);
+        }
+    }
+
     private static Timestamp timestamp() {
         return Timestamp
                 .newBuilder()
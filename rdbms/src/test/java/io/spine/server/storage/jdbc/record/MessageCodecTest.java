@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.record;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import io.spine.protobuf.AnyPacker;
+import io.spine.server.storage.jdbc.DatabaseException;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("`MessageCodec` should")
+final class MessageCodecTest {
+
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    @DisplayName("serialize and parse the message")
+    void roundTrip() {
+        var expected = StringValue.of(newUuid());
+        var codec = MessageCodec.of(StringValue.getDescriptor());
+
+        var bytes = codec.encode(expected);
+
+        assertArrayEquals(expected.toByteArray(), bytes);
+        assertThat(codec.decode(bytes)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("be cached per descriptor")
+    void cache() {
+        var descriptor = StringValue.getDescriptor();
+
+        assertThat(MessageCodec.of(descriptor)).isSameInstanceAs(MessageCodec.of(descriptor));
+    }
+
+    @Test
+    @DisplayName("throw `DatabaseException` on malformed bytes")
+    void failOnMalformedBytes() {
+        var codec = MessageCodec.of(StringValue.getDescriptor());
+        var malformed = new byte[]{10, 100, 'a'};
+
+        assertThrows(DatabaseException.class, () -> codec.decode(malformed));
+    }
+
+    /**
+     * Compares the memory allocated while reading and writing a record
+     * with the {@code Any}-based approach used previously.
+     */
+    @Test
+    @DisplayName("allocate less memory than packing the messages into `Any`")
+    void allocateLess() {
+        var threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        var allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported()
+                           && allocations.isThreadAllocatedMemoryEnabled());
+
+        var message = StringValue.of("projection state ".repeat(200));
+        var descriptor = message.getDescriptorForType();
+        var codec = MessageCodec.of(descriptor);
+        var bytes = codec.encode(message);
+
+        var viaAny = allocatedBy(allocations, () -> {
+            var packed = AnyPacker.pack(message)
+                                  .getValue()
+                                  .toByteArray();
+            var any = Any.newBuilder()
+                    .setTypeUrl(TypeUrl.from(descriptor)
+                                       .value())
+                    .setValue(ByteString.copyFrom(packed))
+                    .build();
+            return AnyPacker.unpack(any);
+        });
+        var viaCodec = allocatedBy(allocations, () -> codec.decode(codec.encode(message)));
+
+        assertThat(codec.decode(bytes)).isEqualTo(message);
+        assertThat(viaCodec).isLessThan(viaAny);
+    }
+
+    private static long allocatedBy(com.sun.management.ThreadMXBean allocations,
+                                    Supplier<Message> roundTrip) {
+        for (var i = 0; i < ITERATIONS; i++) {
+            roundTrip.get();
+        }
+        var threadId = Thread.currentThread()
+                             .getId();
+        var before = allocations.getThreadAllocatedBytes(threadId);
+        for (var i = 0; i < ITERATIONS; i++) {
+            roundTrip.get();
+        }
+        return allocations.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Timestamp;
+import io.spine.query.RecordColumn;
+import io.spine.server.delivery.InboxLabel;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.InboxMessageStatus;
+import io.spine.server.storage.RecordSpec;
+import io.spine.server.storage.jdbc.DataSourceWrapper;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static java.util.Locale.ROOT;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`TableIndex` should")
+final class TableIndexTest {
+
+    private static final String TABLE_NAME = "INDEXED_MESSAGES";
+
+    @Test
+    @DisplayName("be named after the table and the columns")
+    void composeName() {
+        var index = TableIndex.on("label", "when_received");
+
+        assertThat(index.nameIn(TABLE_NAME))
+                .isEqualTo("idx_INDEXED_MESSAGES_label_when_received");
+    }
+
+    @Test
+    @DisplayName("shorten a long name, keeping it distinct")
+    void shortenName() {
+        var table = "a_table_with_a_name_long_enough_to_exceed_the_limit";
+        var first = TableIndex.on("label", "when_received").nameIn(table);
+        var second = TableIndex.on("label", "status").nameIn(table);
+
+        assertThat(first.length())
+                .isAtMost(63);
+        assertThat(first)
+                .isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("not allow repeated columns")
+    void rejectRepeatedColumns() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> TableIndex.on("label", "label"));
+    }
+
+    @Nested
+    @DisplayName("be created along with the table")
+    final class Creation {
+
+        private JdbcStorageFactory factory;
+
+        @BeforeEach
+        void createFactory() {
+            factory = JdbcStorageFactory.newBuilder()
+                    .setDataSource(whichIsStoredInMemory(newUuid()))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("including the declared and the default indexes")
+        void createIndexes() throws SQLException {
+            var declared = TableIndex.on("label", "when_received");
+            var table = RecordTable.by(tableSpec(declared), factory);
+
+            table.create();
+
+            assertThat(indexNames(factory.dataSource()))
+                    .containsAtLeast(nameOf(declared), nameOf(TableIndex.lifecycle()));
+        }
+
+        @Test
+        @DisplayName("only if they do not exist yet")
+        void createOnce() throws SQLException {
+            var table = RecordTable.by(tableSpec(TableIndex.on("status")), factory);
+
+            table.create();
+            table.create();
+
+            assertThat(indexNames(factory.dataSource()))
+                    .contains(nameOf(TableIndex.on("status")));
+        }
+
+        @Test
+        @DisplayName("rejecting the indexes of unknown columns")
+        void rejectUnknownColumns() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> tableSpec(TableIndex.on("no_such_column")));
+        }
+
+        private JdbcTableSpec<InboxMessageId, InboxMessage> tableSpec(TableIndex index) {
+            return JdbcTableSpec.<InboxMessageId, InboxMessage>newBuilder()
+                    .setTableName(TABLE_NAME)
+                    .setRecordSpec(recordSpec())
+                    .setColumnMapping(factory.columnMapping())
+                    .addIndex(index)
+                    .build();
+        }
+    }
+
+    /**
+     * Creates a specification of the records with a few columns,
+     * including the {@code archived} and {@code deleted} ones.
+     */
+    private static RecordSpec<InboxMessageId, InboxMessage> recordSpec() {
+        var columns = ImmutableSet.<RecordColumn<InboxMessage, ?>>of(
+                new RecordColumn<>("label", InboxLabel.class, InboxMessage::getLabel),
+                new RecordColumn<>("status", InboxMessageStatus.class, InboxMessage::getStatus),
+                new RecordColumn<>("when_received", Timestamp.class,
+                                   InboxMessage::getWhenReceived),
+                new RecordColumn<>("archived", Boolean.class, m -> false),
+                new RecordColumn<>("deleted", Boolean.class, m -> false)
+        );
+        return new RecordSpec<>(InboxMessageId.class, InboxMessage.class,
+                                InboxMessage::getId, columns);
+    }
+
+    private static String nameOf(TableIndex index) {
+        return index.nameIn(TABLE_NAME)
+                    .toLowerCase(ROOT);
+    }
+
+    private static ImmutableSet<String> indexNames(DataSourceWrapper dataSource)
+            throws SQLException {
+        try (var connection = dataSource.getConnection(true)) {
+            var metaData = connection.get()
+                                     .getMetaData();
+            var result = ImmutableSet.<String>builder();
+            try (var indexes = metaData.getIndexInfo(null, null, TABLE_NAME, false, false)) {
+                while (indexes.next()) {
+                    result.add(indexes.getString("INDEX_NAME")
+                                      .toLowerCase(ROOT));
+                }
+            }
+            return result.build();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.record.cache;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+
+@DisplayName("`RecordCache` should")
+final class RecordCacheTest {
+
+    private RecordTable<InboxMessageId, InboxMessage> table;
+
+    @BeforeEach
+    void createTable() {
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .setCache(InboxMessage.class, RecordCacheConfig.defaults())
+                .build();
+        table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+    }
+
+    @Test
+    @DisplayName("read the records from the cache once they are read from the database")
+    void readThrough() {
+        var message = randomHandleCommandMessage();
+        table.writeAll(ImmutableList.of(record(message)));
+
+        assertThat(read(message.getId())).containsExactly(message);
+        assertThat(read(message.getId())).containsExactly(message);
+
+        var stats = stats();
+        assertThat(stats.missCount()).isEqualTo(1L);
+        assertThat(stats.hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("keep the written records")
+    void updateOnWrite() {
+        var message = randomHandleCommandMessage();
+        table.write(record(message));
+        var updated = message.toBuilder()
+                             .setVersion(message.getVersion() + 1)
+                             .build();
+        table.write(record(updated));
+
+        assertThat(read(message.getId())).containsExactly(updated);
+        assertThat(stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("drop the deleted records")
+    void invalidateOnDelete() {
+        var message = randomHandleCommandMessage();
+        table.write(record(message));
+        table.delete(message.getId());
+
+        assertThat(read(message.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("drop the records written in bulk")
+    void invalidateOnBulkWrite() {
+        var message = randomHandleCommandMessage();
+        table.write(record(message));
+        var updated = message.toBuilder()
+                             .setVersion(message.getVersion() + 1)
+                             .build();
+        table.writeAll(ImmutableList.of(record(updated)));
+
+        assertThat(read(message.getId())).containsExactly(updated);
+        assertThat(stats().missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("return the records in the order of the requested IDs")
+    void keepRequestedOrder() {
+        var first = randomHandleCommandMessage();
+        var second = randomHandleCommandMessage();
+        var third = randomHandleCommandMessage();
+        table.writeAll(ImmutableList.of(record(first), record(second), record(third)));
+        read(second.getId());
+
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .id().in(ImmutableList.of(third.getId(),
+                                                         second.getId(),
+                                                         first.getId()))
+                               .build();
+
+        assertThat(ImmutableList.copyOf(table.read(query)))
+                .containsExactly(third, second, first)
+                .inOrder();
+    }
+
+    @Nested
+    @DisplayName("not keep a stale record")
+    class NotKeepStale {
+
+        private final RecordCache<InboxMessageId, InboxMessage> cache =
+                RecordCache.create(RecordCacheConfig.defaults());
+        private final InboxMessage message = randomHandleCommandMessage();
+        private final InboxMessageId id = message.getId();
+
+        @Test
+        @DisplayName("loaded before the record is invalidated")
+        void loadedBeforeInvalidation() {
+            var token = cache.beginLoad(id);
+            cache.invalidate(id);
+            cache.putLoaded(id, message, token);
+            cache.endLoad(id);
+
+            assertThat(cache.getAllPresent(ImmutableList.of(id))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("loaded before the record is written")
+        void loadedBeforeWrite() {
+            var token = cache.beginLoad(id);
+            cache.beginWrite(id);
+            cache.endWrite(id, null);
+            cache.putLoaded(id, message, token);
+            cache.endLoad(id);
+
+            assertThat(cache.getAllPresent(ImmutableList.of(id))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("loaded while the record is written")
+        void loadedDuringWrite() {
+            var updated = withNextVersion(message);
+            cache.beginWrite(id);
+            var token = cache.beginLoad(id);
+            cache.endWrite(id, updated);
+            cache.putLoaded(id, message, token);
+            cache.endLoad(id);
+
+            assertThat(cache.getAllPresent(ImmutableList.of(id)))
+                    .containsExactly(id, updated);
+        }
+
+        @Test
+        @DisplayName("written concurrently with another write")
+        void writtenConcurrently() {
+            var updated = withNextVersion(message);
+            cache.beginWrite(id);
+            cache.beginWrite(id);
+            cache.endWrite(id, updated);
+            cache.endWrite(id, message);
+
+            assertThat(cache.getAllPresent(ImmutableList.of(id))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("written concurrently with an invalidation")
+        void writtenDuringInvalidation() {
+            cache.beginWrite(id);
+            cache.invalidate(id);
+            cache.endWrite(id, message);
+
+            assertThat(cache.getAllPresent(ImmutableList.of(id))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("but keep the record written with no concurrent changes")
+        void writtenAlone() {
+            cache.beginWrite(id);
+            cache.endWrite(id, message);
+
+            assertThat(cache.getAllPresent(ImmutableList.of(id)))
+                    .containsExactly(id, message);
+        }
+    }
+
+    private static InboxMessage withNextVersion(InboxMessage message) {
+        return message.toBuilder()
+                      .setVersion(message.getVersion() + 1)
+                      .build();
+    }
+
+    private ImmutableList<InboxMessage> read(InboxMessageId id) {
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .id().in(ImmutableList.of(id))
+                               .build();
+        return ImmutableList.copyOf(table.read(query));
+    }
+
+    private RecordCacheStats stats() {
+        return table.cacheStats()
+                    .orElseThrow();
+    }
+
+    private static RecordWithColumns<InboxMessageId, InboxMessage> record(InboxMessage message) {
+        return RecordWithColumns.create(message, inboxMessageSpec());
+    }
+}
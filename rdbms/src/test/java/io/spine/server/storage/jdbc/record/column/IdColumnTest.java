@@ -26,7 +26,13 @@
 
 package io.spine.server.storage.jdbc.record.column;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
+import io.spine.query.RecordColumn;
+import io.spine.server.storage.RecordSpec;
 import io.spine.server.storage.jdbc.record.column.given.IdColumnTestEnv.IntIdEntity;
 import io.spine.server.storage.jdbc.record.column.given.IdColumnTestEnv.LongIdEntity;
 import io.spine.server.storage.jdbc.record.column.given.IdColumnTestEnv.MessageIdEntity;
@@ -34,13 +40,22 @@ import io.spine.server.storage.jdbc.record.column.given.IdColumnTestEnv.StringId
 import io.spine.server.storage.jdbc.type.JdbcColumnMapping;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
+import static io.spine.base.Identifier.newUuid;
 import static io.spine.server.entity.storage.SpecScanner.scan;
+import static io.spine.server.storage.jdbc.Type.BYTE_ARRAY_255;
 import static io.spine.server.storage.jdbc.Type.INT;
 import static io.spine.server.storage.jdbc.Type.LONG;
 import static io.spine.server.storage.jdbc.Type.STRING_512;
+import static io.spine.server.storage.jdbc.record.column.IdEncoding.BINARY;
+import static io.spine.server.storage.jdbc.record.column.IdEncoding.UUID;
+import static java.util.Locale.ROOT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("`IdColumn` should")
@@ -79,4 +94,69 @@ class IdColumnTest {
         assertEquals(STRING_512, column.sqlType());
         assertTrue(Message.class.isAssignableFrom(column.javaType()));
     }
+
+    @Test
+    @DisplayName("store message IDs as bytes in the binary encoding")
+    void storeMessageIdsAsBytes() {
+        IdColumn<Timestamp> column = IdColumn.of(scan(MessageIdEntity.class), mapping, BINARY);
+        var id = Time.currentTime();
+
+        var normalized = column.normalize(id);
+
+        assertEquals(BYTE_ARRAY_255, column.sqlType());
+        assertSame(byte[].class, column.normalizedType());
+        assertArrayEquals(id.toByteArray(), (byte[]) normalized);
+        assertEquals(id, column.denormalize(normalized));
+    }
+
+    @Test
+    @DisplayName("cache the normalized message IDs")
+    void cacheNormalizedIds() {
+        IdColumn<Timestamp> column = IdColumn.of(scan(MessageIdEntity.class), mapping);
+        var id = Time.currentTime();
+
+        assertSame(column.normalize(id), column.normalize(id));
+    }
+
+    @Test
+    @DisplayName("not allow encodings other than JSON for non-message IDs")
+    void rejectEncodingOfNonMessageIds() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> IdColumn.of(scan(StringIdEntity.class), mapping, BINARY));
+    }
+
+    @Test
+    @DisplayName("not allow the UUID encoding for the IDs with several fields")
+    void rejectUuidEncodingOfCompositeIds() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> IdColumn.of(scan(MessageIdEntity.class), mapping, UUID));
+    }
+
+    @ParameterizedTest(name = "in the `{0}` encoding")
+    @EnumSource(IdEncoding.class)
+    @DisplayName("restore the normalized message IDs")
+    void restoreMessageIds(IdEncoding encoding) {
+        IdColumn<StringValue> column = IdColumn.of(uuidValueSpec(), mapping, encoding);
+        var id = StringValue.of(newUuid());
+
+        var normalized = column.normalize(id);
+
+        assertEquals(encoding, column.encoding());
+        assertTrue(column.normalizedType().isInstance(normalized));
+        assertEquals(id, column.denormalize(normalized));
+    }
+
+    @Test
+    @DisplayName("not allow the UUIDs in a non-canonical form in the UUID encoding")
+    void rejectNonCanonicalUuids() {
+        IdColumn<StringValue> column = IdColumn.of(uuidValueSpec(), mapping, UUID);
+        var id = StringValue.of(newUuid().toUpperCase(ROOT));
+
+        assertThrows(IllegalArgumentException.class, () -> column.normalize(id));
+    }
+
+    private static RecordSpec<StringValue, StringValue> uuidValueSpec() {
+        return new RecordSpec<>(StringValue.class, StringValue.class, value -> value,
+                                ImmutableSet.<RecordColumn<StringValue, ?>>of());
+    }
 }
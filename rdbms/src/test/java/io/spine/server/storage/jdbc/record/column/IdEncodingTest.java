@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.column;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.StringValue;
+import io.spine.query.RecordColumn;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordSpec;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.record.column.IdEncoding.BINARY;
+import static io.spine.server.storage.jdbc.record.column.IdEncoding.UUID;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("A table with the message IDs should")
+final class IdEncodingTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Nested
+    @DisplayName("in the binary encoding")
+    final class Binary {
+
+        private RecordTable<InboxMessageId, InboxMessage> table;
+        private ImmutableList<InboxMessage> messages;
+
+        @BeforeEach
+        void createTable() {
+            var factory = JdbcStorageFactory.newBuilder()
+                    .setDataSource(whichIsStoredInMemory(newUuid()))
+                    .setIdEncoding(InboxMessage.class, BINARY)
+                    .setPageSize(PAGE_SIZE)
+                    .build();
+            table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+            table.create();
+            messages = Stream.generate(OperationFactoryTestEnv::randomHandleCommandMessage)
+                             .limit(2 * PAGE_SIZE + 1)
+                             .collect(toImmutableList());
+            table.writeAll(withColumns(messages));
+        }
+
+        @Test
+        @DisplayName("store the IDs in a binary column")
+        void createBinaryColumn() {
+            assertThat(table.creationSql())
+                    .contains("VARBINARY(255)");
+        }
+
+        @Test
+        @DisplayName("read the records by their IDs")
+        void readByIds() {
+            var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                                   .id().in(ids(messages))
+                                   .build();
+
+            assertThat(ImmutableList.copyOf(table.read(query)))
+                    .containsExactlyElementsIn(messages);
+        }
+
+        @Test
+        @DisplayName("read the IDs page by page")
+        void readIndex() {
+            assertThat(ImmutableList.copyOf(table.index()))
+                    .containsExactlyElementsIn(ids(messages));
+        }
+
+        @Test
+        @DisplayName("overwrite the stored records")
+        void overwrite() {
+            var updated = messages.stream()
+                                  .map(m -> m.toBuilder()
+                                             .setVersion(m.getVersion() + 1)
+                                             .build())
+                                  .collect(toImmutableList());
+            table.writeAll(withColumns(updated));
+            var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                                   .build();
+
+            assertThat(ImmutableList.copyOf(table.read(query)))
+                    .containsExactlyElementsIn(updated);
+        }
+
+        private ImmutableList<RecordWithColumns<InboxMessageId, InboxMessage>>
+        withColumns(ImmutableList<InboxMessage> records) {
+            return records.stream()
+                          .map(m -> RecordWithColumns.create(m, inboxMessageSpec()))
+                          .collect(toImmutableList());
+        }
+
+        private ImmutableList<InboxMessageId> ids(ImmutableList<InboxMessage> records) {
+            return records.stream()
+                          .map(InboxMessage::getId)
+                          .collect(toImmutableList());
+        }
+    }
+
+    @Nested
+    @DisplayName("in the UUID encoding")
+    final class Uuid {
+
+        private final RecordSpec<StringValue, StringValue> spec =
+                new RecordSpec<>(StringValue.class, StringValue.class, value -> value,
+                                 ImmutableSet.<RecordColumn<StringValue, ?>>of());
+
+        private RecordTable<StringValue, StringValue> table;
+
+        @BeforeEach
+        void createTable() {
+            var factory = JdbcStorageFactory.newBuilder()
+                    .setDataSource(whichIsStoredInMemory(newUuid()))
+                    .setIdEncoding(StringValue.class, UUID)
+                    .build();
+            table = RecordTable.by(factory.tableSpecFor(spec), factory);
+            table.create();
+        }
+
+        @Test
+        @DisplayName("store and read the UUIDs")
+        void storeUuids() {
+            var records = Stream.generate(() -> StringValue.of(newUuid()))
+                                .limit(3)
+                                .collect(toImmutableList());
+            records.forEach(r -> table.write(RecordWithColumns.create(r, spec)));
+
+            assertThat(table.creationSql())
+                    .contains("UUID");
+            assertThat(ImmutableList.copyOf(table.index()))
+                    .containsExactlyElementsIn(records);
+        }
+
+        @Test
+        @DisplayName("not allow to store the IDs, which are not UUIDs")
+        void rejectNonUuids() {
+            var record = RecordWithColumns.create(StringValue.of("not-a-uuid"), spec);
+
+            assertThrows(IllegalArgumentException.class, () -> table.write(record));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.jdbc.record.compression;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxSignalId;
+import io.spine.server.storage.RecordWithColumns;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.given.JdbcStorageFactoryTestEnv.inboxMessageSpec;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.imStorageFactoryBuilder;
+import static io.spine.server.storage.jdbc.operation.given.OperationFactoryTestEnv.randomHandleCommandMessage;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`Compression` should")
+final class CompressionTest {
+
+    private static final byte[] LARGE_VALUE = "compressible ".repeat(100)
+                                                             .getBytes(UTF_8);
+
+    @Test
+    @DisplayName("compress the value and restore it")
+    void roundTrip() {
+        var compression = Compression.with(new DeflateCompressor());
+
+        var stored = compression.encode(LARGE_VALUE);
+
+        assertThat(stored.length).isLessThan(LARGE_VALUE.length);
+        assertThat(stored[0]).isEqualTo(Compression.MARKER);
+        assertThat(stored[1]).isEqualTo(DeflateCompressor.ID);
+        assertArrayEquals(LARGE_VALUE, compression.decode(stored));
+    }
+
+    @Test
+    @DisplayName("store the value as is, if the compression does not make it shorter")
+    void skipIneffectiveCompression() {
+        var compression = Compression.with(new DeflateCompressor());
+        var value = new byte[]{10, 3, 'a', 'b', 'c'};
+
+        assertThat(compression.encode(value)).isSameInstanceAs(value);
+    }
+
+    @Test
+    @DisplayName("read the values stored before the compression was enabled")
+    void readUncompressed() {
+        var compression = Compression.with(new DeflateCompressor());
+
+        assertThat(compression.decode(LARGE_VALUE)).isSameInstanceAs(LARGE_VALUE);
+    }
+
+    @Test
+    @DisplayName("read the values stored before the compression was disabled")
+    void readCompressedWhenDisabled() {
+        var stored = Compression.with(new DeflateCompressor())
+                                .encode(LARGE_VALUE);
+
+        assertThat(Compression.none().isEnabled()).isFalse();
+        assertThat(Compression.none().encode(LARGE_VALUE)).isSameInstanceAs(LARGE_VALUE);
+        assertArrayEquals(LARGE_VALUE, Compression.none().decode(stored));
+    }
+
+    @Test
+    @DisplayName("fail to read the values compressed by an unknown algorithm")
+    void failOnUnknownAlgorithm() {
+        var custom = new CountingCompressor((byte) 42);
+        var stored = Compression.with(custom)
+                                .encode(LARGE_VALUE);
+
+        assertThrows(IllegalStateException.class, () -> Compression.none().decode(stored));
+    }
+
+    @Test
+    @DisplayName("reject a custom algorithm with an identifier reserved for the library")
+    void rejectReservedId() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> Compression.with(new CountingCompressor(DeflateCompressor.ID)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Compression.with(new CountingCompressor((byte) 0)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Compression.with(
+                             new CountingCompressor((byte) Compression.MAX_RESERVED_ID)));
+    }
+
+    @Test
+    @DisplayName("accept a custom algorithm with a non-reserved identifier")
+    void acceptCustomId() {
+        var first = (byte) (Compression.MAX_RESERVED_ID + 1);
+
+        assertThat(Compression.with(new CountingCompressor(first)).isEnabled()).isTrue();
+        assertThat(Compression.with(new CountingCompressor((byte) -1)).isEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("be applied to the records of the configured type transparently")
+    void applyToStoredRecords() {
+        var compressor = new CountingCompressor((byte) 42);
+        var factory = imStorageFactoryBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .setCompressor(InboxMessage.class, compressor)
+                .build();
+        var table = RecordTable.by(factory.tableSpecFor(inboxMessageSpec()), factory);
+        table.create();
+        var message = randomHandleCommandMessage()
+                .toBuilder()
+                .setSignalId(InboxSignalId.newBuilder()
+                                          .setValue("signal-".repeat(100)))
+                .build();
+
+        table.write(RecordWithColumns.create(message, inboxMessageSpec()));
+        var stored = ImmutableList.copyOf(
+                factory.operations()
+                       .readManyByIds(table)
+                       .execute(ImmutableList.of(message.getId())));
+
+        assertThat(stored).containsExactly(message);
+        assertThat(compressor.compressed.get()).isEqualTo(1);
+        assertThat(compressor.decompressed.get()).isEqualTo(1);
+    }
+
+    /**
+     * A {@code Deflate} compressor with a custom ID, which counts its invocations.
+     */
+    private static final class CountingCompressor implements Compressor {
+
+        private final DeflateCompressor delegate = new DeflateCompressor();
+        private final AtomicInteger compressed = new AtomicInteger();
+        private final AtomicInteger decompressed = new AtomicInteger();
+        private final byte id;
+
+        private CountingCompressor(byte id) {
+            this.id = id;
+        }
+
+        @Override
+        public byte id() {
+            return id;
+        }
+
+        @Override
+        public byte[] compress(byte[] bytes) {
+            compressed.incrementAndGet();
+            return delegate.compress(bytes);
+        }
+
+        @Override
+        public byte[] decompress(byte[] compressed) {
+            decompressed.incrementAndGet();
+            return delegate.decompress(compressed);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.stats;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.spine.query.RecordColumn;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.storage.RecordSpec;
+import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import io.spine.server.storage.jdbc.record.JdbcTableSpec;
+import io.spine.server.storage.jdbc.record.RecordTable;
+import io.spine.server.storage.jdbc.record.TableIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.delivery.InboxLabel.HANDLE_COMMAND;
+import static io.spine.server.delivery.InboxMessageStatus.DELIVERED;
+import static io.spine.server.storage.jdbc.GivenDataSource.whichIsStoredInMemory;
+import static io.spine.server.storage.jdbc.record.stats.QueryShapeTest.LABEL;
+import static io.spine.server.storage.jdbc.record.stats.QueryShapeTest.STATUS;
+import static io.spine.server.storage.jdbc.record.stats.QueryShapeTest.WHEN_RECEIVED;
+import static io.spine.server.storage.jdbc.record.stats.QueryShapeTest.byLabelAndStatus;
+
+@DisplayName("`IndexAdvisor` should")
+final class IndexAdvisorTest {
+
+    private static final int QUERIES = 3;
+
+    private RecordTable<InboxMessageId, InboxMessage> table;
+
+    @BeforeEach
+    void createTable() {
+        var factory = JdbcStorageFactory.newBuilder()
+                .setDataSource(whichIsStoredInMemory(newUuid()))
+                .enableQueryStatistics()
+                .build();
+        var tableSpec = JdbcTableSpec.<InboxMessageId, InboxMessage>newBuilder()
+                .setTableName("advised_messages")
+                .setRecordSpec(recordSpec())
+                .setColumnMapping(factory.columnMapping())
+                .build();
+        table = RecordTable.by(tableSpec, factory);
+        table.create();
+        for (var i = 0; i < QUERIES; i++) {
+            ImmutableList.copyOf(table.read(byLabelAndStatus(HANDLE_COMMAND, DELIVERED)));
+        }
+    }
+
+    @Test
+    @DisplayName("count the queries per shape")
+    void countQueries() {
+        var shapes = table.queryStatistics()
+                          .orElseThrow()
+                          .shapes();
+
+        assertThat(shapes)
+                .hasSize(1);
+        assertThat(shapes.get(0).count())
+                .isEqualTo((long) QUERIES);
+    }
+
+    @Test
+    @DisplayName("suggest an index for the frequent and slow queries")
+    void suggestIndex() {
+        var advisor = IndexAdvisor.newBuilder()
+                .setMinCount(QUERIES)
+                .setMinLatency(Duration.ZERO)
+                .explain()
+                .build();
+
+        var advice = advisor.advise(table);
+
+        assertThat(advice)
+                .hasSize(1);
+        assertThat(advice.get(0).index())
+                .isEqualTo(TableIndex.on("label", "status"));
+        assertThat(advice.get(0).plan())
+                .isNotEmpty();
+        assertThat(advice.get(0).created())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("suggest nothing for the infrequent queries")
+    void skipInfrequent() {
+        var advisor = IndexAdvisor.newBuilder()
+                .setMinCount(QUERIES + 1)
+                .setMinLatency(Duration.ZERO)
+                .build();
+
+        assertThat(advisor.advise(table))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("create the suggested index, if asked to")
+    void createIndex() {
+        var advisor = IndexAdvisor.newBuilder()
+                .setMinCount(QUERIES)
+                .setMinLatency(Duration.ZERO)
+                .createIndexes()
+                .build();
+
+        var advice = advisor.advise(table);
+
+        assertThat(advice.get(0).created())
+                .isTrue();
+    }
+
+    private static RecordSpec<InboxMessageId, InboxMessage> recordSpec() {
+        var columns = ImmutableSet.<RecordColumn<InboxMessage, ?>>of(LABEL, STATUS, WHEN_RECEIVED);
+        return new RecordSpec<>(InboxMessageId.class, InboxMessage.class,
+                                InboxMessage::getId, columns);
+    }
+}
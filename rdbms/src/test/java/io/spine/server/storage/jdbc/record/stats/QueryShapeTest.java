@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.jdbc.record.stats;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
+import io.spine.query.RecordColumn;
+import io.spine.query.RecordQuery;
+import io.spine.server.delivery.InboxLabel;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageId;
+import io.spine.server.delivery.InboxMessageStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.delivery.InboxLabel.CATCH_UP;
+import static io.spine.server.delivery.InboxLabel.HANDLE_COMMAND;
+import static io.spine.server.delivery.InboxMessageStatus.DELIVERED;
+import static io.spine.server.delivery.InboxMessageStatus.TO_DELIVER;
+
+@DisplayName("`QueryShape` should")
+final class QueryShapeTest {
+
+    static final RecordColumn<InboxMessage, InboxLabel> LABEL =
+            new RecordColumn<>("label", InboxLabel.class, InboxMessage::getLabel);
+    static final RecordColumn<InboxMessage, InboxMessageStatus> STATUS =
+            new RecordColumn<>("status", InboxMessageStatus.class, InboxMessage::getStatus);
+    static final RecordColumn<InboxMessage, Timestamp> WHEN_RECEIVED =
+            new RecordColumn<>("when_received", Timestamp.class, InboxMessage::getWhenReceived);
+
+    @Test
+    @DisplayName("be the same for the queries, which differ in the values only")
+    void ignoreValues() {
+        var first = QueryShape.of(byLabelAndStatus(HANDLE_COMMAND, DELIVERED));
+        var second = QueryShape.of(byLabelAndStatus(CATCH_UP, TO_DELIVER));
+
+        assertThat(first)
+                .isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("describe the filters regardless of their order")
+    void sortTerms() {
+        var shape = QueryShape.of(byLabelAndStatus(HANDLE_COMMAND, DELIVERED));
+        var reordered = QueryShape.of(
+                RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                           .where(STATUS).is(DELIVERED)
+                           .where(LABEL).is(HANDLE_COMMAND)
+                           .build());
+
+        assertThat(shape.filter())
+                .isEqualTo("AND(label EQUALS, status EQUALS)");
+        assertThat(reordered)
+                .isEqualTo(shape);
+    }
+
+    @Test
+    @DisplayName("suggest the equality columns, followed by the range column")
+    void suggestColumns() {
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .where(WHEN_RECEIVED).isGreaterThan(Time.currentTime())
+                               .where(LABEL).is(HANDLE_COMMAND)
+                               .build();
+
+        assertThat(QueryShape.of(query).indexColumns())
+                .containsExactly("label", "when_received")
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("suggest no columns for the query without filters")
+    void suggestNothing() {
+        var query = RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                               .build();
+
+        assertThat(QueryShape.of(query).indexColumns())
+                .isEqualTo(ImmutableList.of());
+    }
+
+    static RecordQuery<InboxMessageId, InboxMessage>
+    byLabelAndStatus(InboxLabel label, InboxMessageStatus status) {
+        return RecordQuery.newBuilder(InboxMessageId.class, InboxMessage.class)
+                          .where(LABEL).is(label)
+                          .where(STATUS).is(status)
+                          .build();
+    }
+}
@@ -28,9 +28,13 @@ package io.spine.server.storage.jdbc.type;
 
 import com.google.common.testing.NullPointerTester;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos.Edition;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Message;
 import com.google.protobuf.Timestamp;
 import io.spine.core.Versions;
+import io.spine.server.storage.ColumnTypeMapping;
 import io.spine.test.storage.StgProject;
 import io.spine.test.storage.StgProject.Status;
 import io.spine.test.storage.StgProjectId;
@@ -185,6 +189,47 @@ class DefaultJdbcColumnMappingTest {
         assertConverts(version, version.getNumber());
     }
 
+    @Nested
+    @DisplayName("restore")
+    class Restore {
+
+        private final FieldDescriptor editionField =
+                FileDescriptorProto.getDescriptor()
+                                   .findFieldByName("edition");
+
+        @Test
+        @DisplayName("Protobuf enum with non-contiguous numbers by its ordinal")
+        void nonContiguousEnum() {
+            var edition = Edition.EDITION_2023;
+            assertConverts(edition, edition.ordinal());
+
+            var stored = mapping.of(Edition.class)
+                                .applyTo(edition);
+            assertThat(mapping.isRestorable(Edition.class, editionField))
+                    .isTrue();
+            assertThat(mapping.restore(stored, editionField))
+                    .isEqualTo(edition.getValueDescriptor());
+        }
+
+        @Test
+        @DisplayName("no values stored by an overridden default rule")
+        void notOverriddenRule() {
+            var field = FileDescriptorProto.getDescriptor()
+                                           .findFieldByName("name");
+            var overriding = new JdbcColumnMapping() {
+                @Override
+                protected ColumnTypeMapping<String, String> ofString() {
+                    return new JdbcColumnTypeMapping<>(String::toLowerCase, STRING);
+                }
+            };
+
+            assertThat(mapping.isRestorable(String.class, field))
+                    .isTrue();
+            assertThat(overriding.isRestorable(String.class, field))
+                    .isFalse();
+        }
+    }
+
     private void assertConverts(Object object, Object expected) {
         var result = mapping.of(object.getClass())
                             .applyTo(object);